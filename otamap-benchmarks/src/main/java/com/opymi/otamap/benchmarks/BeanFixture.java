@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Beans generated and compiled at runtime with a configurable number of properties and nesting levels,
+ * together with a hand-written copy of origin to target as baseline.
+ *
+ * Level {@code n} has {@code width} properties of types int, String, long and double and, below the last level,
+ * a {@code child} property of level {@code n + 1}. Origin beans are {@code OriginBean<n>}, target beans
+ * {@code TargetBean<n>}. Compilation requires a JDK
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class BeanFixture {
+    private static final String PACKAGE = "com.opymi.otamap.benchmarks.generated";
+    private static final String[] PROPERTY_TYPES = {"int", "String", "long", "double"};
+
+    private final Class<?> originType;
+    private final Class<?> targetType;
+    private final Supplier<Object> originFactory;
+    private final UnaryOperator<Object> baseline;
+
+    private BeanFixture(Class<?> originType, Class<?> targetType, Supplier<Object> originFactory, UnaryOperator<Object> baseline) {
+        this.originType = originType;
+        this.targetType = targetType;
+        this.originFactory = originFactory;
+        this.baseline = baseline;
+    }
+
+    /**
+     * Generate and compile the beans
+     *
+     * @param width number of properties of each level
+     * @param depth number of nested levels below the root, 0 for a flat bean
+     * @return compiled fixture
+     */
+    @SuppressWarnings("unchecked")
+    public static BeanFixture generate(int width, int depth) {
+        if (width <= 0 || depth < 0) {
+            throw new IllegalArgumentException("WIDTH MUST BE POSITIVE AND DEPTH CANNOT BE NEGATIVE");
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("BEAN FIXTURES REQUIRE A JDK");
+        }
+
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("otamap-fixture");
+            Path packageDirectory = Files.createDirectories(directory.resolve(PACKAGE.replace('.', '/')));
+            List<String> arguments = new ArrayList<>(List.of("-d", directory.toString()));
+            List<String> classNames = new ArrayList<>();
+            for (int level = 0; level <= depth; level++) {
+                classNames.add(writeSource(packageDirectory, "OriginBean" + level, writeBean("OriginBean", level, width, depth), arguments));
+                classNames.add(writeSource(packageDirectory, "TargetBean" + level, writeBean("TargetBean", level, width, depth), arguments));
+            }
+            classNames.add(writeSource(packageDirectory, "BaselineCopy", writeBaseline(width, depth), arguments));
+            classNames.add(writeSource(packageDirectory, "OriginFactory", writeOriginFactory(width, depth), arguments));
+
+            if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+                throw new IllegalStateException("CANNOT COMPILE BEAN FIXTURE");
+            }
+
+            // classes are loaded eagerly, so the directory can be deleted
+            ClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, BeanFixture.class.getClassLoader());
+            for (String className : classNames) {
+                classLoader.loadClass(className);
+            }
+            Class<?> originType = classLoader.loadClass(PACKAGE + ".OriginBean0");
+            Class<?> targetType = classLoader.loadClass(PACKAGE + ".TargetBean0");
+            Supplier<Object> originFactory = (Supplier<Object>) classLoader.loadClass(PACKAGE + ".OriginFactory").getConstructor().newInstance();
+            UnaryOperator<Object> baseline = (UnaryOperator<Object>) classLoader.loadClass(PACKAGE + ".BaselineCopy").getConstructor().newInstance();
+            return new BeanFixture(originType, targetType, originFactory, baseline);
+        } catch (IOException cause) {
+            throw new UncheckedIOException(cause);
+        } catch (ReflectiveOperationException cause) {
+            throw new IllegalStateException("CANNOT LOAD BEAN FIXTURE", cause);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static String writeSource(Path packageDirectory, String simpleName, String source, List<String> arguments) throws IOException {
+        Path file = packageDirectory.resolve(simpleName + ".java");
+        Files.writeString(file, source);
+        arguments.add(file.toString());
+        return PACKAGE + "." + simpleName;
+    }
+
+    private static String writeBean(String prefix, int level, int width, int depth) {
+        StringBuilder source = new StringBuilder("package ").append(PACKAGE).append(";\n\n")
+                .append("public class ").append(prefix).append(level).append(" {\n");
+        for (int index = 0; index < width; index++) {
+            writeProperty(source, propertyType(index), "prop" + index);
+        }
+        if (level < depth) {
+            writeProperty(source, prefix + (level + 1), "child");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static void writeProperty(StringBuilder source, String type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        source.append("    private ").append(type).append(' ').append(name).append(";\n")
+                .append("    public ").append(type).append(" get").append(capitalized).append("() { return ").append(name).append("; }\n")
+                .append("    public void set").append(capitalized).append('(').append(type).append(" value) { this.").append(name).append(" = value; }\n");
+    }
+
+    private static String writeBaseline(int width, int depth) {
+        StringBuilder source = new StringBuilder("package ").append(PACKAGE).append(";\n\n")
+                .append("public class BaselineCopy implements java.util.function.UnaryOperator<Object> {\n")
+                .append("    public Object apply(Object origin) { return copy0((OriginBean0) origin); }\n");
+        for (int level = 0; level <= depth; level++) {
+            source.append("    private static TargetBean").append(level).append(" copy").append(level).append("(OriginBean").append(level).append(" origin) {\n")
+                    .append("        if (origin == null) { return null; }\n")
+                    .append("        TargetBean").append(level).append(" target = new TargetBean").append(level).append("();\n");
+            for (int index = 0; index < width; index++) {
+                source.append("        target.setProp").append(index).append("(origin.getProp").append(index).append("());\n");
+            }
+            if (level < depth) {
+                source.append("        target.setChild(copy").append(level + 1).append("(origin.getChild()));\n");
+            }
+            source.append("        return target;\n    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String writeOriginFactory(int width, int depth) {
+        StringBuilder source = new StringBuilder("package ").append(PACKAGE).append(";\n\n")
+                .append("public class OriginFactory implements java.util.function.Supplier<Object> {\n")
+                .append("    public Object get() { return create0(); }\n");
+        for (int level = 0; level <= depth; level++) {
+            source.append("    private static OriginBean").append(level).append(" create").append(level).append("() {\n")
+                    .append("        OriginBean").append(level).append(" origin = new OriginBean").append(level).append("();\n");
+            for (int index = 0; index < width; index++) {
+                source.append("        origin.setProp").append(index).append('(').append(propertyValue(index)).append(");\n");
+            }
+            if (level < depth) {
+                source.append("        origin.setChild(create").append(level + 1).append("());\n");
+            }
+            source.append("        return origin;\n    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String propertyType(int index) {
+        return PROPERTY_TYPES[index % PROPERTY_TYPES.length];
+    }
+
+    private static String propertyValue(int index) {
+        switch (propertyType(index)) {
+            case "int":
+                return String.valueOf(index);
+            case "String":
+                return "\"value" + index + "\"";
+            case "long":
+                return index + "L";
+            default:
+                return index + ".5D";
+        }
+    }
+
+    private static void delete(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException ignored) {
+            // temporary files are left to the operating system
+        }
+    }
+
+    /**
+     * @return type of the root origin bean
+     */
+    public Class<?> getOriginType() {
+        return originType;
+    }
+
+    /**
+     * @return type of the root target bean
+     */
+    public Class<?> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return new origin bean with all the properties and nested levels populated
+     */
+    public Object createOrigin() {
+        return originFactory.get();
+    }
+
+    /**
+     * @return hand-written copy of an origin bean to a new target bean
+     */
+    public UnaryOperator<Object> getBaseline() {
+        return baseline;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import com.opymi.otamap.benchmarks.beans.ComplexBean;
+import com.opymi.otamap.benchmarks.beans.SimpleBean;
+import com.opymi.otamap.benchmarks.beans.SpecularComplexBean;
+import com.opymi.otamap.benchmarks.beans.SpecularSimpleBean;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.ServiceProvider;
+import com.opymi.otamap.entry.services.OTAMapProvider;
+import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.services.repository.OTRepositoryImp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the first mapping of a new {@code OTAMap}: each invocation gets the map from the provider
+ * and maps once, so it pays verification and compilation of the mapping plan.
+ * Every fork measures its first invocation on a cold JVM, the following ones on a warm JVM
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 50)
+@Fork(5)
+public class ColdMappingBenchmark {
+    private OTAMapProvider otaMapProvider;
+    private OTMapperBuilderProvider mapperBuilderProvider;
+
+    private SimpleBean simpleBean;
+    private ComplexBean complexBean;
+
+    @Setup
+    public void setUp() {
+        otaMapProvider = ServiceProvider.getService(OTAMapProvider.class);
+        mapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
+        simpleBean = MappingBenchmark.createSimpleBean(1);
+        complexBean = MappingBenchmark.createComplexBean();
+    }
+
+    /**
+     * First shallow mapping of a bean with properties of the same names
+     */
+    @Benchmark
+    public SpecularSimpleBean firstShallowMapping() {
+        return otaMapProvider.getOTAMap(SimpleBean.class, SpecularSimpleBean.class).map(simpleBean);
+    }
+
+    /**
+     * First deep mapping of a bean by a mapper of a new repository
+     */
+    @Benchmark
+    public SpecularComplexBean firstDeepMapping() {
+        OTRepository repository = new OTRepositoryImp();
+        repository.store(mapperBuilderProvider.getBuilder(ComplexBean.class, SpecularComplexBean.class)
+                .customize(ComplexBean.Properties.A_CHAR, SpecularComplexBean.Properties.A_DIFFERENT_CHAR)
+                .getMapper());
+        return otaMapProvider.getOTAMap(repository, ComplexBean.class, SpecularComplexBean.class).map(complexBean, true);
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import com.opymi.otamap.benchmarks.beans.CollectionBean;
+import com.opymi.otamap.benchmarks.beans.ComplexBean;
+import com.opymi.otamap.benchmarks.beans.SimpleBean;
+import com.opymi.otamap.benchmarks.beans.SpecularCollectionBean;
+import com.opymi.otamap.benchmarks.beans.SpecularComplexBean;
+import com.opymi.otamap.benchmarks.beans.SpecularSimpleBean;
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.ServiceProvider;
+import com.opymi.otamap.entry.services.OTAMapProvider;
+import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.services.repository.OTRepositoryImp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Each scenario is mapped by OTAMap ({@code <scenario>OTAMap}) and by a hand-written copy ({@code <scenario>Baseline})
+ * producing the same target, {@link BenchmarkRunner} reports the overhead ratio of each pair
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ComparativeBenchmark {
+    private static final int WIDE_BEAN_PROPERTIES = 128;
+    private static final int COLLECTION_SIZE = 10;
+
+    private OTAMap<SimpleBean, SpecularSimpleBean> flatMap;
+    private OTAMap<ComplexBean, SpecularComplexBean> nestedMap;
+    private OTAMap<CollectionBean, SpecularCollectionBean> collectionMap;
+    private OTAMap<Object, Object> wideMap;
+    private UnaryOperator<Object> wideBaseline;
+
+    private SimpleBean simpleBean;
+    private ComplexBean complexBean;
+    private CollectionBean collectionBean;
+    private Object wideBean;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        OTAMapProvider otaMapProvider = ServiceProvider.getService(OTAMapProvider.class);
+        OTMapperBuilderProvider mapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
+
+        OTRepository repository = new OTRepositoryImp();
+        repository.store(mapperBuilderProvider.getBuilder(ComplexBean.class, SpecularComplexBean.class)
+                .customize(ComplexBean.Properties.A_CHAR, SpecularComplexBean.Properties.A_DIFFERENT_CHAR)
+                .getMapper());
+
+        flatMap = otaMapProvider.getOTAMap(SimpleBean.class, SpecularSimpleBean.class);
+        nestedMap = otaMapProvider.getOTAMap(repository, ComplexBean.class, SpecularComplexBean.class);
+        collectionMap = otaMapProvider.getOTAMap(CollectionBean.class, SpecularCollectionBean.class);
+
+        BeanFixture wideFixture = BeanFixture.generate(WIDE_BEAN_PROPERTIES, 0);
+        wideMap = otaMapProvider.getOTAMap((Class<Object>) wideFixture.getOriginType(), (Class<Object>) wideFixture.getTargetType());
+        wideBaseline = wideFixture.getBaseline();
+
+        simpleBean = MappingBenchmark.createSimpleBean(1);
+        complexBean = MappingBenchmark.createComplexBean();
+        collectionBean = createCollectionBean();
+        wideBean = wideFixture.createOrigin();
+    }
+
+    @Benchmark
+    public SpecularSimpleBean flatOTAMap() {
+        return flatMap.map(simpleBean);
+    }
+
+    @Benchmark
+    public SpecularSimpleBean flatBaseline() {
+        return copy(simpleBean);
+    }
+
+    @Benchmark
+    public SpecularComplexBean nestedOTAMap() {
+        return nestedMap.map(complexBean, true);
+    }
+
+    @Benchmark
+    public SpecularComplexBean nestedBaseline() {
+        return copy(complexBean);
+    }
+
+    @Benchmark
+    public SpecularCollectionBean collectionOTAMap() {
+        return collectionMap.map(collectionBean, true);
+    }
+
+    @Benchmark
+    public SpecularCollectionBean collectionBaseline() {
+        return copy(collectionBean);
+    }
+
+    @Benchmark
+    public Object wideOTAMap() {
+        return wideMap.map(wideBean);
+    }
+
+    @Benchmark
+    public Object wideBaseline() {
+        return wideBaseline.apply(wideBean);
+    }
+
+    private static SpecularSimpleBean copy(SimpleBean simpleBean) {
+        if (simpleBean == null) {
+            return null;
+        }
+        SpecularSimpleBean specularSimpleBean = new SpecularSimpleBean();
+        specularSimpleBean.setStringProp(simpleBean.getStringProp());
+        specularSimpleBean.setIntProp(simpleBean.getIntProp());
+        specularSimpleBean.setBigDecimalProp(simpleBean.getBigDecimalProp());
+        return specularSimpleBean;
+    }
+
+    private static SpecularComplexBean copy(ComplexBean complexBean) {
+        SpecularComplexBean specularComplexBean = new SpecularComplexBean();
+        specularComplexBean.setSimpleBean(copy(complexBean.getSimpleBean()));
+        if (complexBean.getaDouble() != null) {
+            specularComplexBean.setaDouble(complexBean.getaDouble());
+        }
+        specularComplexBean.setaDifferentChar(complexBean.getaChar());
+        if (complexBean.getIntegers() != null) {
+            specularComplexBean.setIntegers(new ArrayList<>(complexBean.getIntegers()));
+        }
+        return specularComplexBean;
+    }
+
+    private static SpecularCollectionBean copy(CollectionBean collectionBean) {
+        SpecularCollectionBean specularCollectionBean = new SpecularCollectionBean();
+        if (collectionBean.getSimpleBeans() != null) {
+            List<SpecularSimpleBean> specularSimpleBeans = new ArrayList<>(collectionBean.getSimpleBeans().size());
+            for (SimpleBean simpleBean : collectionBean.getSimpleBeans()) {
+                specularSimpleBeans.add(copy(simpleBean));
+            }
+            specularCollectionBean.setSimpleBeans(specularSimpleBeans);
+        }
+        if (collectionBean.getTags() != null) {
+            specularCollectionBean.setTags(new LinkedHashSet<>(collectionBean.getTags()));
+        }
+        if (collectionBean.getCounters() != null) {
+            specularCollectionBean.setCounters(new LinkedHashMap<>(collectionBean.getCounters()));
+        }
+        return specularCollectionBean;
+    }
+
+    private static CollectionBean createCollectionBean() {
+        List<SimpleBean> simpleBeans = new ArrayList<>(COLLECTION_SIZE);
+        Set<String> tags = new LinkedHashSet<>();
+        Map<String, Integer> counters = new LinkedHashMap<>();
+        for (int index = 0; index < COLLECTION_SIZE; index++) {
+            simpleBeans.add(MappingBenchmark.createSimpleBean(index));
+            tags.add("tag" + index);
+            counters.put("counter" + index, index);
+        }
+        CollectionBean collectionBean = new CollectionBean();
+        collectionBean.setSimpleBeans(simpleBeans);
+        collectionBean.setTags(tags);
+        collectionBean.setCounters(counters);
+        return collectionBean;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.entry.ServiceProvider;
+import com.opymi.otamap.entry.services.OTAMapProvider;
+import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Scaling of the engine with the number of properties and the nesting levels of {@link BeanFixture} beans:
+ * deep mapping against the hand-written copy, and generation of the property map descriptors of a new mapper.
+ * Width and depth can be changed from the command line, e.g. {@code -p width=1000 -p depth=5}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedBeanBenchmark {
+
+    @Param({"8", "32", "128", "256"})
+    private int width;
+
+    @Param({"0", "2"})
+    private int depth;
+
+    private OTMapperBuilderProvider mapperBuilderProvider;
+    private Class<Object> originType;
+    private Class<Object> targetType;
+    private OTAMap<Object, Object> otaMap;
+    private UnaryOperator<Object> baseline;
+    private Object origin;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        BeanFixture fixture = BeanFixture.generate(width, depth);
+        originType = (Class<Object>) fixture.getOriginType();
+        targetType = (Class<Object>) fixture.getTargetType();
+        mapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
+        otaMap = ServiceProvider.getService(OTAMapProvider.class).getOTAMap(originType, targetType);
+        baseline = fixture.getBaseline();
+        origin = fixture.createOrigin();
+    }
+
+    @Benchmark
+    public Object deepOTAMap() {
+        return otaMap.map(origin, true);
+    }
+
+    @Benchmark
+    public Object deepBaseline() {
+        return baseline.apply(origin);
+    }
+
+    /**
+     * Property map descriptors of the root level, generated for each new mapper when its plan is compiled
+     */
+    @Benchmark
+    public List<PropertyMapDescriptor> propertyMapDescriptors() {
+        return mapperBuilderProvider.getBuilder(originType, targetType).getMapper().generatePropertyMapDescriptors();
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import com.opymi.otamap.benchmarks.beans.ComplexBean;
+import com.opymi.otamap.benchmarks.beans.SimpleBean;
+import com.opymi.otamap.benchmarks.beans.SpecularComplexBean;
+import com.opymi.otamap.benchmarks.beans.SpecularSimpleBean;
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.entry.OTConverter;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.ServiceProvider;
+import com.opymi.otamap.entry.services.OTAMapProvider;
+import com.opymi.otamap.entry.services.OTConverterProvider;
+import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.services.repository.OTRepositoryImp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady state benchmarks of the mapping engine: every mapping plan is compiled during the warmup
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappingBenchmark {
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private OTRepository repository;
+    private OTAMap<SimpleBean, SpecularSimpleBean> simpleMap;
+    private OTAMap<ComplexBean, SpecularComplexBean> complexMap;
+
+    private SimpleBean simpleBean;
+    private SpecularSimpleBean specularSimpleBean;
+    private ComplexBean complexBean;
+    private List<SimpleBean> simpleBeans;
+
+    @Setup
+    public void setUp() {
+        OTAMapProvider otaMapProvider = ServiceProvider.getService(OTAMapProvider.class);
+        OTMapperBuilderProvider mapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
+        OTConverterProvider converterProvider = ServiceProvider.getService(OTConverterProvider.class);
+
+        repository = new OTRepositoryImp();
+        repository.store(mapperBuilderProvider.getBuilder(ComplexBean.class, SpecularComplexBean.class)
+                .customize(ComplexBean.Properties.A_CHAR, SpecularComplexBean.Properties.A_DIFFERENT_CHAR)
+                .getMapper());
+        repository.store(converterProvider.getConverter(SpecularSimpleBean.class, SimpleBean.class, MappingBenchmark::convert));
+
+        simpleMap = otaMapProvider.getOTAMap(SimpleBean.class, SpecularSimpleBean.class);
+        complexMap = otaMapProvider.getOTAMap(repository, ComplexBean.class, SpecularComplexBean.class);
+
+        simpleBean = createSimpleBean(1);
+        specularSimpleBean = simpleMap.map(simpleBean);
+        complexBean = createComplexBean();
+        simpleBeans = new ArrayList<>(batchSize);
+        for (int index = 0; index < batchSize; index++) {
+            simpleBeans.add(createSimpleBean(index));
+        }
+    }
+
+    /**
+     * Shallow mapping of a bean with properties of the same names
+     */
+    @Benchmark
+    public SpecularSimpleBean shallowMapping() {
+        return simpleMap.map(simpleBean);
+    }
+
+    /**
+     * Deep mapping of a bean with a nested bean and a list
+     */
+    @Benchmark
+    public SpecularComplexBean deepMapping() {
+        return complexMap.map(complexBean, true);
+    }
+
+    /**
+     * Shallow mapping by a mapper of the repository that maps properties with different names
+     */
+    @Benchmark
+    public SpecularComplexBean customNameMapping() {
+        return complexMap.map(complexBean);
+    }
+
+    /**
+     * Lookup of a converter in {@link OTRepositoryImp} followed by the conversion
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public SimpleBean converterLookup() {
+        OTConverter<SpecularSimpleBean, SimpleBean> converter = (OTConverter<SpecularSimpleBean, SimpleBean>) repository.find(SpecularSimpleBean.class, SimpleBean.class);
+        return converter.convert(specularSimpleBean);
+    }
+
+    /**
+     * Shallow mapping of a batch of beans, time is reported for the whole batch
+     */
+    @Benchmark
+    public List<SpecularSimpleBean> batchMapping() {
+        return simpleMap.mapAll(simpleBeans);
+    }
+
+    /**
+     * Shallow mapping of a batch of beans split on the common pool, time is reported for the whole batch
+     */
+    @Benchmark
+    public List<SpecularSimpleBean> parallelBatchMapping() {
+        return simpleMap.mapAllParallel(simpleBeans);
+    }
+
+    private static SimpleBean convert(SpecularSimpleBean specularSimpleBean) {
+        SimpleBean simpleBean = new SimpleBean();
+        simpleBean.setStringProp(specularSimpleBean.getStringProp());
+        simpleBean.setIntProp(specularSimpleBean.getIntProp());
+        simpleBean.setBigDecimalProp(specularSimpleBean.getBigDecimalProp());
+        return simpleBean;
+    }
+
+    static SimpleBean createSimpleBean(int index) {
+        SimpleBean simpleBean = new SimpleBean();
+        simpleBean.setStringProp("simple" + index);
+        simpleBean.setIntProp(index);
+        simpleBean.setBigDecimalProp(BigDecimal.valueOf(index));
+        return simpleBean;
+    }
+
+    static ComplexBean createComplexBean() {
+        ComplexBean complexBean = new ComplexBean();
+        complexBean.setSimpleBean(createSimpleBean(1));
+        complexBean.setaDouble(1.5D);
+        complexBean.setaChar('c');
+        complexBean.setIntegers(Arrays.asList(1, 2, 3));
+        return complexBean;
+    }
+
+}
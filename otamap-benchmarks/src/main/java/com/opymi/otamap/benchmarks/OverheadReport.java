@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Overhead of OTAMap over the hand-written copies: results of {@code <scenario>OTAMap} and {@code <scenario>Baseline}
+ * benchmarks with the same parameters are paired, the ratio is the time of OTAMap divided by the time of the baseline
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OverheadReport {
+    static final String OTAMAP_SUFFIX = "OTAMap";
+    static final String BASELINE_SUFFIX = "Baseline";
+
+    private final Map<String, RunResult[]> pairs = new LinkedHashMap<>();
+
+    public OverheadReport(Collection<RunResult> results) {
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            if (benchmark.endsWith(OTAMAP_SUFFIX)) {
+                pair(result, OTAMAP_SUFFIX)[0] = result;
+            } else if (benchmark.endsWith(BASELINE_SUFFIX)) {
+                pair(result, BASELINE_SUFFIX)[1] = result;
+            }
+        }
+    }
+
+    private RunResult[] pair(RunResult result, String suffix) {
+        BenchmarkParams params = result.getParams();
+        StringBuilder scenario = new StringBuilder(ScenarioResult.simpleName(params.getBenchmark()));
+        scenario.setLength(scenario.length() - suffix.length());
+        for (String key : params.getParamsKeys()) {
+            scenario.append(' ').append(key).append('=').append(params.getParam(key));
+        }
+        return pairs.computeIfAbsent(scenario.toString(), key -> new RunResult[2]);
+    }
+
+    /**
+     * Print a line for each complete pair, nothing if there are no pairs
+     *
+     * @param out
+     */
+    public void print(PrintStream out) {
+        boolean header = false;
+        for (Map.Entry<String, RunResult[]> pair : pairs.entrySet()) {
+            RunResult otaMap = pair.getValue()[0];
+            RunResult baseline = pair.getValue()[1];
+            if (otaMap == null || baseline == null) {
+                continue;
+            }
+            if (!header) {
+                out.println();
+                out.println("OTAMap overhead over hand-written copy:");
+                header = true;
+            }
+            out.printf("%-50s %12.3f %-8s %12.3f %-8s x%.2f%n", pair.getKey(),
+                    otaMap.getPrimaryResult().getScore(), otaMap.getPrimaryResult().getScoreUnit(),
+                    baseline.getPrimaryResult().getScore(), baseline.getPrimaryResult().getScoreUnit(),
+                    ratio(otaMap, baseline));
+        }
+    }
+
+    /**
+     * @return how many times OTAMap is slower than the baseline
+     */
+    private static double ratio(RunResult otaMap, RunResult baseline) {
+        double otaMapScore = otaMap.getPrimaryResult().getScore();
+        double baselineScore = baseline.getPrimaryResult().getScore();
+        // throughput is the inverse of time
+        return otaMap.getParams().getMode() == Mode.Throughput ? baselineScore / otaMapScore : otaMapScore / baselineScore;
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regression gate of the OTAMap scenarios: runs a fixed short configuration of the benchmarks,
+ * writes the results as JSON and compares them with the baseline file.
+ * The gate fails when the throughput of a scenario drops or its allocation per operation rises beyond the thresholds,
+ * or when a scenario of the baseline is not measured anymore.
+ * Throughput is compared relative to the reference scenario, the hand-written copy {@value #REFERENCE} measured in the same run:
+ * the baseline's throughput of each scenario is scaled by the speed of the reference on the current machine,
+ * so a baseline recorded on another machine still applies. Without the reference in the baseline the throughput check is only advisory.
+ *
+ * Options:
+ * <ul>
+ *     <li>{@code --baseline <file>} baseline file, default {@code baseline.json}</li>
+ *     <li>{@code --results <file>} results file, default {@code target/benchmark-results.json}</li>
+ *     <li>{@code --max-throughput-drop <ratio>} default 0.25</li>
+ *     <li>{@code --max-allocation-rise <ratio>} default 0.1, rises up to 16 bytes per operation are always accepted</li>
+ *     <li>{@code --update-baseline} write the results also on the baseline file, without comparing them</li>
+ * </ul>
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class RegressionGate {
+    static final String INCLUDE = "\\.MappingBenchmark\\.(shallowMapping|deepMapping|customNameMapping|converterLookup|batchMapping)$"
+            + "|\\.ComparativeBenchmark\\.\\w+" + OverheadReport.OTAMAP_SUFFIX + "$"
+            + "|\\.ComparativeBenchmark\\.flat" + OverheadReport.BASELINE_SUFFIX + "$";
+    static final String REFERENCE = "ComparativeBenchmark.flat" + OverheadReport.BASELINE_SUFFIX;
+    static final double ALLOCATION_SLACK = 16;
+
+    private Path baseline = Paths.get("baseline.json");
+    private Path results = Paths.get("target", "benchmark-results.json");
+    private double maxThroughputDrop = 0.25;
+    private double maxAllocationRise = 0.1;
+    private boolean updateBaseline;
+
+    /**
+     * @param args options of the gate
+     * @return exit status, 0 if the gate passed
+     */
+    public static int run(String[] args) throws IOException, RunnerException {
+        RegressionGate gate = new RegressionGate();
+        gate.parse(args);
+        return gate.run(System.out);
+    }
+
+    private void parse(String[] args) {
+        for (int index = 0; index < args.length; index++) {
+            switch (args[index]) {
+                case "--baseline":
+                    baseline = Paths.get(value(args, ++index));
+                    break;
+                case "--results":
+                    results = Paths.get(value(args, ++index));
+                    break;
+                case "--max-throughput-drop":
+                    maxThroughputDrop = Double.parseDouble(value(args, ++index));
+                    break;
+                case "--max-allocation-rise":
+                    maxAllocationRise = Double.parseDouble(value(args, ++index));
+                    break;
+                case "--update-baseline":
+                    updateBaseline = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("UNKNOWN GATE OPTION " + args[index]);
+            }
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("MISSING VALUE OF GATE OPTION " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private int run(PrintStream out) throws IOException, RunnerException {
+        if (!updateBaseline && !Files.exists(baseline)) {
+            out.println("Missing baseline " + baseline.toAbsolutePath() + ", create it with --update-baseline");
+            return 1;
+        }
+
+        Options options = new OptionsBuilder()
+                .include(INCLUDE)
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .forks(2)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(4)
+                .measurementTime(TimeValue.seconds(1))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> runResults = new Runner(options).run();
+
+        List<ScenarioResult> current = new ArrayList<>(runResults.size());
+        for (RunResult runResult : runResults) {
+            current.add(ScenarioResult.of(runResult));
+        }
+        ScenarioResult.write(current, results);
+        out.println();
+        out.println("Results written to " + results.toAbsolutePath());
+
+        if (updateBaseline) {
+            ScenarioResult.write(current, baseline);
+            out.println("Baseline updated " + baseline.toAbsolutePath());
+            return 0;
+        }
+        return compare(ScenarioResult.read(baseline), current, out) ? 0 : 1;
+    }
+
+    /**
+     * Print the comparison of each scenario with its baseline
+     *
+     * @param baselines results of the baseline by scenario's name
+     * @param current results of the current run
+     * @param out
+     * @return true if there are no regressions
+     */
+    boolean compare(Map<String, ScenarioResult> baselines, List<ScenarioResult> current, PrintStream out) {
+        ScenarioResult reference = current.stream().filter(result -> result.getName().equals(REFERENCE)).findAny().orElse(null);
+        ScenarioResult baseReference = baselines.get(REFERENCE);
+        boolean advisory = reference == null || baseReference == null;
+        double scale = advisory ? 1 : reference.getThroughput() / baseReference.getThroughput();
+
+        boolean passed = true;
+        out.println();
+        out.println(String.format(Locale.ROOT, "%-50s %12s %12s %8s %10s %10s %8s  %s",
+                "Scenario", "Exp ops/us", "ops/us", "Change", "Base B/op", "B/op", "Change", "Status"));
+        for (ScenarioResult result : current) {
+            ScenarioResult base = baselines.get(result.getName());
+            if (base == null) {
+                out.println(String.format(Locale.ROOT, "%-50s %12s %12.3f %8s %10s %10.1f %8s  NEW",
+                        result.getName(), "-", result.getThroughput(), "-", "-", result.getAllocation(), "-"));
+                continue;
+            }
+            double expectedThroughput = base.getThroughput() * scale;
+            double throughputChange = (result.getThroughput() - expectedThroughput) / expectedThroughput;
+            double allocationRise = result.getAllocation() - base.getAllocation();
+            double allocationChange = base.getAllocation() > 0 ? allocationRise / base.getAllocation() : 0;
+
+            String status;
+            if (result == reference) {
+                status = "REFERENCE";
+            } else {
+                List<String> regressions = new ArrayList<>(2);
+                if (-throughputChange > maxThroughputDrop) {
+                    regressions.add(advisory ? "THROUGHPUT (ADVISORY)" : "THROUGHPUT");
+                    passed &= advisory;
+                }
+                if (allocationRise > Math.max(base.getAllocation() * maxAllocationRise, ALLOCATION_SLACK)) {
+                    regressions.add("ALLOCATION");
+                    passed = false;
+                }
+                status = regressions.isEmpty() ? "OK" : "REGRESSION " + String.join(", ", regressions);
+            }
+            out.println(String.format(Locale.ROOT, "%-50s %12.3f %12.3f %+7.1f%% %10.1f %10.1f %+7.1f%%  %s",
+                    result.getName(), expectedThroughput, result.getThroughput(), throughputChange * 100,
+                    base.getAllocation(), result.getAllocation(), allocationChange * 100, status));
+        }
+        for (String name : baselines.keySet()) {
+            if (current.stream().noneMatch(result -> result.getName().equals(name))) {
+                out.println(String.format(Locale.ROOT, "%-50s %12s  MISSING", name, "-"));
+                passed = false;
+            }
+        }
+        out.println();
+        if (advisory) {
+            out.println("Throughput compared with the absolute numbers of the baseline, it is advisory until the baseline has the reference "
+                    + REFERENCE + ": refresh it with --update-baseline");
+        } else {
+            out.println(String.format(Locale.ROOT, "Throughput scaled by the reference %s: x%.2f of the baseline's machine", REFERENCE, scale));
+        }
+        out.println(passed ? "Regression gate passed"
+                : String.format(Locale.ROOT, "Regression gate failed: accepted throughput drop %.0f%%, accepted allocation rise %.0f%%",
+                maxThroughputDrop * 100, maxAllocationRise * 100));
+        return passed;
+    }
+
+}
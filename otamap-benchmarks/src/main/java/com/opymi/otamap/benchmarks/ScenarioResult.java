@@ -0,0 +1,261 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throughput and allocation of a benchmark scenario, stored as JSON by the {@link RegressionGate}:
+ * <pre>
+ * {
+ *   "scenarios": [
+ *     {"name": "MappingBenchmark.shallowMapping batchSize=1000", "throughput": 9.87, "allocation": 24.0}
+ *   ]
+ * }
+ * </pre>
+ * Throughput is in operations per microsecond, allocation in bytes per operation
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ScenarioResult {
+    static final String ALLOCATION_RESULT = "gc.alloc.rate.norm";
+
+    private final String name;
+    private final double throughput;
+    private final double allocation;
+
+    public ScenarioResult(String name, double throughput, double allocation) {
+        this.name = name;
+        this.throughput = throughput;
+        this.allocation = allocation;
+    }
+
+    /**
+     * @param result result of a throughput benchmark run with the gc profiler
+     * @return scenario result
+     * @throws IllegalStateException if the gc profiler didn't report the allocation
+     */
+    public static ScenarioResult of(RunResult result) {
+        BenchmarkParams params = result.getParams();
+        StringBuilder name = new StringBuilder(simpleName(params.getBenchmark()));
+        for (String key : params.getParamsKeys()) {
+            name.append(' ').append(key).append('=').append(params.getParam(key));
+        }
+        Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_RESULT);
+        if (allocation == null) {
+            throw new IllegalStateException("MISSING ALLOCATION OF " + name);
+        }
+        return new ScenarioResult(name.toString(), result.getPrimaryResult().getScore(), allocation.getScore());
+    }
+
+    /**
+     * @param benchmark full name of a benchmark's method
+     * @return class's simple name and method's name
+     */
+    static String simpleName(String benchmark) {
+        return benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+    }
+
+    public static void write(List<ScenarioResult> results, Path file) throws IOException {
+        StringBuilder json = new StringBuilder("{\n  \"scenarios\": [\n");
+        for (int index = 0; index < results.size(); index++) {
+            ScenarioResult result = results.get(index);
+            json.append(String.format(Locale.ROOT, "    {\"name\": \"%s\", \"throughput\": %.6f, \"allocation\": %.3f}",
+                    result.name.replace("\\", "\\\\").replace("\"", "\\\""), result.throughput, result.allocation));
+            json.append(index < results.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("  ]\n}\n");
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, json);
+    }
+
+    /**
+     * @param file JSON file written by {@link #write(List, Path)}
+     * @return scenario results by name
+     * @throws IllegalArgumentException if the file is not valid
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, ScenarioResult> read(Path file) throws IOException {
+        Object json = new JsonReader(Files.readString(file)).read();
+        if (!(json instanceof Map) || !(((Map<String, Object>) json).get("scenarios") instanceof List)) {
+            throw new IllegalArgumentException("MISSING SCENARIOS IN " + file);
+        }
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        for (Object scenario : (List<Object>) ((Map<String, Object>) json).get("scenarios")) {
+            Map<String, Object> fields = (Map<String, Object>) scenario;
+            String name = (String) fields.get("name");
+            results.put(name, new ScenarioResult(name, ((Number) fields.get("throughput")).doubleValue(), ((Number) fields.get("allocation")).doubleValue()));
+        }
+        return results;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getAllocation() {
+        return allocation;
+    }
+
+    /**
+     * Reader of the JSON values used by the result files: objects, arrays, strings and numbers
+     */
+    private static class JsonReader {
+        private final String json;
+        private int position;
+
+        private JsonReader(String json) {
+            this.json = json;
+        }
+
+        private Object read() {
+            Object value = readValue();
+            skipWhitespace();
+            if (position < json.length()) {
+                throw error();
+            }
+            return value;
+        }
+
+        private Object readValue() {
+            skipWhitespace();
+            if (position >= json.length()) {
+                throw error();
+            }
+            char current = json.charAt(position);
+            if (current == '{') {
+                return readObject();
+            } else if (current == '[') {
+                return readArray();
+            } else if (current == '"') {
+                return readString();
+            }
+            return readNumber();
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (consume('}')) {
+                return object;
+            }
+            do {
+                skipWhitespace();
+                String key = readString();
+                skipWhitespace();
+                expect(':');
+                object.put(key, readValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+            return object;
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (consume(']')) {
+                return array;
+            }
+            do {
+                array.add(readValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+            return array;
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder string = new StringBuilder();
+            while (position < json.length() && json.charAt(position) != '"') {
+                char current = json.charAt(position++);
+                if (current == '\\' && position < json.length()) {
+                    current = json.charAt(position++);
+                }
+                string.append(current);
+            }
+            expect('"');
+            return string.toString();
+        }
+
+        private Double readNumber() {
+            int start = position;
+            while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+                position++;
+            }
+            if (start == position) {
+                throw error();
+            }
+            return Double.valueOf(json.substring(start, position));
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (position < json.length() && json.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!consume(expected)) {
+                throw error();
+            }
+        }
+
+        private IllegalArgumentException error() {
+            return new IllegalArgumentException("INVALID JSON AT POSITION " + position);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Java Bean property discovered at compile time
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class BeanProperty {
+    private final String name;
+    private ExecutableElement readMethod;
+    private ExecutableElement writeMethod;
+
+    public BeanProperty(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutableElement getReadMethod() {
+        return readMethod;
+    }
+
+    public void setReadMethod(ExecutableElement readMethod) {
+        this.readMethod = readMethod;
+    }
+
+    public ExecutableElement getWriteMethod() {
+        return writeMethod;
+    }
+
+    public void setWriteMethod(ExecutableElement writeMethod) {
+        this.writeMethod = writeMethod;
+    }
+
+    /**
+     * @return type returned by the read method
+     */
+    public TypeMirror getReadType() {
+        return readMethod.getReturnType();
+    }
+
+    /**
+     * @return type accepted by the write method
+     */
+    public TypeMirror getWriteType() {
+        return writeMethod.getParameters().get(0).asType();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Compile time scanner of Java Bean types, follows the same rules of the runtime type scanner
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class BeanScanner {
+    private static final String CLASS_FIELD = "class";
+    private static final String SERIAL_VERSION_UID_FIELD = "serialVersionUID";
+    private static final String OBJECT_TYPE = Object.class.getName();
+
+    private final Elements elements;
+
+    public BeanScanner(Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * @param type
+     * @return properties of the type sorted by name
+     */
+    public Map<String, BeanProperty> retrieveProperties(TypeElement type) {
+        Map<String, BeanProperty> properties = new TreeMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!isInstancePublicMethod(method) || isObjectMethod(method)) {
+                continue;
+            }
+
+            String methodName = method.getSimpleName().toString();
+            int parameters = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+
+            if (parameters == 0 && returnKind != TypeKind.VOID && methodName.startsWith("get") && methodName.length() > 3) {
+                retrieveProperty(properties, methodName.substring(3)).setReadMethod(method);
+            }
+            else if (parameters == 0 && returnKind == TypeKind.BOOLEAN && methodName.startsWith("is") && methodName.length() > 2) {
+                retrieveProperty(properties, methodName.substring(2)).setReadMethod(method);
+            }
+            else if (parameters == 1 && returnKind == TypeKind.VOID && methodName.startsWith("set") && methodName.length() > 3) {
+                retrieveProperty(properties, methodName.substring(3)).setWriteMethod(method);
+            }
+        }
+        properties.remove(CLASS_FIELD);
+        return properties;
+    }
+
+    /**
+     * @param type
+     * @return names of the fields declared by the type and its superclasses
+     */
+    public Set<String> retrieveDeclaredFieldsNames(TypeElement type) {
+        Set<String> fields = new HashSet<>();
+
+        TypeElement currentType = type;
+        while (currentType != null && !OBJECT_TYPE.contentEquals(currentType.getQualifiedName())) {
+            for (Element field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                String fieldName = field.getSimpleName().toString();
+                if (isNotJBaseField(fieldName)) {
+                    fields.add(fieldName);
+                }
+            }
+            currentType = retrieveSuperclass(currentType);
+        }
+
+        return fields;
+    }
+
+    private TypeElement retrieveSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private BeanProperty retrieveProperty(Map<String, BeanProperty> properties, String capitalizedName) {
+        return properties.computeIfAbsent(decapitalize(capitalizedName), BeanProperty::new);
+    }
+
+    private boolean isInstancePublicMethod(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        return method.getKind() == ElementKind.METHOD && modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC);
+    }
+
+    private boolean isObjectMethod(ExecutableElement method) {
+        TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+        return OBJECT_TYPE.contentEquals(declaringType.getQualifiedName());
+    }
+
+    /**
+     * Same rule of {@link java.beans.Introspector#decapitalize(String)}
+     */
+    private String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * @param field
+     * @return true if field is not java defined field
+     */
+    private boolean isNotJBaseField(String field) {
+        return !CLASS_FIELD.equals(field) && !SERIAL_VERSION_UID_FIELD.equals(field);
+    }
+
+}
@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.processor;
+
+import com.opymi.otamap.entry.OTConverter;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.exceptions.CustomizeMappingException;
+import com.opymi.otamap.exceptions.OTException;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writer of the Java sources generated for {@link MappingDeclaration}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ConverterWriter {
+    private static final String ERROR_MESSAGE = "%s: %s %s! EXCLUDE FIELD AND ADD CUSTOM MAPPING";
+    private static final String GENERATED = "@javax.annotation.processing.Generated(\"" + OTAMappingProcessor.class.getName() + "\")";
+
+    private final Types types;
+    private final Elements elements;
+    private final BeanScanner beanScanner;
+
+    public ConverterWriter(Types types, Elements elements) {
+        this.types = types;
+        this.elements = elements;
+        this.beanScanner = new BeanScanner(elements);
+    }
+
+    /**
+     * Write the source of the {@link OTConverter} generated for the declaration
+     *
+     * @param declaration mapping declaration
+     * @param declarations all mapping declarations by key, used for nested properties
+     * @return java source
+     * @throws OTException if the declaration is not valid
+     */
+    public String writeConverter(MappingDeclaration declaration, Map<String, MappingDeclaration> declarations) {
+        TypeElement origin = declaration.getOrigin();
+        TypeElement target = declaration.getTarget();
+        String originName = origin.getQualifiedName().toString();
+        String targetName = target.getQualifiedName().toString();
+        String converterName = getConverterName(declaration);
+
+        assertInstantiable(target);
+        Set<String> excludedFields = verifyExcludedFields(declaration);
+        verifyCustomNames(declaration);
+
+        StringBuilder source = new StringBuilder();
+        appendPackage(source, declaration);
+        source.append(GENERATED).append('\n');
+        source.append("public final class ").append(converterName).append(" implements ").append(OTConverter.class.getName())
+                .append('<').append(originName).append(", ").append(targetName).append("> {\n");
+        source.append("    public static final ").append(converterName).append(" INSTANCE = new ").append(converterName).append("();\n");
+        if (declaration.getCustomOperation() != null) {
+            String customOperationName = declaration.getCustomOperation().getQualifiedName().toString();
+            source.append("    private static final ").append(customOperationName).append(" CUSTOM_OPERATION = new ").append(customOperationName).append("();\n");
+        }
+        source.append('\n');
+
+        source.append("    @Override\n");
+        source.append("    public Class<").append(originName).append("> getOriginType() {\n");
+        source.append("        return ").append(originName).append(".class;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Class<").append(targetName).append("> getTargetType() {\n");
+        source.append("        return ").append(targetName).append(".class;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public ").append(targetName).append(" convert(").append(originName).append(" origin) {\n");
+        source.append("        if (origin == null) {\n");
+        source.append("            return null;\n");
+        source.append("        }\n");
+        source.append("        ").append(targetName).append(" target = new ").append(targetName).append("();\n");
+
+        Map<String, BeanProperty> targetProperties = beanScanner.retrieveProperties(target);
+        for (BeanProperty originProperty : beanScanner.retrieveProperties(origin).values()) {
+            String originPropertyName = originProperty.getName();
+            String targetPropertyName = declaration.getCustomNames().getOrDefault(originPropertyName, originPropertyName);
+            if (excludedFields.contains(originPropertyName) && excludedFields.contains(targetPropertyName)) {
+                continue;
+            }
+
+            if (originProperty.getReadMethod() == null) {
+                throw new OTException(String.format(ERROR_MESSAGE, originName, originPropertyName, "READ METHOD NOT FOUND"));
+            }
+            BeanProperty targetProperty = targetProperties.get(targetPropertyName);
+            if (targetProperty == null) {
+                throw new OTException(String.format(ERROR_MESSAGE, originName, originPropertyName, "MATCH NOT FOUND! DOESN'T EXIST FIELD WITH SAME NAME IN " + targetName));
+            } else if (targetProperty.getWriteMethod() == null) {
+                throw new OTException(String.format(ERROR_MESSAGE, targetName, targetPropertyName, "WRITE METHOD NOT FOUND"));
+            }
+
+            appendProperty(source, declaration, originProperty, targetProperty, declarations);
+        }
+
+        if (declaration.getCustomOperation() != null) {
+            source.append("        CUSTOM_OPERATION.customMap(origin, target);\n");
+        }
+        source.append("        return target;\n");
+        source.append("    }\n\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Write the source of the registry that stores all converters of the declaring element into an {@link OTRepository}
+     *
+     * @param declaringElement element annotated with the declarations
+     * @param declarations declarations of the element
+     * @return java source
+     */
+    public String writeRegistry(TypeElement declaringElement, Collection<MappingDeclaration> declarations) {
+        String registryName = getRegistryName(declaringElement);
+
+        StringBuilder source = new StringBuilder();
+        appendPackage(source, declaringElement);
+        source.append(GENERATED).append('\n');
+        source.append("public final class ").append(registryName).append(" {\n\n");
+        source.append("    private ").append(registryName).append("() {\n");
+        source.append("    }\n\n");
+        source.append("    /**\n");
+        source.append("     * Store the converters generated for ").append(declaringElement.getQualifiedName()).append('\n');
+        source.append("     */\n");
+        source.append("    public static void register(").append(OTRepository.class.getName()).append(" repository) {\n");
+        for (MappingDeclaration declaration : declarations) {
+            source.append("        repository.store(").append(getConverterName(declaration)).append(".INSTANCE);\n");
+        }
+        source.append("    }\n\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * @return simple name of the converter generated for the declaration
+     */
+    public String getConverterName(MappingDeclaration declaration) {
+        return flattenName(declaration.getDeclaringElement()) + "_" + declaration.getOrigin().getSimpleName() + "To" + declaration.getTarget().getSimpleName() + "Converter";
+    }
+
+    /**
+     * @return simple name of the registry generated for the declaring element
+     */
+    public String getRegistryName(Element declaringElement) {
+        return flattenName(declaringElement) + "Registry";
+    }
+
+    /**
+     * @return qualified name of a class generated in the package of the declaring element
+     */
+    public String qualify(Element declaringElement, String simpleName) {
+        String packageName = elements.getPackageOf(declaringElement).getQualifiedName().toString();
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    /**
+     * Append the mapping of a single property
+     */
+    private void appendProperty(StringBuilder source, MappingDeclaration declaration, BeanProperty originProperty, BeanProperty targetProperty, Map<String, MappingDeclaration> declarations) {
+        TypeMirror originType = originProperty.getReadType();
+        TypeMirror targetType = targetProperty.getWriteType();
+        String read = "origin." + originProperty.getReadMethod().getSimpleName() + "()";
+        String write = "target." + targetProperty.getWriteMethod().getSimpleName();
+
+        assertSupportedType(declaration.getTarget(), targetProperty);
+
+        if (originType.getKind().isPrimitive()) {
+            if (types.isSameType(originType, targetType) || isBoxing(originType, targetType)) {
+                source.append("        ").append(write).append('(').append(read).append(");\n");
+                return;
+            }
+            throw new OTException(String.format(ERROR_MESSAGE, declaration.getOrigin().getQualifiedName(), originProperty.getName(), "TYPE NOT SUPPORTED " + originType + " -> " + targetType));
+        }
+
+        String value;
+        if (types.isSameType(originType, targetType) || isUnboxing(originType, targetType)) {
+            value = "value";
+        } else {
+            String key = MappingDeclaration.composeKey(types.erasure(originType).toString(), types.erasure(targetType).toString());
+            MappingDeclaration nestedDeclaration = declarations.get(key);
+            if (nestedDeclaration == null) {
+                throw new OTException(String.format(ERROR_MESSAGE, declaration.getOrigin().getQualifiedName(), originProperty.getName(), "MAPPING NOT DECLARED FOR TYPES " + originType + " -> " + targetType));
+            }
+            value = qualify(nestedDeclaration.getDeclaringElement(), getConverterName(nestedDeclaration)) + ".INSTANCE.convert(value)";
+        }
+
+        source.append("        {\n");
+        source.append("            ").append(originType).append(" value = ").append(read).append(";\n");
+        source.append("            if (value != null) {\n");
+        source.append("                ").append(write).append('(').append(value).append(");\n");
+        source.append("            }\n");
+        source.append("        }\n");
+    }
+
+    /**
+     * Same rule of the runtime type evaluator: collections, maps and arrays are unsupported
+     */
+    private void assertSupportedType(TypeElement target, BeanProperty targetProperty) {
+        TypeMirror targetType = types.erasure(targetProperty.getWriteType());
+        TypeMirror collectionType = types.erasure(elements.getTypeElement(Collection.class.getName()).asType());
+        TypeMirror mapType = types.erasure(elements.getTypeElement(Map.class.getName()).asType());
+        if (targetType.getKind() == TypeKind.ARRAY || types.isAssignable(targetType, collectionType) || types.isAssignable(targetType, mapType)) {
+            throw new OTException(String.format(ERROR_MESSAGE, target.getQualifiedName(), targetProperty.getName(), "TYPE NOT SUPPORTED " + targetType));
+        }
+    }
+
+    private boolean isBoxing(TypeMirror primitiveType, TypeMirror targetType) {
+        return types.isSameType(types.boxedClass((PrimitiveType) primitiveType).asType(), targetType);
+    }
+
+    private boolean isUnboxing(TypeMirror originType, TypeMirror targetType) {
+        if (!targetType.getKind().isPrimitive()) {
+            return false;
+        }
+        try {
+            return types.isSameType(types.unboxedType(originType), targetType);
+        } catch (IllegalArgumentException notUnboxable) {
+            return false;
+        }
+    }
+
+    private void assertInstantiable(TypeElement target) {
+        boolean instantiable = !target.getModifiers().contains(Modifier.ABSTRACT) && ElementFilter.constructorsIn(target.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC));
+        if (!instantiable) {
+            throw new OTException("CANNOT CREATE INSTANCE OF " + target.getQualifiedName() + ". PUBLIC CONSTRUCTOR WITHOUT PARAMETERS NOT FOUND");
+        }
+    }
+
+    /**
+     * Same rule of the runtime mapper: a field can be excluded only if it exists in origin or target
+     *
+     * @return excluded fields
+     */
+    private Set<String> verifyExcludedFields(MappingDeclaration declaration) {
+        Set<String> originFields = beanScanner.retrieveDeclaredFieldsNames(declaration.getOrigin());
+        Set<String> targetFields = beanScanner.retrieveDeclaredFieldsNames(declaration.getTarget());
+        Set<String> excludedFields = new HashSet<>(declaration.getExcludedFields());
+
+        for (String field : excludedFields) {
+            if (!originFields.contains(field) && !targetFields.contains(field)) {
+                throw new CustomizeMappingException("THE FIELD " + field + " DOES NOT EXIST");
+            }
+        }
+
+        if (declaration.isExcludeAllFields()) {
+            excludedFields.addAll(originFields);
+            excludedFields.addAll(targetFields);
+        }
+        return excludedFields;
+    }
+
+    /**
+     * Same rule of the runtime mapper: custom names must exist as fields of origin and target
+     */
+    private void verifyCustomNames(MappingDeclaration declaration) {
+        Set<String> originFields = beanScanner.retrieveDeclaredFieldsNames(declaration.getOrigin());
+        Set<String> targetFields = beanScanner.retrieveDeclaredFieldsNames(declaration.getTarget());
+
+        for (Map.Entry<String, String> customName : declaration.getCustomNames().entrySet()) {
+            if (!originFields.contains(customName.getKey()) || !targetFields.contains(customName.getValue())) {
+                throw new CustomizeMappingException("CANNOT CUSTOMIZE NAME MAPPING " + customName.getKey() + " -> " + customName.getValue() + ". CHECK FIELD EXISTENCE!");
+            }
+        }
+    }
+
+    private void appendPackage(StringBuilder source, MappingDeclaration declaration) {
+        appendPackage(source, declaration.getDeclaringElement());
+    }
+
+    private void appendPackage(StringBuilder source, Element declaringElement) {
+        String packageName = elements.getPackageOf(declaringElement).getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+    }
+
+    /**
+     * @return simple names of the element and its enclosing types joined by underscore
+     */
+    private String flattenName(Element element) {
+        String simpleName = element.getSimpleName().toString();
+        Element enclosingElement = element.getEnclosingElement();
+        if (enclosingElement instanceof TypeElement) {
+            return flattenName(enclosingElement) + "_" + simpleName;
+        }
+        return simpleName;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mapping declared by {@link com.opymi.otamap.annotations.OTAMapping}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MappingDeclaration {
+    private final Element declaringElement;
+    private final TypeElement origin;
+    private final TypeElement target;
+    private final Map<String, String> customNames;
+    private final Set<String> excludedFields;
+    private final boolean excludeAllFields;
+    private final TypeElement customOperation;
+
+    public MappingDeclaration(Element declaringElement, TypeElement origin, TypeElement target, Map<String, String> customNames,
+                              Set<String> excludedFields, boolean excludeAllFields, TypeElement customOperation) {
+        this.declaringElement = declaringElement;
+        this.origin = origin;
+        this.target = target;
+        this.customNames = customNames;
+        this.excludedFields = excludedFields;
+        this.excludeAllFields = excludeAllFields;
+        this.customOperation = customOperation;
+    }
+
+    public Element getDeclaringElement() {
+        return declaringElement;
+    }
+
+    public TypeElement getOrigin() {
+        return origin;
+    }
+
+    public TypeElement getTarget() {
+        return target;
+    }
+
+    /**
+     * @return target's field names by origin's field names
+     */
+    public Map<String, String> getCustomNames() {
+        return customNames;
+    }
+
+    public Set<String> getExcludedFields() {
+        return excludedFields;
+    }
+
+    public boolean isExcludeAllFields() {
+        return excludeAllFields;
+    }
+
+    /**
+     * @return custom operation type or null if not declared
+     */
+    public TypeElement getCustomOperation() {
+        return customOperation;
+    }
+
+    /**
+     * @return key of the origin's type and target's type
+     */
+    public String getKey() {
+        return composeKey(origin.getQualifiedName().toString(), target.getQualifiedName().toString());
+    }
+
+    public static String composeKey(String origin, String target) {
+        return origin + "_" + target;
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.processor;
+
+import com.opymi.otamap.annotations.OTAMapping;
+import com.opymi.otamap.annotations.OTAMappings;
+import com.opymi.otamap.entry.OTCustomMapperOperation;
+import com.opymi.otamap.exceptions.OTException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor of {@link OTAMapping}: for each declaration generates an {@link com.opymi.otamap.entry.OTConverter}
+ * with plain getter/setter calls and, for each annotated type, a registry that stores its converters into an
+ * {@link com.opymi.otamap.entry.OTRepository}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTAMappingProcessor extends AbstractProcessor {
+    private Messager messager;
+    private Filer filer;
+    private ConverterWriter converterWriter;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+        this.converterWriter = new ConverterWriter(processingEnv.getTypeUtils(), processingEnv.getElementUtils());
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotationTypes = new HashSet<>();
+        annotationTypes.add(OTAMapping.class.getCanonicalName());
+        annotationTypes.add(OTAMappings.class.getCanonicalName());
+        return annotationTypes;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<MappingDeclaration>> declarationsByElement = new LinkedHashMap<>();
+        Map<String, MappingDeclaration> declarations = new HashMap<>();
+
+        Set<Element> annotatedElements = new HashSet<>(roundEnv.getElementsAnnotatedWith(OTAMapping.class));
+        annotatedElements.addAll(roundEnv.getElementsAnnotatedWith(OTAMappings.class));
+        for (Element element : annotatedElements) {
+            TypeElement declaringElement = (TypeElement) element;
+            for (AnnotationMirror mapping : retrieveMappings(declaringElement)) {
+                MappingDeclaration declaration = createDeclaration(declaringElement, mapping);
+                if (declarations.putIfAbsent(declaration.getKey(), declaration) != null) {
+                    error("MAPPING " + declaration.getOrigin() + " -> " + declaration.getTarget() + " ALREADY DECLARED", declaringElement, mapping);
+                    continue;
+                }
+                declarationsByElement.computeIfAbsent(declaringElement, key -> new ArrayList<>()).add(declaration);
+            }
+        }
+
+        for (Map.Entry<TypeElement, List<MappingDeclaration>> entry : declarationsByElement.entrySet()) {
+            TypeElement declaringElement = entry.getKey();
+            boolean valid = true;
+            for (MappingDeclaration declaration : entry.getValue()) {
+                valid &= writeConverter(declaration, declarations);
+            }
+            if (valid) {
+                String registryName = converterWriter.getRegistryName(declaringElement);
+                writeSource(converterWriter.qualify(declaringElement, registryName), converterWriter.writeRegistry(declaringElement, entry.getValue()), declaringElement);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the converter has been written
+     */
+    private boolean writeConverter(MappingDeclaration declaration, Map<String, MappingDeclaration> declarations) {
+        String source;
+        try {
+            source = converterWriter.writeConverter(declaration, declarations);
+        } catch (OTException e) {
+            error(e.getMessage(), declaration.getDeclaringElement(), null);
+            return false;
+        }
+        String converterName = converterWriter.getConverterName(declaration);
+        return writeSource(converterWriter.qualify(declaration.getDeclaringElement(), converterName), source, declaration.getDeclaringElement());
+    }
+
+    private boolean writeSource(String qualifiedName, String source, Element originatingElement) {
+        try (Writer writer = filer.createSourceFile(qualifiedName, originatingElement).openWriter()) {
+            writer.write(source);
+            return true;
+        } catch (IOException e) {
+            error("CANNOT WRITE " + qualifiedName + ": " + e.getMessage(), originatingElement, null);
+            return false;
+        }
+    }
+
+    /**
+     * @return {@link OTAMapping} mirrors of the element, directly present or contained by {@link OTAMappings}
+     */
+    private List<AnnotationMirror> retrieveMappings(TypeElement element) {
+        List<AnnotationMirror> mappings = new ArrayList<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (annotationName.equals(OTAMapping.class.getCanonicalName())) {
+                mappings.add(annotation);
+            } else if (annotationName.equals(OTAMappings.class.getCanonicalName())) {
+                for (AnnotationValue value : this.<List<? extends AnnotationValue>>retrieveValue(annotation, "value")) {
+                    mappings.add((AnnotationMirror) value.getValue());
+                }
+            }
+        }
+        return mappings;
+    }
+
+    private MappingDeclaration createDeclaration(TypeElement declaringElement, AnnotationMirror mapping) {
+        TypeElement origin = asTypeElement(this.<TypeMirror>retrieveValue(mapping, "origin"));
+        TypeElement target = asTypeElement(this.<TypeMirror>retrieveValue(mapping, "target"));
+
+        Map<String, String> customNames = new HashMap<>();
+        for (AnnotationValue field : this.<List<? extends AnnotationValue>>retrieveValue(mapping, "fields")) {
+            AnnotationMirror fieldMapping = (AnnotationMirror) field.getValue();
+            customNames.put(retrieveValue(fieldMapping, "origin"), retrieveValue(fieldMapping, "target"));
+        }
+
+        Set<String> excludedFields = new HashSet<>();
+        for (AnnotationValue field : this.<List<? extends AnnotationValue>>retrieveValue(mapping, "excludedFields")) {
+            excludedFields.add((String) field.getValue());
+        }
+
+        boolean excludeAllFields = retrieveValue(mapping, "excludeAllFields");
+        TypeElement customOperation = asTypeElement(this.<TypeMirror>retrieveValue(mapping, "customOperation"));
+        if (customOperation.getQualifiedName().contentEquals(OTCustomMapperOperation.class.getCanonicalName())) {
+            customOperation = null;
+        }
+
+        return new MappingDeclaration(declaringElement, origin, target, customNames, excludedFields, excludeAllFields, customOperation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T retrieveValue(AnnotationMirror annotation, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : values.entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals(name)) {
+                return (T) value.getValue().getValue();
+            }
+        }
+        throw new OTException("ANNOTATION VALUE " + name + " NOT FOUND");
+    }
+
+    private TypeElement asTypeElement(TypeMirror type) {
+        return (TypeElement) ((DeclaredType) type).asElement();
+    }
+
+    private void error(String message, Element element, AnnotationMirror annotation) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element, annotation);
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.processor;
+
+import com.opymi.otamap.entry.OTConverter;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.services.repository.OTRepositoryImp;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test of {@link OTAMappingProcessor}, annotated sources are compiled in memory with the processor
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTAMappingProcessorTest {
+    private static final String PACKAGE = "beans";
+
+    private static final String ADDRESS = bean("Address", "String street", "int number");
+    private static final String ADDRESS_DTO = bean("AddressDto", "String street", "Integer number");
+    private static final String PERSON = bean("Person", "String name", "int age", "String nickname", "String secret", "Address address");
+    private static final String PERSON_DTO = bean("PersonDto", "String name", "Integer age", "String alias", "AddressDto address");
+
+    private Path outputDirectory;
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    @Before
+    public void setUp() throws IOException {
+        outputDirectory = Files.createTempDirectory("otamap-processor");
+        diagnostics = new DiagnosticCollector<>();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void mapping() throws Exception {
+        String mappings = mappings(
+                "@OTAMapping(origin = Address.class, target = AddressDto.class)",
+                "@OTAMapping(origin = Person.class, target = PersonDto.class, fields = @OTAFieldMapping(origin = \"nickname\", target = \"alias\"), excludedFields = \"secret\")");
+
+        Assert.assertTrue(diagnostics(), compile(ADDRESS, ADDRESS_DTO, PERSON, PERSON_DTO, mappings));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> personType = classLoader.loadClass(PACKAGE + ".Person");
+            Class<?> addressType = classLoader.loadClass(PACKAGE + ".Address");
+
+            Object address = addressType.getConstructor().newInstance();
+            set(address, "setStreet", String.class, "Main Street");
+            set(address, "setNumber", int.class, 7);
+
+            Object person = personType.getConstructor().newInstance();
+            set(person, "setName", String.class, "Mario");
+            set(person, "setAge", int.class, 42);
+            set(person, "setNickname", String.class, "Super");
+            set(person, "setSecret", String.class, "hidden");
+            set(person, "setAddress", addressType, address);
+
+            Object personDto = retrieveConverter(classLoader, "Mappings_PersonToPersonDtoConverter").convert(person);
+
+            Assert.assertEquals("Mario", get(personDto, "getName"));
+            Assert.assertEquals(42, get(personDto, "getAge"));
+            Assert.assertEquals("Super", get(personDto, "getAlias"));
+
+            Object addressDto = get(personDto, "getAddress");
+            Assert.assertNotNull(addressDto);
+            Assert.assertEquals("Main Street", get(addressDto, "getStreet"));
+            Assert.assertEquals(7, get(addressDto, "getNumber"));
+
+            set(person, "setAddress", addressType, null);
+            Assert.assertNull(get(retrieveConverter(classLoader, "Mappings_PersonToPersonDtoConverter").convert(person), "getAddress"));
+            Assert.assertNull(retrieveConverter(classLoader, "Mappings_PersonToPersonDtoConverter").convert(null));
+        }
+    }
+
+    @Test
+    public void registry() throws Exception {
+        String mappings = mappings("@OTAMapping(origin = Address.class, target = AddressDto.class)");
+
+        Assert.assertTrue(diagnostics(), compile(ADDRESS, ADDRESS_DTO, mappings));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> addressType = classLoader.loadClass(PACKAGE + ".Address");
+            Class<?> addressDtoType = classLoader.loadClass(PACKAGE + ".AddressDto");
+
+            OTRepository repository = new OTRepositoryImp();
+            classLoader.loadClass(PACKAGE + ".MappingsRegistry").getMethod("register", OTRepository.class).invoke(null, repository);
+
+            Assert.assertTrue(repository.exists(addressType, addressDtoType));
+        }
+    }
+
+    @Test
+    public void excludedFieldNotFound() {
+        String mappings = mappings("@OTAMapping(origin = Address.class, target = AddressDto.class, excludedFields = \"unknown\")");
+
+        Assert.assertFalse(compile(ADDRESS, ADDRESS_DTO, mappings));
+        assertError("THE FIELD unknown DOES NOT EXIST");
+    }
+
+    @Test
+    public void customNameNotFound() {
+        String mappings = mappings(
+                "@OTAMapping(origin = Address.class, target = AddressDto.class)",
+                "@OTAMapping(origin = Person.class, target = PersonDto.class, fields = @OTAFieldMapping(origin = \"nickname\", target = \"unknown\"), excludedFields = \"secret\")");
+
+        Assert.assertFalse(compile(ADDRESS, ADDRESS_DTO, PERSON, PERSON_DTO, mappings));
+        assertError("CANNOT CUSTOMIZE NAME MAPPING nickname -> unknown");
+    }
+
+    @Test
+    public void matchNotFound() {
+        String mappings = mappings(
+                "@OTAMapping(origin = Address.class, target = AddressDto.class)",
+                "@OTAMapping(origin = Person.class, target = PersonDto.class, excludedFields = \"secret\")");
+
+        Assert.assertFalse(compile(ADDRESS, ADDRESS_DTO, PERSON, PERSON_DTO, mappings));
+        assertError("nickname MATCH NOT FOUND");
+    }
+
+    @Test
+    public void nestedMappingNotDeclared() {
+        String mappings = mappings("@OTAMapping(origin = Person.class, target = PersonDto.class, fields = @OTAFieldMapping(origin = \"nickname\", target = \"alias\"), excludedFields = \"secret\")");
+
+        Assert.assertFalse(compile(ADDRESS, ADDRESS_DTO, PERSON, PERSON_DTO, mappings));
+        assertError("MAPPING NOT DECLARED FOR TYPES");
+    }
+
+    @Test
+    public void containerNotSupported() {
+        String holder = bean("Holder", "java.util.List<String> values");
+        String specularHolder = bean("SpecularHolder", "java.util.List<String> values");
+        String mappings = mappings("@OTAMapping(origin = Holder.class, target = SpecularHolder.class)");
+
+        Assert.assertFalse(compile(holder, specularHolder, mappings));
+        assertError("values TYPE NOT SUPPORTED");
+    }
+
+    private boolean compile(String... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        for (String source : sources) {
+            compilationUnits.add(new SourceFile(source));
+        }
+        List<String> options = Arrays.asList("-d", outputDirectory.toString(), "-s", outputDirectory.toString(),
+                "-classpath", System.getProperty("java.class.path"));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, compilationUnits);
+        task.setProcessors(List.of(new OTAMappingProcessor()));
+        return task.call();
+    }
+
+    private void assertError(String message) {
+        boolean found = diagnostics.getDiagnostics().stream()
+                .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getMessage(null).contains(message));
+        Assert.assertTrue(diagnostics(), found);
+    }
+
+    private String diagnostics() {
+        return diagnostics.getDiagnostics().stream()
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private OTConverter<Object, Object> retrieveConverter(ClassLoader classLoader, String converterName) throws Exception {
+        return (OTConverter<Object, Object>) classLoader.loadClass(PACKAGE + "." + converterName).getField("INSTANCE").get(null);
+    }
+
+    private static void set(Object bean, String methodName, Class<?> type, Object value) throws Exception {
+        bean.getClass().getMethod(methodName, type).invoke(bean, value);
+    }
+
+    private static Object get(Object bean, String methodName) throws Exception {
+        return bean.getClass().getMethod(methodName).invoke(bean);
+    }
+
+    /**
+     * @return source of the class that declares the mappings
+     */
+    private static String mappings(String... annotations) {
+        return "package " + PACKAGE + ";\n"
+                + "import com.opymi.otamap.annotations.OTAFieldMapping;\n"
+                + "import com.opymi.otamap.annotations.OTAMapping;\n"
+                + String.join("\n", annotations) + "\n"
+                + "public class Mappings {}\n";
+    }
+
+    /**
+     * @param fields type and name of each field
+     * @return source of a Java Bean with getter and setter for each field
+     */
+    private static String bean(String name, String... fields) {
+        StringBuilder source = new StringBuilder("package " + PACKAGE + ";\npublic class " + name + " {\n");
+        for (String field : fields) {
+            int separator = field.lastIndexOf(' ');
+            String type = field.substring(0, separator);
+            String fieldName = field.substring(separator + 1);
+            String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+            source.append("    private ").append(field).append(";\n");
+            source.append("    public ").append(type).append(" get").append(capitalizedName).append("() { return ").append(fieldName).append("; }\n");
+            source.append("    public void set").append(capitalizedName).append('(').append(type).append(" value) { this.").append(fieldName).append(" = value; }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * In memory source, named after its public class
+     */
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String source) {
+            super(URI.create("string:///" + retrieveClassName(source).replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+
+        private static String retrieveClassName(String source) {
+            int start = source.indexOf("public class ") + "public class ".length();
+            return PACKAGE + "." + source.substring(start, source.indexOf(' ', start));
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.annotations;
+
+import com.opymi.otamap.entry.OTConverter;
+import com.opymi.otamap.entry.OTCustomMapperOperation;
+import com.opymi.otamap.entry.OTMapperBuilder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declare at compile time the mapping of {@link #origin()} to {@link #target()}.
+ * The annotation processor generates a plain Java {@link OTConverter} for the declaration
+ * with the same rules of the mappers created by {@link OTMapperBuilder}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Repeatable(OTAMappings.class)
+public @interface OTAMapping {
+
+    /**
+     * @return origin's type
+     */
+    Class<?> origin();
+
+    /**
+     * @return target's type
+     */
+    Class<?> target();
+
+    /**
+     * @return mapping for fields with different names
+     * @see OTMapperBuilder#customize(String, String)
+     */
+    OTAFieldMapping[] fields() default {};
+
+    /**
+     * @return fields excluded from the mapping
+     * @see OTMapperBuilder#excludeField(String)
+     */
+    String[] excludedFields() default {};
+
+    /**
+     * @return true if all fields are excluded from the mapping
+     * @see OTMapperBuilder#excludeAllFields()
+     */
+    boolean excludeAllFields() default false;
+
+    /**
+     * @return custom behavior for the mapping, it must have a public constructor without parameters.
+     * {@link OTCustomMapperOperation} itself means no custom behavior
+     * @see OTMapperBuilder#customize(OTCustomMapperOperation)
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends OTCustomMapperOperation> customOperation() default OTCustomMapperOperation.class;
+
+}
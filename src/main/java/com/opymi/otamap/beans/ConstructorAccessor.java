@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.beans;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Pre-bound constructor of a target created from the values of its properties.
+ * The values are gathered in an array as large as the constructor's parameters and the constructor is invoked once
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ConstructorAccessor {
+    private final ConstructorDescriptor descriptor;
+    private final MethodHandle constructor;
+    private final Object[] defaultArguments;
+
+    /**
+     * @param descriptor constructor of the target
+     * @param constructor target's constructor of type (Object[])Object, taking the arguments spread on its parameters
+     * @param defaultArguments arguments of the properties without value: null for objects and zero for primitives
+     */
+    public ConstructorAccessor(ConstructorDescriptor descriptor, MethodHandle constructor, Object[] defaultArguments) {
+        this.descriptor = descriptor;
+        this.constructor = constructor;
+        this.defaultArguments = defaultArguments;
+    }
+
+    public ConstructorDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * @return new array of the constructor's arguments, initialized with the default arguments
+     */
+    public Object[] createArguments() {
+        return defaultArguments.clone();
+    }
+
+    /**
+     * @param arguments constructor's arguments created by {@link #createArguments()}
+     * @return target object
+     * @throws Throwable anything thrown by the constructor
+     */
+    public Object newInstance(Object[] arguments) throws Throwable {
+        return (Object) constructor.invokeExact(arguments);
+    }
+
+}
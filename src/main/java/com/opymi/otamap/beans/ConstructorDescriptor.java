@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.beans;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describe the constructor that creates a target from the values of its properties:
+ * the canonical constructor of a record or a constructor annotated by {@link ConstructorProperties}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ConstructorDescriptor {
+    private final Constructor<?> constructor;
+    private final List<String> parameterNames;
+
+    /**
+     * @param constructor constructor of the target
+     * @param parameterNames names of the target's properties, in the order of the constructor's parameters
+     */
+    public ConstructorDescriptor(Constructor<?> constructor, String... parameterNames) {
+        this.constructor = constructor;
+        this.parameterNames = Collections.unmodifiableList(Arrays.asList(parameterNames.clone()));
+    }
+
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * @param name name of the target's property
+     * @return index of the constructor's parameter of the property, -1 if no parameter has the name
+     */
+    public int getParameterIndex(String name) {
+        return parameterNames.indexOf(name);
+    }
+
+    /**
+     * @param index index of the constructor's parameter
+     * @return constructor's parameter
+     */
+    public Parameter getParameter(int index) {
+        return constructor.getParameters()[index];
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.beans;
+
+import com.opymi.otamap.exceptions.OTException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Context of a deep mapping: keeps the target builded for each origin's instance,
+ * so an origin referenced many times is mapped once and the cycles of the origin's graph are reproduced on the targets.
+ * Origins are compared by identity, targets are kept for each target's type.
+ * An iterative context maps the properties of the nested objects through a work queue instead of recursion,
+ * so the depth of the graph is bounded only by the heap, optionally limited by a budget of depth and nodes.
+ * Targets created by constructor are registered only after their properties are mapped,
+ * so a cycle of the origin's graph that passes through them cannot be reproduced and fails the mapping.
+ * For the same reason the nested targets created by constructor are mapped by recursion also in an iterative context,
+ * counted in the budget like the scheduled objects: a chain of them is bounded by the stack, that {@code maxDepth} can guard.
+ * Tables and work queue are created at the first use and kept by {@link #clear()}.
+ * A context is not thread-safe and must be used by one mapping at a time
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MappingContext {
+    private static final Object UNDER_CONSTRUCTION = new Object();
+
+    private final boolean iterative;
+    private final int maxDepth;
+    private final int maxNodes;
+
+    private Map<Class<?>, Map<Object, Object>> targetsByType;
+    private Deque<Work> works;
+    private boolean executing;
+    private int currentDepth;
+    private int nodes;
+
+    /**
+     * Create a recursive context
+     */
+    public MappingContext() {
+        this.iterative = false;
+        this.maxDepth = 0;
+        this.maxNodes = 0;
+    }
+
+    /**
+     * Create an iterative context
+     *
+     * @param maxDepth maximum depth of the mapped objects, the root has depth 0. 0 for no limit
+     * @param maxNodes maximum number of mapped objects. 0 for no limit
+     * @throws OTException if a limit is negative
+     */
+    public MappingContext(int maxDepth, int maxNodes) {
+        if (maxDepth < 0 || maxNodes < 0) {
+            throw new OTException("MAPPING BUDGET CANNOT BE NEGATIVE");
+        }
+        this.iterative = true;
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * @return true if the properties of nested objects are mapped through the work queue
+     */
+    public boolean isIterative() {
+        return iterative;
+    }
+
+    /**
+     * @return true while the context is executing the work queue
+     */
+    public boolean isExecuting() {
+        return executing;
+    }
+
+    /**
+     * Execute the mapping of the root object and then the mappings scheduled until the queue is empty.
+     * Queue and counters are reset also when a mapping fails
+     *
+     * @param mapping mapping of the root object's properties
+     * @throws OTException if the budget is exceeded
+     */
+    public void execute(Runnable mapping) {
+        if (works == null) {
+            works = new ArrayDeque<>();
+        }
+        executing = true;
+        try {
+            countNode();
+            mapping.run();
+            Work work;
+            while ((work = works.pollFirst()) != null) {
+                currentDepth = work.depth;
+                work.mapping.run();
+            }
+        } finally {
+            works.clear();
+            executing = false;
+            currentDepth = 0;
+            nodes = 0;
+        }
+    }
+
+    /**
+     * @return depth of the object whose properties are being mapped, the root has depth 0
+     */
+    public int getDepth() {
+        return currentDepth;
+    }
+
+    /**
+     * Enter the mapping of a nested object in a recursive context
+     */
+    public void descend() {
+        currentDepth++;
+    }
+
+    /**
+     * Leave the mapping of a nested object in a recursive context or of a nested object created by constructor
+     */
+    public void ascend() {
+        currentDepth--;
+    }
+
+    /**
+     * Enter the mapping of a nested object created by constructor in an iterative context,
+     * its properties are mapped by recursion one level deeper than its owner. Leave it by {@link #ascend()}
+     *
+     * @throws OTException if the budget is exceeded
+     */
+    public void descendConstruction() {
+        checkDepth(currentDepth + 1);
+        countNode();
+        currentDepth++;
+    }
+
+    /**
+     * Schedule the mapping of a nested object's properties, one level deeper than the object in execution
+     *
+     * @param mapping mapping of the nested object's properties
+     * @throws OTException if the budget is exceeded
+     */
+    public void schedule(Runnable mapping) {
+        int depth = currentDepth + 1;
+        checkDepth(depth);
+        countNode();
+        works.addLast(new Work(mapping, depth));
+    }
+
+    private void checkDepth(int depth) {
+        if (maxDepth > 0 && depth > maxDepth) {
+            throw new OTException("MAX DEPTH OF MAPPING EXCEEDED: " + maxDepth);
+        }
+    }
+
+    private void countNode() {
+        if (maxNodes > 0 && ++nodes > maxNodes) {
+            throw new OTException("MAX NODES OF MAPPING EXCEEDED: " + maxNodes);
+        }
+    }
+
+    /**
+     * @param origin origin object
+     * @param targetType type of the target
+     * @return target builded for the origin's instance, null if the origin is not mapped yet
+     * @throws OTException if the origin's target is created by constructor and its properties are being mapped
+     */
+    public Object getTarget(Object origin, Class<?> targetType) {
+        Map<Object, Object> targets = targetsByType != null ? targetsByType.get(targetType) : null;
+        Object target = targets != null ? targets.get(origin) : null;
+        if (target == UNDER_CONSTRUCTION) {
+            throw new OTException("CYCLIC REFERENCE CANNOT BE MAPPED ON " + targetType.getName() + " CREATED BY CONSTRUCTOR");
+        }
+        return target;
+    }
+
+    /**
+     * Register the origin's instance whose target is created by constructor, while its properties are mapped.
+     * The target is registered by {@link #putTarget(Object, Class, Object)} once created
+     *
+     * @param origin origin object
+     * @param targetType type of the target
+     */
+    public void startConstruction(Object origin, Class<?> targetType) {
+        putTarget(origin, targetType, UNDER_CONSTRUCTION);
+    }
+
+    /**
+     * Register the target of the origin's instance, before mapping its properties
+     *
+     * @param origin origin object
+     * @param targetType type of the target
+     * @param target target object
+     */
+    public void putTarget(Object origin, Class<?> targetType, Object target) {
+        if (targetsByType == null) {
+            targetsByType = new HashMap<>();
+        }
+        targetsByType.computeIfAbsent(targetType, type -> new IdentityHashMap<>()).put(origin, target);
+    }
+
+    /**
+     * Forget all the mapped origins, so the context can be reused by another mapping of the same thread
+     * keeping its tables
+     */
+    public void clear() {
+        if (targetsByType != null) {
+            targetsByType.values().forEach(Map::clear);
+        }
+    }
+
+    /**
+     * Scheduled mapping with the depth of its object
+     */
+    private static class Work {
+        private final Runnable mapping;
+        private final int depth;
+
+        private Work(Runnable mapping, int depth) {
+            this.mapping = mapping;
+            this.depth = depth;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.beans;
+
+import com.opymi.otamap.entry.OTMapper;
+import com.opymi.otamap.entry.services.GeneratedMapper;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled mapping of the {@param <ORIGIN>} to {@param <TARGET>}, computed once for a mapper configuration
+ * and reused by every mapping until the configuration changes
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MappingPlan<ORIGIN, TARGET> {
+    private final OTMapper<ORIGIN, TARGET> mapper;
+    private final int configurationVersion;
+    private final List<PropertyMapAccessor> propertyMapAccessors;
+    private final GeneratedMapper generatedMapper;
+    private final ConstructorAccessor constructorAccessor;
+
+    public MappingPlan(OTMapper<ORIGIN, TARGET> mapper, int configurationVersion, List<PropertyMapAccessor> propertyMapAccessors) {
+        this(mapper, configurationVersion, propertyMapAccessors, null);
+    }
+
+    public MappingPlan(OTMapper<ORIGIN, TARGET> mapper, int configurationVersion, List<PropertyMapAccessor> propertyMapAccessors, GeneratedMapper generatedMapper) {
+        this(mapper, configurationVersion, propertyMapAccessors, generatedMapper, null);
+    }
+
+    public MappingPlan(OTMapper<ORIGIN, TARGET> mapper, int configurationVersion, List<PropertyMapAccessor> propertyMapAccessors, GeneratedMapper generatedMapper, ConstructorAccessor constructorAccessor) {
+        this.mapper = mapper;
+        this.configurationVersion = configurationVersion;
+        this.propertyMapAccessors = Collections.unmodifiableList(propertyMapAccessors);
+        this.generatedMapper = generatedMapper;
+        this.constructorAccessor = constructorAccessor;
+    }
+
+    public OTMapper<ORIGIN, TARGET> getMapper() {
+        return mapper;
+    }
+
+    public int getConfigurationVersion() {
+        return configurationVersion;
+    }
+
+    public List<PropertyMapAccessor> getPropertyMapAccessors() {
+        return propertyMapAccessors;
+    }
+
+    /**
+     * @return mapper generated for the plan or null if the plan is executed by reflective accessors
+     */
+    public GeneratedMapper getGeneratedMapper() {
+        return generatedMapper;
+    }
+
+    /**
+     * @return constructor of the target created from its properties' values or null if the target is created empty
+     * and its properties are written by their write methods
+     */
+    public ConstructorAccessor getConstructorAccessor() {
+        return constructorAccessor;
+    }
+
+    /**
+     * @param mapper mapper to verify
+     * @return true if the plan has been compiled for the current configuration of the {@param mapper}
+     */
+    public boolean isCompiledFor(OTMapper<?, ?> mapper) {
+        return this.mapper == mapper && configurationVersion == mapper.getConfigurationVersion();
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.beans;
+
+/**
+ * Snapshot of the metrics of a pair of origin's type and target's type
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MappingStatistics {
+    private final String origin;
+    private final String target;
+    private final long invocations;
+    private final long nestedMappings;
+    private final long accessPropertyErrors;
+    private final long createInstanceErrors;
+    private final long otErrors;
+    private final long otherErrors;
+    private final LatencyStatistics latency;
+    private final LatencyStatistics lookupLatency;
+
+    /**
+     * @param origin name of the origin's type
+     * @param target name of the target's type
+     * @param invocations mappings, successful or failed
+     * @param nestedMappings mappings started by the mapping of an owner
+     * @param accessPropertyErrors mappings failed with {@link com.opymi.otamap.exceptions.AccessPropertyException}
+     * @param createInstanceErrors mappings failed with {@link com.opymi.otamap.exceptions.CreateInstanceException}
+     * @param otErrors mappings failed with other {@link com.opymi.otamap.exceptions.OTException}
+     * @param otherErrors mappings failed with other exceptions
+     * @param latency latency of the successful mappings
+     * @param lookupLatency latency of the transmuter's lookups
+     */
+    public MappingStatistics(String origin, String target, long invocations, long nestedMappings, long accessPropertyErrors, long createInstanceErrors,
+                             long otErrors, long otherErrors, LatencyStatistics latency, LatencyStatistics lookupLatency) {
+        this.origin = origin;
+        this.target = target;
+        this.invocations = invocations;
+        this.nestedMappings = nestedMappings;
+        this.accessPropertyErrors = accessPropertyErrors;
+        this.createInstanceErrors = createInstanceErrors;
+        this.otErrors = otErrors;
+        this.otherErrors = otherErrors;
+        this.latency = latency;
+        this.lookupLatency = lookupLatency;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getNestedMappings() {
+        return nestedMappings;
+    }
+
+    public long getAccessPropertyErrors() {
+        return accessPropertyErrors;
+    }
+
+    public long getCreateInstanceErrors() {
+        return createInstanceErrors;
+    }
+
+    public long getOtErrors() {
+        return otErrors;
+    }
+
+    public long getOtherErrors() {
+        return otherErrors;
+    }
+
+    public LatencyStatistics getLatency() {
+        return latency;
+    }
+
+    public LatencyStatistics getLookupLatency() {
+        return lookupLatency;
+    }
+
+}
@@ -0,0 +1,354 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.beans;
+
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.entry.services.MappingDiagnostics;
+import com.opymi.otamap.entry.services.MetricsSink;
+import com.opymi.otamap.exceptions.OTException;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration of the {@link OTAMap} instances created by a provider
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTAMapConfiguration {
+    public static final OTAMapConfiguration DEFAULT = builder().build();
+
+    private final boolean generatedMappers;
+    private final boolean sharedPrimitiveArrays;
+    private final int parallelBatchSize;
+    private final Executor asyncExecutor;
+    private final boolean iterativeDeepMapping;
+    private final int maxMappingDepth;
+    private final int maxMappingNodes;
+    private final MappingDiagnostics diagnostics;
+    private final boolean traceMappings;
+    private final MetricsSink metricsSink;
+    private final boolean flightRecorderEvents;
+    private final InstantiationStrategy instantiationStrategy;
+
+    private OTAMapConfiguration(Builder builder) {
+        this.generatedMappers = builder.generatedMappers;
+        this.sharedPrimitiveArrays = builder.sharedPrimitiveArrays;
+        this.parallelBatchSize = builder.parallelBatchSize;
+        this.asyncExecutor = builder.asyncExecutor;
+        this.iterativeDeepMapping = builder.iterativeDeepMapping;
+        this.maxMappingDepth = builder.maxMappingDepth;
+        this.maxMappingNodes = builder.maxMappingNodes;
+        this.diagnostics = builder.diagnostics;
+        this.traceMappings = builder.traceMappings;
+        this.metricsSink = builder.metricsSink;
+        this.flightRecorderEvents = builder.flightRecorderEvents;
+        this.instantiationStrategy = builder.instantiationStrategy;
+    }
+
+    /**
+     * @return true if mapping plans are executed by mappers generated at runtime when it is possible
+     */
+    public boolean isGeneratedMappers() {
+        return generatedMappers;
+    }
+
+    /**
+     * @return true if array properties of the same primitive type are shared by reference between origin and target
+     */
+    public boolean isSharedPrimitiveArrays() {
+        return sharedPrimitiveArrays;
+    }
+
+    /**
+     * @return maximum number of objects mapped by a single task of the parallel batch mapping
+     */
+    public int getParallelBatchSize() {
+        return parallelBatchSize;
+    }
+
+    /**
+     * @return executor of the asynchronous mapping, null for the default executor
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * @return true if deep mapping walks the graph with a work queue instead of recursion
+     */
+    public boolean isIterativeDeepMapping() {
+        return iterativeDeepMapping;
+    }
+
+    /**
+     * @return maximum depth of the iterative deep mapping, 0 for no limit
+     */
+    public int getMaxMappingDepth() {
+        return maxMappingDepth;
+    }
+
+    /**
+     * @return maximum number of objects mapped by an iterative deep mapping, 0 for no limit
+     */
+    public int getMaxMappingNodes() {
+        return maxMappingNodes;
+    }
+
+    /**
+     * @return diagnostics of the engine, null for the default diagnostics
+     */
+    public MappingDiagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * @return true if each mapping is traced on the diagnostics
+     */
+    public boolean isTraceMappings() {
+        return traceMappings;
+    }
+
+    /**
+     * @return sink of the mapping metrics, null if metrics are disabled
+     */
+    public MetricsSink getMetricsSink() {
+        return metricsSink;
+    }
+
+    /**
+     * @return true if mappings are reported as events to the flight recorder
+     */
+    public boolean isFlightRecorderEvents() {
+        return flightRecorderEvents;
+    }
+
+    /**
+     * @return strategy of the default factories of the target objects
+     */
+    public InstantiationStrategy getInstantiationStrategy() {
+        return instantiationStrategy;
+    }
+
+    /**
+     * @return builder initialized with the values of this configuration
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder();
+        builder.generatedMappers = generatedMappers;
+        builder.sharedPrimitiveArrays = sharedPrimitiveArrays;
+        builder.parallelBatchSize = parallelBatchSize;
+        builder.asyncExecutor = asyncExecutor;
+        builder.iterativeDeepMapping = iterativeDeepMapping;
+        builder.maxMappingDepth = maxMappingDepth;
+        builder.maxMappingNodes = maxMappingNodes;
+        builder.diagnostics = diagnostics;
+        builder.traceMappings = traceMappings;
+        builder.metricsSink = metricsSink;
+        builder.flightRecorderEvents = flightRecorderEvents;
+        builder.instantiationStrategy = instantiationStrategy;
+        return builder;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder of {@link OTAMapConfiguration}
+     */
+    public static class Builder {
+        private boolean generatedMappers;
+        private boolean sharedPrimitiveArrays;
+        private int parallelBatchSize = 1024;
+        private Executor asyncExecutor;
+        private boolean iterativeDeepMapping;
+        private int maxMappingDepth;
+        private int maxMappingNodes;
+        private MappingDiagnostics diagnostics;
+        private boolean traceMappings;
+        private MetricsSink metricsSink;
+        private boolean flightRecorderEvents = true;
+        private InstantiationStrategy instantiationStrategy = InstantiationStrategy.METHOD_HANDLE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param generatedMappers if true mapping plans are executed by mappers generated at runtime,
+         * with fallback to the reflective mapping when generation is not possible
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder generatedMappers(boolean generatedMappers) {
+            this.generatedMappers = generatedMappers;
+            return this;
+        }
+
+        /**
+         * @param sharedPrimitiveArrays if true array properties of the same primitive type are assigned to the target
+         * by reference, otherwise they are copied
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder sharedPrimitiveArrays(boolean sharedPrimitiveArrays) {
+            this.sharedPrimitiveArrays = sharedPrimitiveArrays;
+            return this;
+        }
+
+        /**
+         * @param parallelBatchSize maximum number of objects mapped by a single task of the parallel batch mapping,
+         * the input is split until the parts are not greater than this size
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the size is not positive
+         */
+        public Builder parallelBatchSize(int parallelBatchSize) {
+            if (parallelBatchSize <= 0) {
+                throw new OTException("PARALLEL BATCH SIZE MUST BE POSITIVE");
+            }
+            this.parallelBatchSize = parallelBatchSize;
+            return this;
+        }
+
+        /**
+         * @param asyncExecutor executor of the asynchronous mapping, if null a virtual thread for each mapping
+         * when the runtime supports them, otherwise a bounded pool of daemon threads
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder asyncExecutor(Executor asyncExecutor) {
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        /**
+         * @param iterativeDeepMapping if true deep mapping walks the graph with a work queue, so the depth of the graph
+         * is not limited by the thread's stack. The custom operations of nested objects are executed
+         * after the custom operations of their owners
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder iterativeDeepMapping(boolean iterativeDeepMapping) {
+            this.iterativeDeepMapping = iterativeDeepMapping;
+            return this;
+        }
+
+        /**
+         * @param maxMappingDepth maximum depth of the iterative deep mapping, the root has depth 0. 0 for no limit
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the depth is negative
+         */
+        public Builder maxMappingDepth(int maxMappingDepth) {
+            if (maxMappingDepth < 0) {
+                throw new OTException("MAX MAPPING DEPTH CANNOT BE NEGATIVE");
+            }
+            this.maxMappingDepth = maxMappingDepth;
+            return this;
+        }
+
+        /**
+         * @param maxMappingNodes maximum number of objects mapped by an iterative deep mapping. 0 for no limit
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the number is negative
+         */
+        public Builder maxMappingNodes(int maxMappingNodes) {
+            if (maxMappingNodes < 0) {
+                throw new OTException("MAX MAPPING NODES CANNOT BE NEGATIVE");
+            }
+            this.maxMappingNodes = maxMappingNodes;
+            return this;
+        }
+
+        /**
+         * @param diagnostics diagnostics of the engine, if null messages are recorded by the {@code OTAMap} logger
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder diagnostics(MappingDiagnostics diagnostics) {
+            this.diagnostics = diagnostics;
+            return this;
+        }
+
+        /**
+         * @param traceMappings if true each mapping is traced at level FINEST, otherwise the mapping path
+         * doesn't check the diagnostics at all
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder traceMappings(boolean traceMappings) {
+            this.traceMappings = traceMappings;
+            return this;
+        }
+
+        /**
+         * @param metricsSink sink of the metrics of mappings and transmuter's lookups, if null metrics are disabled
+         * and the engine is not instrumented
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder metricsSink(MetricsSink metricsSink) {
+            this.metricsSink = metricsSink;
+            return this;
+        }
+
+        /**
+         * @param flightRecorderEvents if true mappings, nested mappings and compilations of mapping plans are reported
+         * as events to the flight recorder. Events cost only a check while no recording enables them,
+         * they are never reported when the runtime lacks the {@code jdk.jfr} module
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder flightRecorderEvents(boolean flightRecorderEvents) {
+            this.flightRecorderEvents = flightRecorderEvents;
+            return this;
+        }
+
+        /**
+         * @param instantiationStrategy strategy of the default factories of the target objects,
+         * used for the types without a factory stored in the repository
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the strategy is null
+         */
+        public Builder instantiationStrategy(InstantiationStrategy instantiationStrategy) {
+            if (instantiationStrategy == null) {
+                throw new OTException("INSTANTIATION STRATEGY MANDATORY");
+            }
+            this.instantiationStrategy = instantiationStrategy;
+            return this;
+        }
+
+        /**
+         * @return builded configuration
+         */
+        public OTAMapConfiguration build() {
+            return new OTAMapConfiguration(this);
+        }
+    }
+
+}
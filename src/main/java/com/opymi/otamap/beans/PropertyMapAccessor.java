@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.beans;
+
+import com.opymi.otamap.entry.services.ContainerMapper;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Pre-bound accessor of a property association between origin and target.
+ * Reader and writer are resolved once from {@link PropertyMapDescriptor} and invoked without reflective dispatch
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PropertyMapAccessor {
+    private final PropertyMapDescriptor descriptor;
+    private final MethodHandle reader;
+    private final MethodHandle writer;
+    private final ContainerMapper containerMapper;
+    private final MethodHandle copier;
+
+    /**
+     * @param descriptor property association between origin and target
+     * @param reader origin's read method of type (Object)Object
+     * @param writer target's write method of type (Object,Object)void
+     */
+    public PropertyMapAccessor(PropertyMapDescriptor descriptor, MethodHandle reader, MethodHandle writer) {
+        this(descriptor, reader, writer, null);
+    }
+
+    /**
+     * @param descriptor property association between origin and target
+     * @param reader origin's read method of type (Object)Object
+     * @param writer target's write method of type (Object,Object)void
+     * @param containerMapper mapper of the property if it is a container, otherwise null
+     */
+    public PropertyMapAccessor(PropertyMapDescriptor descriptor, MethodHandle reader, MethodHandle writer, ContainerMapper containerMapper) {
+        this(descriptor, reader, writer, containerMapper, null);
+    }
+
+    /**
+     * @param descriptor property association between origin and target
+     * @param reader origin's read method of type (Object)Object
+     * @param writer target's write method of type (Object,Object)void
+     * @param containerMapper mapper of the property if it is a container, otherwise null
+     * @param copier read method combined with write method of type (Object,Object)void, taking origin and target,
+     * for properties copied without conversion, otherwise null
+     */
+    public PropertyMapAccessor(PropertyMapDescriptor descriptor, MethodHandle reader, MethodHandle writer, ContainerMapper containerMapper, MethodHandle copier) {
+        this.descriptor = descriptor;
+        this.reader = reader;
+        this.writer = writer;
+        this.containerMapper = containerMapper;
+        this.copier = copier;
+    }
+
+    public PropertyMapDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    public PropertyDescriptor getOrigin() {
+        return descriptor.getOrigin();
+    }
+
+    public PropertyDescriptor getTarget() {
+        return descriptor.getTarget();
+    }
+
+    /**
+     * @return mapper of the property if it is a container, otherwise null
+     */
+    public ContainerMapper getContainerMapper() {
+        return containerMapper;
+    }
+
+    /**
+     * @return true if the property is copied by {@link #copy(Object, Object)}
+     */
+    public boolean isDirectCopy() {
+        return copier != null;
+    }
+
+    /**
+     * Copy the origin's property on the target's property, primitive values are not boxed
+     *
+     * @param origin origin object
+     * @param target target object
+     * @throws Throwable anything thrown by the read or the write method
+     */
+    public void copy(Object origin, Object target) throws Throwable {
+        copier.invokeExact(origin, target);
+    }
+
+    /**
+     * @param origin origin object
+     * @return value of the origin's property
+     * @throws Throwable anything thrown by the read method
+     */
+    public Object read(Object origin) throws Throwable {
+        return (Object) reader.invokeExact(origin);
+    }
+
+    /**
+     * @param target target object
+     * @param value value of the target's property
+     * @throws Throwable anything thrown by the write method
+     */
+    public void write(Object target, Object value) throws Throwable {
+        writer.invokeExact(target, value);
+    }
+
+}
@@ -25,9 +25,13 @@
 package com.opymi.otamap.beans;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
 
 /**
- * Describe a property association between origin and target
+ * Describe a property association between origin and target.
+ * The target's property is written by its write method or, for targets created by constructor,
+ * passed as argument of a constructor's parameter
  *
  * @author Antonino Verde
  * @since 2.0
@@ -35,10 +39,24 @@ import java.beans.PropertyDescriptor;
 public class PropertyMapDescriptor {
     private final PropertyDescriptor origin;
     private final PropertyDescriptor target;
+    private final Parameter targetParameter;
+    private final int parameterIndex;
 
     public PropertyMapDescriptor(PropertyDescriptor origin, PropertyDescriptor target) {
+        this(origin, target, null, -1);
+    }
+
+    /**
+     * @param origin origin's property
+     * @param target target's property
+     * @param targetParameter constructor's parameter of the target's property
+     * @param parameterIndex index of the constructor's parameter
+     */
+    public PropertyMapDescriptor(PropertyDescriptor origin, PropertyDescriptor target, Parameter targetParameter, int parameterIndex) {
         this.origin = origin;
         this.target = target;
+        this.targetParameter = targetParameter;
+        this.parameterIndex = parameterIndex;
     }
 
     public PropertyDescriptor getOrigin() {
@@ -49,4 +67,32 @@ public class PropertyMapDescriptor {
         return target;
     }
 
+    /**
+     * @return true if the target's property is passed as argument of a constructor's parameter
+     */
+    public boolean isConstructorParameter() {
+        return targetParameter != null;
+    }
+
+    /**
+     * @return index of the constructor's parameter of the target's property, -1 if the property is written by its write method
+     */
+    public int getParameterIndex() {
+        return parameterIndex;
+    }
+
+    /**
+     * @return type of the target's property
+     */
+    public Class<?> getTargetType() {
+        return targetParameter != null ? targetParameter.getType() : target.getPropertyType();
+    }
+
+    /**
+     * @return generic type of the target's property, taken from the constructor's parameter or from the write method
+     */
+    public Type getTargetGenericType() {
+        return targetParameter != null ? targetParameter.getParameterizedType() : target.getWriteMethod().getGenericParameterTypes()[0];
+    }
+
 }
@@ -24,9 +24,17 @@
 
 package com.opymi.otamap.entry;
 
+import com.opymi.otamap.beans.MappingContext;
 import com.opymi.otamap.exceptions.AccessPropertyException;
 import com.opymi.otamap.exceptions.CreateInstanceException;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
 /**
  * Core engine to build a {@param <TARGET>} object from an {@param <ORIGIN>} object
  *
@@ -51,6 +59,21 @@ public interface OTAMap<ORIGIN, TARGET> {
      */
     TARGET map(ORIGIN origin, TARGET target, boolean deepAutomatedMapping);
 
+    /**
+     * Build deeply the target's object from origin's object within the mapping context.
+     * Each origin's instance of the graph is mapped once: repeated references and cycles
+     * are reproduced on the targets, also across the mappings that share the context
+     *
+     * @param origin origin object
+     * @param target target object, if null a new instance is created
+     * @param context context of the mapping
+     * @return builded target object
+     *
+     * @throws com.opymi.otamap.exceptions.OTException if context is null
+     * @see OTAMap#map(ORIGIN, TARGET, boolean)
+     */
+    TARGET map(ORIGIN origin, TARGET target, MappingContext context);
+
     /**
      * @see OTAMap#map(ORIGIN, TARGET, boolean)
      */
@@ -66,4 +89,136 @@ public interface OTAMap<ORIGIN, TARGET> {
      */
     TARGET map(ORIGIN origin);
 
+    /**
+     * Build the target's objects from origin's objects.
+     * Transmuter and mapping plan are resolved once for the whole batch
+     *
+     * @param origins origin objects
+     * @param deepAutomatedMapping mapping mode
+     * @return builded target objects in the same order of origins, null for null origins
+     *
+     * @throws AccessPropertyException
+     * @throws CreateInstanceException
+     */
+    List<TARGET> mapAll(Iterable<ORIGIN> origins, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapAll(Iterable, boolean)
+     */
+    List<TARGET> mapAll(Iterable<ORIGIN> origins);
+
+    /**
+     * @see OTAMap#mapAll(Iterable, boolean)
+     */
+    List<TARGET> mapAll(ORIGIN[] origins, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapAll(Iterable, boolean)
+     */
+    List<TARGET> mapAll(ORIGIN[] origins);
+
+    /**
+     * Build each target's object from the origin's object at the same position.
+     * Null targets are replaced by new instances
+     *
+     * @param origins origin objects
+     * @param targets target objects, same size of origins
+     * @param deepAutomatedMapping mapping mode
+     * @return targets
+     *
+     * @throws com.opymi.otamap.exceptions.OTException if origins and targets have different sizes
+     * @see OTAMap#mapAll(Iterable, boolean)
+     */
+    List<TARGET> mapInto(List<ORIGIN> origins, List<TARGET> targets, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapInto(List, List, boolean)
+     */
+    List<TARGET> mapInto(List<ORIGIN> origins, List<TARGET> targets);
+
+    /**
+     * Build lazily the target's objects of the origin's stream
+     *
+     * @param origins origin objects
+     * @param deepAutomatedMapping mapping mode
+     * @return stream of builded target objects
+     *
+     * @see OTAMap#mapAll(Iterable, boolean)
+     */
+    Stream<TARGET> mapStream(Stream<ORIGIN> origins, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapStream(Stream, boolean)
+     */
+    Stream<TARGET> mapStream(Stream<ORIGIN> origins);
+
+    /**
+     * Build the target's objects from origin's objects in parallel.
+     * The origins are split in parts mapped by tasks of the pool, targets keep the order of the origins
+     *
+     * @param origins origin objects
+     * @param pool pool that executes the mapping tasks
+     * @param deepAutomatedMapping mapping mode
+     * @return builded target objects in the same order of origins, null for null origins
+     *
+     * @throws AccessPropertyException
+     * @throws CreateInstanceException
+     * @see OTAMap#mapAll(Iterable, boolean)
+     */
+    List<TARGET> mapAllParallel(Collection<ORIGIN> origins, ForkJoinPool pool, boolean deepAutomatedMapping);
+
+    /**
+     * @param executor executor of the mapping tasks, one task for each part of the origins
+     * @see OTAMap#mapAllParallel(Collection, ForkJoinPool, boolean)
+     */
+    List<TARGET> mapAllParallel(Collection<ORIGIN> origins, Executor executor, boolean deepAutomatedMapping);
+
+    /**
+     * Parallel mapping on the {@link ForkJoinPool#commonPool()}
+     *
+     * @see OTAMap#mapAllParallel(Collection, ForkJoinPool, boolean)
+     */
+    List<TARGET> mapAllParallel(Collection<ORIGIN> origins, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapAllParallel(Collection, boolean)
+     */
+    List<TARGET> mapAllParallel(Collection<ORIGIN> origins);
+
+    /**
+     * Build asynchronously the target's object from origin's object on the configured executor,
+     * by default a virtual thread for each mapping when the runtime supports them
+     *
+     * @param origin origin object
+     * @param deepAutomatedMapping mapping mode
+     * @return future completed with the builded target object, null for null origin,
+     * or completed exceptionally with the mapping error
+     *
+     * @see OTAMap#map(ORIGIN, TARGET, boolean)
+     */
+    CompletableFuture<TARGET> mapAsync(ORIGIN origin, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapAsync(ORIGIN, boolean)
+     */
+    CompletableFuture<TARGET> mapAsync(ORIGIN origin);
+
+    /**
+     * Build asynchronously the target's objects from origin's objects on the configured executor.
+     * The origins are mapped by a single task, so they must not be changed until the future is completed
+     *
+     * @param origins origin objects
+     * @param deepAutomatedMapping mapping mode
+     * @return future completed with the builded target objects in the same order of origins
+     *
+     * @see OTAMap#mapAll(Iterable, boolean)
+     * @see OTAMap#mapAsync(ORIGIN, boolean)
+     */
+    CompletableFuture<List<TARGET>> mapAllAsync(Iterable<ORIGIN> origins, boolean deepAutomatedMapping);
+
+    /**
+     * @see OTAMap#mapAllAsync(Iterable, boolean)
+     */
+    CompletableFuture<List<TARGET>> mapAllAsync(Iterable<ORIGIN> origins);
+
 }
@@ -24,6 +24,7 @@
 
 package com.opymi.otamap.entry;
 
+import com.opymi.otamap.beans.ConstructorDescriptor;
 import com.opymi.otamap.beans.PropertyMapDescriptor;
 
 import java.util.List;
@@ -41,9 +42,24 @@ public interface OTMapper<ORIGIN, TARGET> extends OTTransmuter<ORIGIN, TARGET> {
      */
     List<PropertyMapDescriptor> generatePropertyMapDescriptors();
 
+    /**
+     * @return constructor that creates the target from the mapped properties, null if the target is created empty
+     * and its properties are written by their write methods
+     */
+    default ConstructorDescriptor getTargetConstructor() {
+        return null;
+    }
+
     /**
      * @return {@link OTCustomMapperOperation} custom behavior for the mapping
      */
     OTCustomMapperOperation<ORIGIN, TARGET> getCustomMapper();
 
+    /**
+     * @return version of the mapper configuration, it changes every time the configuration is modified
+     */
+    default int getConfigurationVersion() {
+        return 0;
+    }
+
 }
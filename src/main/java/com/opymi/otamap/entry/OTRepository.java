@@ -24,8 +24,10 @@
 
 package com.opymi.otamap.entry;
 
+import com.opymi.otamap.exceptions.OTException;
+
 /**
- * Repository of {@link OTTransmuter} defined by user
+ * Repository of {@link OTTransmuter} and {@link InstanceFactory} defined by user
  *
  * @author Antonino Verde
  * @since 2.0
@@ -58,6 +60,45 @@ public interface OTRepository {
      */
     <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> get(Class<ORIGIN> origin, Class<TARGET> target);
 
+    /**
+     * Retrieve the transmuter for types with a single lookup, replaces {@link #exists(Class, Class)} followed by {@link #get(Class, Class)}
+     *
+     * @param origin origin's type
+     * @param target target's type
+     *
+     * @return transmuter for types or null if it doesn't exist
+     * @since 2.1
+     */
+    default <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> find(Class<ORIGIN> origin, Class<TARGET> target) {
+        return exists(origin, target) ? get(origin, target) : null;
+    }
+
+    /**
+     * Retrieve the transmuter for types or store the one defined by {@param definer} if it doesn't exist.
+     * The default implementation is built on {@link #find(Class, Class)} and {@link #store(OTTransmuter)} and is not atomic,
+     * implementations shared by threads should override it so that concurrent calls for the same types invoke the definer only once
+     *
+     * @param origin origin's type
+     * @param target target's type
+     * @param definer definer of the transmuter, invoked only if the transmuter doesn't exist
+     *
+     * @return transmuter for types
+     * @throws OTException if definer is null
+     * @since 2.1
+     */
+    default <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> computeIfAbsent(Class<ORIGIN> origin, Class<TARGET> target, OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        OTTransmuter<ORIGIN, TARGET> transmuter = find(origin, target);
+        if (transmuter != null) {
+            return transmuter;
+        }
+        if (definer == null) {
+            throw new OTException("DEFINER IS NULL");
+        }
+        transmuter = definer.define(this);
+        store(transmuter);
+        return transmuter;
+    }
+
     /**
      * remove transmuter by types
      */
@@ -68,4 +109,40 @@ public interface OTRepository {
      */
     <ORIGIN, TARGET> void remove(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer);
 
+    /**
+     * @return true if the repository stores instance factories, the default implementation doesn't support them
+     * @since 2.1
+     */
+    default boolean supportsInstanceFactories() {
+        return false;
+    }
+
+    /**
+     * store {@param instanceFactory}, it replaces the factory of the same type.
+     * A mapping looks up the factory of its target's type at each instance creation, so a factory stored or removed later is honored.
+     * The default implementation ignores the factory, see {@link #supportsInstanceFactories()}
+     *
+     * @since 2.1
+     */
+    default <TARGET> void storeInstanceFactory(InstanceFactory<TARGET> instanceFactory) {
+    }
+
+    /**
+     * @param type type of the created objects
+     *
+     * @return factory stored for type or null if it doesn't exist, the default implementation always returns null
+     * @since 2.1
+     */
+    default <TARGET> InstanceFactory<TARGET> findInstanceFactory(Class<TARGET> type) {
+        return null;
+    }
+
+    /**
+     * remove factory by type, the default implementation has no factory to remove
+     *
+     * @since 2.1
+     */
+    default <TARGET> void removeInstanceFactory(Class<TARGET> type) {
+    }
+
 }
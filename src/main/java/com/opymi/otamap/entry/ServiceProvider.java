@@ -25,36 +25,71 @@
 package com.opymi.otamap.entry;
 
 import com.opymi.otamap.annotations.OTAService;
+import com.opymi.otamap.entry.services.InstanceFactoryProvider;
 import com.opymi.otamap.entry.services.OTAMapProvider;
 import com.opymi.otamap.entry.services.OTConverterProvider;
 import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
 import com.opymi.otamap.exceptions.OTException;
 import com.opymi.otamap.services.converter.OTConverterProviderImp;
+import com.opymi.otamap.services.instance.InstanceFactoryProviderImp;
 import com.opymi.otamap.services.mapper.OTMapperBuilderProviderImp;
 import com.opymi.otamap.services.ota.OTAMapProviderImp;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
 /**
- * Provider of available library resources {@link OTAService}
+ * Provider of available library resources {@link OTAService}.
+ * Each service is resolved once: the first implementation registered for {@link ServiceLoader} is used,
+ * otherwise the library implementation. Resolved services are shared, so they must be stateless or immutable
  *
  * @author Antonino Verde
  * @since 2.0
  */
 public class ServiceProvider {
 
+    /**
+     * Lazy holder of the resolved services
+     */
+    private static final class Services {
+        private static final Map<Class<?>, Object> SERVICES = resolveServices();
+    }
+
+    private ServiceProvider() {
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T getService(Class<T> service) {
-        if(service.getAnnotation(OTAService.class) != null) {
-            if(OTAMapProvider.class.equals(service)) {
-                return (T) new OTAMapProviderImp();
-            }
-            else if(OTMapperBuilderProvider.class.equals(service)) {
-                return (T) new OTMapperBuilderProviderImp();
-            }
-            else if(OTConverterProvider.class.equals(service)) {
-                return (T) new OTConverterProviderImp();
-            }
+        T instance = service == null ? null : (T) Services.SERVICES.get(service);
+        if (instance == null) {
+            throw new OTException((service == null ? null : service.getName()) + " UNMANAGED RESOURCE");
+        }
+        return instance;
+    }
+
+    private static Map<Class<?>, Object> resolveServices() {
+        Map<Class<?>, Object> services = new HashMap<>();
+        register(services, OTAMapProvider.class, OTAMapProviderImp::new);
+        register(services, OTMapperBuilderProvider.class, OTMapperBuilderProviderImp::new);
+        register(services, OTConverterProvider.class, OTConverterProviderImp::new);
+        register(services, InstanceFactoryProvider.class, InstanceFactoryProviderImp::new);
+        return Map.copyOf(services);
+    }
+
+    private static <T> void register(Map<Class<?>, Object> services, Class<T> service, Supplier<? extends T> defaultService) {
+        if (service.getAnnotation(OTAService.class) == null) {
+            throw new OTException(service.getName() + " IS NOT A LIBRARY RESOURCE");
+        }
+        T instance;
+        try {
+            instance = ServiceLoader.load(service, ServiceProvider.class.getClassLoader()).findFirst().orElseGet(defaultService);
+        } catch (ServiceConfigurationError e) {
+            throw new OTException("CANNOT LOAD " + service.getName(), e);
         }
-        throw new OTException(service.getName() + " UNMANAGED RESOURCE");
+        services.put(service, instance);
     }
 
 }
@@ -24,6 +24,12 @@
 
 package com.opymi.otamap.entry.services;
 
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Utility to evaluate java base type
  *
@@ -45,4 +51,56 @@ public interface JTypeEvaluator {
      * @return true if the type is unsupported
      */
     boolean isUnsupportedType(Class<?> type);
+
+    /**
+     * @param type type to evaluate
+     * @return true if the type is an array, a {@link Collection} or a {@link Map}
+     * @since 2.1
+     */
+    default boolean isContainerType(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    /**
+     * The default implementation supports only public concrete types with a public no-arg constructor
+     *
+     * @param type collection's type or map's type
+     * @return concrete type to instantiate for the container's type or null if it cannot be instantiated
+     * @since 2.1
+     */
+    default Class<?> retrieveContainerImplementation(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        try {
+            type.getConstructor();
+            return type;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolve the type argument of a generic type, e.g. E of {@link Collection} for {@code ArrayList<String>}.
+     * The default implementation resolves only a type argument declared directly on {@param genericType}, e.g. {@code List<String>} for E of {@link java.util.List}
+     *
+     * @param type generic type to resolve
+     * @param genericType class declaring the type parameter
+     * @param index index of the type parameter
+     *
+     * @return erasure of the type argument or {@link Object} if it cannot be resolved
+     * @since 2.1
+     */
+    default Class<?> resolveTypeArgument(Type type, Class<?> genericType, int index) {
+        if (type instanceof ParameterizedType && genericType.equals(((ParameterizedType) type).getRawType())) {
+            Type typeArgument = ((ParameterizedType) type).getActualTypeArguments()[index];
+            if (typeArgument instanceof Class) {
+                return (Class<?>) typeArgument;
+            } else if (typeArgument instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) typeArgument).getRawType();
+            }
+        }
+        return Object.class;
+    }
+
 }
@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.entry.services;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Diagnostics of the mapping engine.
+ * Messages are supplied lazily and built only when their level is enabled
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public interface MappingDiagnostics {
+
+    /**
+     * @param level level of the message
+     * @return true if messages of the level are recorded
+     */
+    boolean isEnabled(Level level);
+
+    /**
+     * @param level level of the message
+     * @param message supplier of the message, invoked only if the level is enabled
+     */
+    void log(Level level, Supplier<String> message);
+
+    /**
+     * @param level level of the message
+     * @param cause cause of the message
+     * @param message supplier of the message, invoked only if the level is enabled
+     */
+    void log(Level level, Throwable cause, Supplier<String> message);
+
+}
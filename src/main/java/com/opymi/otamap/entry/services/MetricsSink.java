@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.entry.services;
+
+/**
+ * Receiver of the metrics of the mapping engine, recorded for each pair of origin's type and target's type.
+ * Methods are invoked on the mapping threads and must not block
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public interface MetricsSink {
+
+    /**
+     * Record a successful mapping
+     *
+     * @param origin origin's type
+     * @param target target's type
+     * @param durationNanos duration of the mapping in nanoseconds
+     */
+    void recordMapping(Class<?> origin, Class<?> target, long durationNanos);
+
+    /**
+     * Record a mapping of a nested property started by a mapping of the owner
+     *
+     * @param origin origin's type of the property
+     * @param target target's type of the property
+     */
+    void recordNestedMapping(Class<?> origin, Class<?> target);
+
+    /**
+     * Record a failed mapping
+     *
+     * @param origin origin's type
+     * @param target target's type
+     * @param error error of the mapping
+     */
+    void recordError(Class<?> origin, Class<?> target, Throwable error);
+
+    /**
+     * Record a lookup of the transmuter in the repository
+     *
+     * @param origin origin's type
+     * @param target target's type
+     * @param durationNanos duration of the lookup in nanoseconds
+     */
+    void recordLookup(Class<?> origin, Class<?> target, long durationNanos);
+
+}
@@ -25,8 +25,10 @@
 package com.opymi.otamap.entry.services;
 
 import com.opymi.otamap.annotations.OTAService;
+import com.opymi.otamap.beans.OTAMapConfiguration;
 import com.opymi.otamap.entry.OTAMap;
 import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.services.ota.OTAMapProviderImp;
 
 /**
  * {@link OTAMap} Factory
@@ -55,4 +57,27 @@ public interface OTAMapProvider {
      */
     <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> getOTAMap(Class<ORIGIN> origin, Class<TARGET> target);
 
+    /**
+     * @return configuration of the {@link OTAMap} instances created by this provider,
+     * the default implementation returns {@link OTAMapConfiguration#DEFAULT}
+     * @since 2.1
+     */
+    default OTAMapConfiguration getConfiguration() {
+        return OTAMapConfiguration.DEFAULT;
+    }
+
+    /**
+     * Create a provider of {@link OTAMap} instances with a different configuration.
+     * The default implementation returns the {@link OTAMapProviderImp} of the configuration,
+     * providers that support the configuration should override it
+     *
+     * @param configuration
+     * @return {@link OTAMapProvider} instance
+     * @throws com.opymi.otamap.exceptions.OTException if configuration is null
+     * @since 2.1
+     */
+    default OTAMapProvider withConfiguration(OTAMapConfiguration configuration) {
+        return new OTAMapProviderImp(configuration);
+    }
+
 }
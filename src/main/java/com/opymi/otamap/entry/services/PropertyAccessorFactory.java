@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.entry.services;
+
+import com.opymi.otamap.beans.ConstructorAccessor;
+import com.opymi.otamap.beans.ConstructorDescriptor;
+import com.opymi.otamap.beans.PropertyMapAccessor;
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+
+/**
+ * Factory of property accessors {@link PropertyMapAccessor}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public interface PropertyAccessorFactory {
+
+    /**
+     * Resolve read and write methods of the descriptor into pre-bound accessor
+     *
+     * @param descriptor property association between origin and target
+     * @return {@link PropertyMapAccessor}
+     */
+    PropertyMapAccessor createAccessor(PropertyMapDescriptor descriptor);
+
+    /**
+     * Resolve the constructor of the descriptor into pre-bound accessor
+     *
+     * @param descriptor constructor that creates a target from the values of its properties
+     * @return {@link ConstructorAccessor}
+     */
+    ConstructorAccessor createConstructorAccessor(ConstructorDescriptor descriptor);
+
+}
@@ -24,6 +24,9 @@
 
 package com.opymi.otamap.entry.services;
 
+import com.opymi.otamap.beans.ConstructorDescriptor;
+
+import java.beans.ConstructorProperties;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.util.List;
@@ -55,4 +58,15 @@ public interface TypeScanner {
      */
     Set<String> retrieveDeclaredFieldsNames(Class<?> type);
 
+    /**
+     * @param type
+     * @return descriptor of the canonical constructor of a record or of the constructor annotated by {@link ConstructorProperties}
+     * of a type without no-arg constructor, null if the type is created by its no-arg constructor.
+     * The default implementation returns null, types are created by their no-arg constructor without constructor mapping
+     * @since 2.1
+     */
+    default ConstructorDescriptor retrieveConstructorDescriptor(Class<?> type) {
+        return null;
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+/**
+ * {@link ContainerMapper} of an array target from an array or a {@link Collection} origin
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ArrayMapperImp implements ContainerMapper {
+    private final Class<?> componentType;
+    private final boolean assignable;
+
+    /**
+     * @param componentType type of the target's elements
+     * @param assignable true if origin's elements are copied without mapping
+     */
+    public ArrayMapperImp(Class<?> componentType, boolean assignable) {
+        this.componentType = componentType;
+        this.assignable = assignable;
+    }
+
+    @Override
+    public Object map(Object originContainer, ElementMapper elementMapper) {
+        if (originContainer instanceof Collection) {
+            Collection<?> origin = (Collection<?>) originContainer;
+            Object target = Array.newInstance(componentType, origin.size());
+            int index = 0;
+            for (Object originElement : origin) {
+                setElement(target, index++, assignable ? originElement : mapElement(originElement, elementMapper));
+            }
+            return target;
+        }
+
+        int length = Array.getLength(originContainer);
+        Object target = Array.newInstance(componentType, length);
+        if (assignable && !componentType.isPrimitive()) {
+            System.arraycopy(originContainer, 0, target, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                Object originElement = Array.get(originContainer, i);
+                setElement(target, i, assignable ? originElement : mapElement(originElement, elementMapper));
+            }
+        }
+        return target;
+    }
+
+    private Object mapElement(Object originElement, ElementMapper elementMapper) {
+        return originElement != null ? elementMapper.mapElement(originElement, componentType) : null;
+    }
+
+    /**
+     * Set the element, a null element of a primitive array keeps the default value
+     */
+    private void setElement(Object target, int index, Object targetElement) {
+        if (targetElement != null || !componentType.isPrimitive()) {
+            Array.set(target, index, targetElement);
+        }
+    }
+
+}
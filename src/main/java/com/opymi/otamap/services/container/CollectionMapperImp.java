@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+import com.opymi.otamap.exceptions.OTException;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * {@link ContainerMapper} of a {@link Collection} target from an array or a {@link Collection} origin.
+ * A sorted target keeps the comparator of a {@link SortedSet} origin with assignable elements, otherwise it uses the natural ordering
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class CollectionMapperImp implements ContainerMapper {
+    private final IntFunction<Object> instantiator;
+    private final Function<Comparator<Object>, Object> sortedInstantiator;
+    private final Class<?> elementType;
+    private final boolean assignable;
+    private final boolean nullElements;
+    private final String propertyName;
+
+    /**
+     * @param instantiator creates the target's collection sized for the given number of elements
+     * @param elementType type of the target's elements
+     * @param assignable true if origin's elements are copied without mapping
+     */
+    public CollectionMapperImp(IntFunction<Object> instantiator, Class<?> elementType, boolean assignable) {
+        this(instantiator, null, elementType, assignable, true, null);
+    }
+
+    /**
+     * @param instantiator creates the target's collection sized for the given number of elements
+     * @param sortedInstantiator creates the target's collection ordered by origin's comparator, null if the target isn't sorted
+     * @param elementType type of the target's elements
+     * @param assignable true if origin's elements are copied without mapping
+     * @param nullElements false if the target's collection doesn't accept null elements, e.g. {@link java.util.ArrayDeque}
+     * @param propertyName name of the target's property, reported when an element is rejected
+     */
+    public CollectionMapperImp(IntFunction<Object> instantiator, Function<Comparator<Object>, Object> sortedInstantiator, Class<?> elementType,
+                               boolean assignable, boolean nullElements, String propertyName) {
+        this.instantiator = instantiator;
+        this.sortedInstantiator = sortedInstantiator;
+        this.elementType = elementType;
+        this.assignable = assignable;
+        this.nullElements = nullElements;
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * @throws OTException if the target's collection rejects an element: a null element not supported by the implementation
+     * or by the natural ordering, an element not comparable by the target's ordering
+     */
+    @Override
+    public Object map(Object originContainer, ElementMapper elementMapper) {
+        if (originContainer instanceof Collection) {
+            Collection<?> origin = (Collection<?>) originContainer;
+            Collection<Object> target = createTarget(origin, origin.size());
+            boolean nullAccepted = isNullAccepted(target);
+            if (assignable && nullAccepted) {
+                try {
+                    target.addAll(origin);
+                } catch (ClassCastException cause) {
+                    throw createNotComparableException(target, cause);
+                }
+            } else {
+                for (Object originElement : origin) {
+                    add(target, assignable ? originElement : mapElement(originElement, elementMapper), nullAccepted);
+                }
+            }
+            return target;
+        }
+
+        int length = Array.getLength(originContainer);
+        Collection<Object> target = createTarget(originContainer, length);
+        boolean nullAccepted = isNullAccepted(target);
+        if (assignable && nullAccepted && originContainer instanceof Object[]) {
+            try {
+                Collections.addAll(target, (Object[]) originContainer);
+            } catch (ClassCastException cause) {
+                throw createNotComparableException(target, cause);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                Object originElement = Array.get(originContainer, i);
+                add(target, assignable ? originElement : mapElement(originElement, elementMapper), nullAccepted);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @return target's collection, ordered by origin's comparator if both are sorted and origin's elements are copied
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> createTarget(Object originContainer, int size) {
+        if (sortedInstantiator != null && assignable && originContainer instanceof SortedSet) {
+            Comparator<Object> comparator = (Comparator<Object>) ((SortedSet<?>) originContainer).comparator();
+            if (comparator != null) {
+                return (Collection<Object>) sortedInstantiator.apply(comparator);
+            }
+        }
+        return (Collection<Object>) instantiator.apply(size);
+    }
+
+    /**
+     * @return false if the implementation or the natural ordering of a sorted target rejects null elements
+     */
+    private boolean isNullAccepted(Collection<Object> target) {
+        return nullElements && !(target instanceof SortedSet && ((SortedSet<?>) target).comparator() == null);
+    }
+
+    private void add(Collection<Object> target, Object element, boolean nullAccepted) {
+        if (element == null && !nullAccepted) {
+            throw new OTException("NULL ELEMENT NOT SUPPORTED BY " + target.getClass().getName() + " " + propertyName);
+        }
+        try {
+            target.add(element);
+        } catch (ClassCastException cause) {
+            throw createNotComparableException(target, cause);
+        }
+    }
+
+    private OTException createNotComparableException(Collection<Object> target, ClassCastException cause) {
+        return new OTException("ELEMENT NOT COMPARABLE BY " + target.getClass().getName() + " " + propertyName, cause);
+    }
+
+    private Object mapElement(Object originElement, ElementMapper elementMapper) {
+        return originElement != null ? elementMapper.mapElement(originElement, elementType) : null;
+    }
+
+}
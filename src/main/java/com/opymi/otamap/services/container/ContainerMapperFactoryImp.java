@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ContainerMapperFactory;
+import com.opymi.otamap.entry.services.JTypeEvaluator;
+import com.opymi.otamap.exceptions.OTException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Factory of {@link ContainerMapper} for arrays, {@link Collection} and {@link Map}.
+ * Elements' types are resolved from the generic types of origin's read method and target's write method or constructor's parameter,
+ * when origin's elements are assignable to target's elements the container is copied without mapping each element.
+ * Primitive arrays are copied in bulk, see {@link PrimitiveArrayMapperImp}.
+ * Sorted containers keep the comparator of a sorted origin with assignable elements, null elements or keys rejected by the
+ * implementation fail with an {@link OTException} naming the target's property
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ContainerMapperFactoryImp implements ContainerMapperFactory {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private JTypeEvaluator jTypeEvaluator;
+    private boolean sharedPrimitiveArrays;
+
+    @Override
+    public ContainerMapper createContainerMapper(PropertyMapDescriptor descriptor) {
+        PropertyDescriptor originProperty = descriptor.getOrigin();
+        PropertyDescriptor targetProperty = descriptor.getTarget();
+        Class<?> originType = originProperty.getPropertyType();
+        Class<?> targetType = descriptor.getTargetType();
+        if (!jTypeEvaluator.isContainerType(targetType)) {
+            return null;
+        }
+
+        Type originGenericType = originProperty.getReadMethod().getGenericReturnType();
+        Type targetGenericType = descriptor.getTargetGenericType();
+
+        if (Map.class.isAssignableFrom(targetType)) {
+            if (!Map.class.isAssignableFrom(originType)) {
+                throw createUnsupportedException(originProperty, targetProperty, targetType);
+            }
+            Class<?> originKeyType = jTypeEvaluator.resolveTypeArgument(originGenericType, Map.class, 0);
+            Class<?> originValueType = jTypeEvaluator.resolveTypeArgument(originGenericType, Map.class, 1);
+            Class<?> targetKeyType = jTypeEvaluator.resolveTypeArgument(targetGenericType, Map.class, 0);
+            Class<?> targetValueType = jTypeEvaluator.resolveTypeArgument(targetGenericType, Map.class, 1);
+            Class<?> implementation = retrieveImplementation(targetType);
+            return new MapMapperImp(createInstantiator(implementation), createSortedInstantiator(implementation), targetKeyType, targetValueType,
+                    isAssignable(originKeyType, targetKeyType), isAssignable(originValueType, targetValueType),
+                    isNullEntriesSupported(implementation), targetProperty.getName());
+        }
+
+        if (!originType.isArray() && !Collection.class.isAssignableFrom(originType)) {
+            throw createUnsupportedException(originProperty, targetProperty, targetType);
+        }
+        Class<?> originElementType = retrieveElementType(originType, originGenericType);
+        Class<?> targetElementType = retrieveElementType(targetType, targetGenericType);
+        boolean assignable = isAssignable(originElementType, targetElementType);
+
+        if (originType.isArray() && targetType.isArray() && isPrimitiveArrays(originElementType, targetElementType)) {
+            return new PrimitiveArrayMapperImp(originElementType, targetElementType, sharedPrimitiveArrays);
+        }
+
+        if (targetType.isArray()) {
+            return new ArrayMapperImp(targetElementType, assignable);
+        }
+        Class<?> implementation = retrieveImplementation(targetType);
+        return new CollectionMapperImp(createInstantiator(implementation), createSortedInstantiator(implementation), targetElementType, assignable,
+                isNullElementsSupported(implementation), targetProperty.getName());
+    }
+
+    /**
+     * @return type of the elements of an array or of a collection
+     */
+    private Class<?> retrieveElementType(Class<?> type, Type genericType) {
+        return type.isArray() ? type.getComponentType() : jTypeEvaluator.resolveTypeArgument(genericType, Collection.class, 0);
+    }
+
+    /**
+     * @return true if origin's elements can be copied in the target's container without mapping
+     */
+    private boolean isAssignable(Class<?> originElementType, Class<?> targetElementType) {
+        if (originElementType.isPrimitive() || targetElementType.isPrimitive()) {
+            return originElementType.equals(targetElementType);
+        }
+        return targetElementType.isAssignableFrom(originElementType);
+    }
+
+    /**
+     * @return true if the components are the same primitive or a primitive and its wrapper
+     */
+    private boolean isPrimitiveArrays(Class<?> originComponentType, Class<?> targetComponentType) {
+        return (originComponentType.isPrimitive() && originComponentType.equals(targetComponentType))
+                || jTypeEvaluator.isPrimitivable(originComponentType, targetComponentType);
+    }
+
+    /**
+     * @param type container's type
+     * @return concrete type to instantiate for the container's type
+     * @throws OTException if the container's type cannot be instantiated
+     */
+    private Class<?> retrieveImplementation(Class<?> type) {
+        Class<?> implementation = jTypeEvaluator.retrieveContainerImplementation(type);
+        if (implementation == null) {
+            throw new OTException("TYPE NOT SUPPORTED " + type.getName());
+        }
+        return implementation;
+    }
+
+    /**
+     * @param implementation container's implementation
+     * @return function that creates the container sized for the given number of elements
+     */
+    private IntFunction<Object> createInstantiator(Class<?> implementation) {
+        if (ArrayList.class.equals(implementation)) {
+            return ArrayList::new;
+        } else if (LinkedHashSet.class.equals(implementation)) {
+            return size -> new LinkedHashSet<>(computeHashCapacity(size));
+        } else if (HashSet.class.equals(implementation)) {
+            return size -> new HashSet<>(computeHashCapacity(size));
+        } else if (LinkedHashMap.class.equals(implementation)) {
+            return size -> new LinkedHashMap<>(computeHashCapacity(size));
+        } else if (HashMap.class.equals(implementation)) {
+            return size -> new HashMap<>(computeHashCapacity(size));
+        } else if (ConcurrentHashMap.class.equals(implementation)) {
+            return size -> new ConcurrentHashMap<>(computeHashCapacity(size));
+        } else if (ArrayDeque.class.equals(implementation)) {
+            return ArrayDeque::new;
+        }
+
+        MethodHandle constructor = findConstructor(implementation);
+        return size -> {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (Throwable cause) {
+                throw new OTException("CANNOT CREATE INSTANCE OF " + implementation.getName(), cause);
+            }
+        };
+    }
+
+    /**
+     * @param implementation sorted container's implementation
+     * @return function that creates the container ordered by the given comparator or null if the implementation isn't sorted
+     */
+    private Function<Comparator<Object>, Object> createSortedInstantiator(Class<?> implementation) {
+        if (TreeSet.class.equals(implementation)) {
+            return TreeSet::new;
+        } else if (TreeMap.class.equals(implementation)) {
+            return TreeMap::new;
+        } else if (ConcurrentSkipListSet.class.equals(implementation)) {
+            return ConcurrentSkipListSet::new;
+        } else if (ConcurrentSkipListMap.class.equals(implementation)) {
+            return ConcurrentSkipListMap::new;
+        }
+        return null;
+    }
+
+    /**
+     * @param implementation map's implementation
+     * @return false if the map's implementation rejects null keys or values
+     */
+    private boolean isNullEntriesSupported(Class<?> implementation) {
+        return !ConcurrentMap.class.isAssignableFrom(implementation);
+    }
+
+    /**
+     * @param implementation collection's implementation
+     * @return false if the collection's implementation rejects null elements
+     */
+    private boolean isNullElementsSupported(Class<?> implementation) {
+        return !ArrayDeque.class.isAssignableFrom(implementation) && !ConcurrentSkipListSet.class.isAssignableFrom(implementation);
+    }
+
+    private MethodHandle findConstructor(Class<?> type) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException cause) {
+            throw new OTException("CANNOT CREATE INSTANCE OF " + type.getName(), cause);
+        }
+    }
+
+    /**
+     * @return initial capacity of a hash container that holds the number of elements without rehashing
+     */
+    private int computeHashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private OTException createUnsupportedException(PropertyDescriptor originProperty, PropertyDescriptor targetProperty, Class<?> targetType) {
+        return new OTException("TYPE NOT SUPPORTED " + originProperty.getPropertyType().getSimpleName() + " " + originProperty.getName()
+                + " -> " + targetType.getSimpleName() + " " + targetProperty.getName());
+    }
+
+    public void setjTypeEvaluator(JTypeEvaluator jTypeEvaluator) {
+        this.jTypeEvaluator = jTypeEvaluator;
+    }
+
+    /**
+     * @param sharedPrimitiveArrays if true arrays of the same primitive type are shared by reference instead of copied
+     */
+    public void setSharedPrimitiveArrays(boolean sharedPrimitiveArrays) {
+        this.sharedPrimitiveArrays = sharedPrimitiveArrays;
+    }
+
+}
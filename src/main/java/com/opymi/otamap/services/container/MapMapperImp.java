@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+import com.opymi.otamap.exceptions.OTException;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * {@link ContainerMapper} of a {@link Map} target from a {@link Map} origin.
+ * A sorted target keeps the comparator of a {@link SortedMap} origin with assignable keys, otherwise it uses the natural ordering
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MapMapperImp implements ContainerMapper {
+    private final IntFunction<Object> instantiator;
+    private final Function<Comparator<Object>, Object> sortedInstantiator;
+    private final Class<?> keyType;
+    private final Class<?> valueType;
+    private final boolean assignableKeys;
+    private final boolean assignableValues;
+    private final boolean nullEntries;
+    private final String propertyName;
+
+    /**
+     * @param instantiator creates the target's map sized for the given number of entries
+     * @param keyType type of the target's keys
+     * @param valueType type of the target's values
+     * @param assignableKeys true if origin's keys are copied without mapping
+     * @param assignableValues true if origin's values are copied without mapping
+     */
+    public MapMapperImp(IntFunction<Object> instantiator, Class<?> keyType, Class<?> valueType, boolean assignableKeys, boolean assignableValues) {
+        this(instantiator, null, keyType, valueType, assignableKeys, assignableValues, true, null);
+    }
+
+    /**
+     * @param instantiator creates the target's map sized for the given number of entries
+     * @param sortedInstantiator creates the target's map ordered by origin's comparator, null if the target isn't sorted
+     * @param keyType type of the target's keys
+     * @param valueType type of the target's values
+     * @param assignableKeys true if origin's keys are copied without mapping
+     * @param assignableValues true if origin's values are copied without mapping
+     * @param nullEntries false if the target's map doesn't accept null keys or values, e.g. {@link java.util.concurrent.ConcurrentHashMap}
+     * @param propertyName name of the target's property, reported when an entry is rejected
+     */
+    public MapMapperImp(IntFunction<Object> instantiator, Function<Comparator<Object>, Object> sortedInstantiator, Class<?> keyType, Class<?> valueType,
+                        boolean assignableKeys, boolean assignableValues, boolean nullEntries, String propertyName) {
+        this.instantiator = instantiator;
+        this.sortedInstantiator = sortedInstantiator;
+        this.keyType = keyType;
+        this.valueType = valueType;
+        this.assignableKeys = assignableKeys;
+        this.assignableValues = assignableValues;
+        this.nullEntries = nullEntries;
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * @throws OTException if the target's map rejects an entry: a null key or value not supported by the implementation,
+     * a null key not supported by the natural ordering, a key not comparable by the target's ordering
+     */
+    @Override
+    public Object map(Object originContainer, ElementMapper elementMapper) {
+        Map<?, ?> origin = (Map<?, ?>) originContainer;
+        Map<Object, Object> target = createTarget(origin);
+        boolean nullKeys = nullEntries && !(target instanceof SortedMap && ((SortedMap<?, ?>) target).comparator() == null);
+        if (assignableKeys && assignableValues && nullKeys) {
+            try {
+                target.putAll(origin);
+            } catch (ClassCastException cause) {
+                throw createNotComparableException(target, cause);
+            }
+            return target;
+        }
+
+        for (Map.Entry<?, ?> entry : origin.entrySet()) {
+            Object key = assignableKeys ? entry.getKey() : mapElement(entry.getKey(), keyType, elementMapper);
+            Object value = assignableValues ? entry.getValue() : mapElement(entry.getValue(), valueType, elementMapper);
+            if ((key == null && !nullKeys) || (value == null && !nullEntries)) {
+                throw new OTException("NULL KEY OR VALUE NOT SUPPORTED BY " + target.getClass().getName() + " " + propertyName);
+            }
+            try {
+                target.put(key, value);
+            } catch (ClassCastException cause) {
+                throw createNotComparableException(target, cause);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @return target's map, ordered by origin's comparator if both are sorted and origin's keys are copied
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> createTarget(Map<?, ?> origin) {
+        if (sortedInstantiator != null && assignableKeys && origin instanceof SortedMap) {
+            Comparator<Object> comparator = (Comparator<Object>) ((SortedMap<?, ?>) origin).comparator();
+            if (comparator != null) {
+                return (Map<Object, Object>) sortedInstantiator.apply(comparator);
+            }
+        }
+        return (Map<Object, Object>) instantiator.apply(origin.size());
+    }
+
+    private OTException createNotComparableException(Map<Object, Object> target, ClassCastException cause) {
+        return new OTException("KEY NOT COMPARABLE BY " + target.getClass().getName() + " " + propertyName, cause);
+    }
+
+    private Object mapElement(Object originElement, Class<?> elementType, ElementMapper elementMapper) {
+        return originElement != null ? elementMapper.mapElement(originElement, elementType) : null;
+    }
+
+}
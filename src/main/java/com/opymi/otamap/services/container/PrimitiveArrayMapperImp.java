@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+
+import java.lang.reflect.Array;
+
+/**
+ * {@link ContainerMapper} of primitive arrays: the array is copied in bulk when the component's types are the same,
+ * boxed or unboxed with a typed loop when they are a primitive and its wrapper.
+ * Arrays of the same primitive type can be shared by reference instead of copied
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PrimitiveArrayMapperImp implements ContainerMapper {
+    private final Class<?> originComponentType;
+    private final Class<?> targetComponentType;
+    private final boolean shared;
+
+    /**
+     * @param originComponentType type of the origin's elements
+     * @param targetComponentType type of the target's elements, the same primitive of origin or its wrapper or viceversa
+     * @param shared true if arrays of the same primitive type are shared by reference
+     */
+    public PrimitiveArrayMapperImp(Class<?> originComponentType, Class<?> targetComponentType, boolean shared) {
+        this.originComponentType = originComponentType;
+        this.targetComponentType = targetComponentType;
+        this.shared = shared;
+    }
+
+    @Override
+    public Object map(Object originContainer, ElementMapper elementMapper) {
+        if (originComponentType.equals(targetComponentType)) {
+            return shared ? originContainer : copy(originContainer);
+        } else if (targetComponentType.isPrimitive()) {
+            return unbox((Object[]) originContainer);
+        }
+        return box(originContainer);
+    }
+
+    private Object copy(Object origin) {
+        int length = Array.getLength(origin);
+        Object target = Array.newInstance(targetComponentType, length);
+        System.arraycopy(origin, 0, target, 0, length);
+        return target;
+    }
+
+    /**
+     * @return array of wrappers of the primitive origin's array
+     */
+    private Object[] box(Object origin) {
+        if (origin instanceof int[]) {
+            int[] values = (int[]) origin;
+            Integer[] target = new Integer[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        } else if (origin instanceof long[]) {
+            long[] values = (long[]) origin;
+            Long[] target = new Long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        } else if (origin instanceof double[]) {
+            double[] values = (double[]) origin;
+            Double[] target = new Double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        } else if (origin instanceof float[]) {
+            float[] values = (float[]) origin;
+            Float[] target = new Float[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        } else if (origin instanceof byte[]) {
+            byte[] values = (byte[]) origin;
+            Byte[] target = new Byte[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        } else if (origin instanceof short[]) {
+            short[] values = (short[]) origin;
+            Short[] target = new Short[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        } else if (origin instanceof char[]) {
+            char[] values = (char[]) origin;
+            Character[] target = new Character[values.length];
+            for (int i = 0; i < values.length; i++) {
+                target[i] = values[i];
+            }
+            return target;
+        }
+        boolean[] values = (boolean[]) origin;
+        Boolean[] target = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            target[i] = values[i];
+        }
+        return target;
+    }
+
+    /**
+     * @return primitive array of the origin's wrappers, null wrappers keep the default value
+     */
+    private Object unbox(Object[] origin) {
+        if (int.class.equals(targetComponentType)) {
+            int[] target = new int[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Integer value = (Integer) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        } else if (long.class.equals(targetComponentType)) {
+            long[] target = new long[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Long value = (Long) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        } else if (double.class.equals(targetComponentType)) {
+            double[] target = new double[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Double value = (Double) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        } else if (float.class.equals(targetComponentType)) {
+            float[] target = new float[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Float value = (Float) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        } else if (byte.class.equals(targetComponentType)) {
+            byte[] target = new byte[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Byte value = (Byte) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        } else if (short.class.equals(targetComponentType)) {
+            short[] target = new short[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Short value = (Short) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        } else if (char.class.equals(targetComponentType)) {
+            char[] target = new char[origin.length];
+            for (int i = 0; i < origin.length; i++) {
+                Character value = (Character) origin[i];
+                if (value != null) {
+                    target[i] = value;
+                }
+            }
+            return target;
+        }
+        boolean[] target = new boolean[origin.length];
+        for (int i = 0; i < origin.length; i++) {
+            Boolean value = (Boolean) origin[i];
+            if (value != null) {
+                target[i] = value;
+            }
+        }
+        return target;
+    }
+
+}
@@ -0,0 +1,471 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.flow;
+
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.exceptions.OTException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Processor} that maps the origins of the upstream publisher to targets through an {@link OTAMap}.
+ * Origins are collected in batches mapped by {@link OTAMap#mapAll(Iterable, boolean)}, so the transmuter
+ * is resolved once for each batch. Batches are mapped on the executor, if present, up to the configured parallelism,
+ * and targets are emitted in the order of the origins.
+ * The upstream is requested only after the first downstream request, and no more than batch size * parallelism
+ * origins are requested or buffered at once: the origins of a batch are requested again when the subscriber has received all its targets.
+ * A partial batch is mapped when the upstream completes, when the upstream has delivered all the requested origins
+ * or when its first origin has waited for the max latency, so a slow upstream does not hold the origins back.
+ * Batches are queued in the order of their first origin, and are mapped and emitted outside the lock of the pending batch.
+ * The processor accepts a single subscriber
+ *
+ * @param <ORIGIN>
+ * @param <TARGET>
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTAMapProcessor<ORIGIN, TARGET> implements Flow.Processor<ORIGIN, TARGET> {
+    private final OTAMap<ORIGIN, TARGET> otaMap;
+    private final boolean deepAutomatedMapping;
+    private final int batchSize;
+    private final int parallelism;
+    private final Executor executor;
+    private final Executor flushExecutor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<CompletableFuture<List<TARGET>>> batches = new ConcurrentLinkedQueue<>();
+
+    private volatile Flow.Subscriber<? super TARGET> downstream;
+    private volatile Flow.Subscription upstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    private final Object pendingLock = new Object();
+    private Batch<ORIGIN, TARGET> pending;
+
+    private boolean started;
+    private boolean terminated;
+    private List<TARGET> current;
+    private int index;
+
+    private OTAMapProcessor(Builder<ORIGIN, TARGET> builder) {
+        this.otaMap = builder.otaMap;
+        this.deepAutomatedMapping = builder.deepAutomatedMapping;
+        this.batchSize = builder.batchSize;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.flushExecutor = builder.maxLatency > 0 ? CompletableFuture.delayedExecutor(builder.maxLatency, TimeUnit.NANOSECONDS) : null;
+    }
+
+    /**
+     * @param otaMap {@link OTAMap} of the origins
+     * @return builder of a processor that maps with otaMap
+     *
+     * @throws OTException if otaMap is null
+     */
+    public static <ORIGIN, TARGET> Builder<ORIGIN, TARGET> builder(OTAMap<ORIGIN, TARGET> otaMap) {
+        if (otaMap == null) {
+            throw new OTException("OTAMAP MANDATORY");
+        }
+        return new Builder<>(otaMap);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super TARGET> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new OTException("PROCESSOR ALLOWS ONLY ONE SUBSCRIBER"));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(ORIGIN item) {
+        Objects.requireNonNull(item);
+        boolean exhausted = outstanding.decrementAndGet() == 0;
+        Batch<ORIGIN, TARGET> batch = null;
+        synchronized (pendingLock) {
+            if (pending == null) {
+                pending = new Batch<>(batchSize);
+                batches.offer(pending);
+                scheduleFlush(pending);
+            }
+            pending.origins.add(item);
+            if (pending.origins.size() == batchSize || exhausted) {
+                batch = takePending();
+            }
+        }
+        if (batch != null) {
+            submit(batch);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        error = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        Batch<ORIGIN, TARGET> batch;
+        synchronized (pendingLock) {
+            batch = takePending();
+        }
+        if (batch != null) {
+            submit(batch);
+        }
+        upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Schedule the submission of the batch after the max latency, if it is still pending
+     *
+     * @param batch pending batch
+     */
+    private void scheduleFlush(Batch<ORIGIN, TARGET> batch) {
+        if (flushExecutor == null) {
+            return;
+        }
+        flushExecutor.execute(() -> {
+            Batch<ORIGIN, TARGET> expired = null;
+            synchronized (pendingLock) {
+                if (pending == batch && !cancelled) {
+                    expired = takePending();
+                }
+            }
+            if (expired != null) {
+                submit(expired);
+            }
+        });
+    }
+
+    /**
+     * Take the pending batch, the caller holds the pending lock
+     *
+     * @return pending batch or null
+     */
+    private Batch<ORIGIN, TARGET> takePending() {
+        Batch<ORIGIN, TARGET> batch = pending;
+        pending = null;
+        return batch;
+    }
+
+    /**
+     * Map the batch on the executor, or on the calling thread without executor, the caller doesn't hold the pending lock
+     *
+     * @param batch batch already queued
+     */
+    private void submit(Batch<ORIGIN, TARGET> batch) {
+        batch.whenComplete((targets, cause) -> drain());
+        Runnable mapping = () -> {
+            try {
+                batch.complete(otaMap.mapAll(batch.origins, deepAutomatedMapping));
+            } catch (RuntimeException cause) {
+                batch.completeExceptionally(cause);
+            }
+        };
+        if (executor == null) {
+            mapping.run();
+            return;
+        }
+        try {
+            executor.execute(mapping);
+        } catch (RuntimeException rejected) {
+            batch.completeExceptionally(rejected);
+        }
+    }
+
+    /**
+     * Emit the mapped targets and the terminal signals, only one thread at a time drains
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super TARGET> subscriber = downstream;
+            Flow.Subscription subscription = upstream;
+            if (subscriber != null && subscription != null && !terminated) {
+                drain(subscriber, subscription);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drain(Flow.Subscriber<? super TARGET> subscriber, Flow.Subscription subscription) {
+        long demand = requested.get();
+        long emitted = 0;
+        while (true) {
+            if (cancelled) {
+                terminate();
+                subscription.cancel();
+                return;
+            }
+            Throwable cause = error;
+            if (cause != null) {
+                terminate();
+                if (!upstreamDone) {
+                    subscription.cancel();
+                }
+                subscriber.onError(cause);
+                return;
+            }
+            if (!started && demand > 0) {
+                started = true;
+                request(subscription, (long) batchSize * parallelism);
+            }
+            if (current == null) {
+                boolean done = upstreamDone;
+                CompletableFuture<List<TARGET>> batch = batches.peek();
+                if (batch == null) {
+                    if (done) {
+                        terminate();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    break;
+                } else if (!batch.isDone()) {
+                    break;
+                }
+                try {
+                    current = batch.join();
+                    index = 0;
+                } catch (CompletionException | CancellationException e) {
+                    error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    continue;
+                }
+            }
+            if (index == current.size()) {
+                int consumed = current.size();
+                batches.poll();
+                current = null;
+                if (!upstreamDone && consumed > 0) {
+                    request(subscription, consumed);
+                }
+                continue;
+            }
+            if (emitted == demand) {
+                break;
+            }
+            subscriber.onNext(current.get(index++));
+            emitted++;
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+    }
+
+    /**
+     * Request origins to the upstream, counting them as outstanding before they can be delivered
+     */
+    private void request(Flow.Subscription subscription, long n) {
+        outstanding.addAndGet(n);
+        subscription.request(n);
+    }
+
+    private void terminate() {
+        terminated = true;
+        current = null;
+        batches.clear();
+    }
+
+    /**
+     * Batch of origins queued when its first origin arrives and completed with the targets once mapped
+     *
+     * @param <ORIGIN>
+     * @param <TARGET>
+     */
+    private static class Batch<ORIGIN, TARGET> extends CompletableFuture<List<TARGET>> {
+        private final List<ORIGIN> origins;
+
+        private Batch(int batchSize) {
+            this.origins = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * Subscription of the downstream subscriber
+     */
+    private class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("NON POSITIVE REQUEST: " + n);
+            } else {
+                requested.getAndUpdate(value -> value + n < 0 ? Long.MAX_VALUE : value + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            drain();
+        }
+    }
+
+    /**
+     * Subscription of the subscribers rejected by the processor
+     */
+    private static class RejectedSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    /**
+     * Builder of {@link OTAMapProcessor}
+     *
+     * @param <ORIGIN>
+     * @param <TARGET>
+     */
+    public static class Builder<ORIGIN, TARGET> {
+        private final OTAMap<ORIGIN, TARGET> otaMap;
+        private boolean deepAutomatedMapping;
+        private int batchSize = 64;
+        private int parallelism = 1;
+        private Executor executor;
+        private long maxLatency = TimeUnit.MILLISECONDS.toNanos(100);
+
+        private Builder(OTAMap<ORIGIN, TARGET> otaMap) {
+            this.otaMap = otaMap;
+        }
+
+        /**
+         * @param deepAutomatedMapping mapping mode
+         *
+         * @return current instance of {@link Builder}
+         */
+        public Builder<ORIGIN, TARGET> deepAutomatedMapping(boolean deepAutomatedMapping) {
+            this.deepAutomatedMapping = deepAutomatedMapping;
+            return this;
+        }
+
+        /**
+         * @param batchSize number of origins mapped together
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the size is not positive
+         */
+        public Builder<ORIGIN, TARGET> batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new OTException("BATCH SIZE MUST BE POSITIVE");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param executor executor of the batches, if null batches are mapped by the thread that completes them
+         * @param parallelism maximum number of batches mapped or buffered at once
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the parallelism is not positive
+         */
+        public Builder<ORIGIN, TARGET> executor(Executor executor, int parallelism) {
+            if (parallelism <= 0) {
+                throw new OTException("PARALLELISM MUST BE POSITIVE");
+            }
+            this.executor = executor;
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param maxLatency maximum time an origin waits for its batch to be filled, zero waits until the batch is full,
+         *                   the upstream completes or delivers all the requested origins
+         * @param unit unit of the max latency
+         *
+         * @return current instance of {@link Builder}
+         * @throws OTException if the max latency is negative or the unit is null
+         */
+        public Builder<ORIGIN, TARGET> maxLatency(long maxLatency, TimeUnit unit) {
+            if (maxLatency < 0) {
+                throw new OTException("MAX LATENCY MUST NOT BE NEGATIVE");
+            }
+            if (unit == null) {
+                throw new OTException("MAX LATENCY UNIT MANDATORY");
+            }
+            this.maxLatency = unit.toNanos(maxLatency);
+            return this;
+        }
+
+        /**
+         * @return builded processor
+         */
+        public OTAMapProcessor<ORIGIN, TARGET> build() {
+            return new OTAMapProcessor<>(this);
+        }
+    }
+
+}
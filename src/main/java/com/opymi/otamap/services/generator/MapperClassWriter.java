@@ -0,0 +1,647 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.generator;
+
+import com.opymi.otamap.beans.PropertyMapAccessor;
+import com.opymi.otamap.entry.services.GeneratedMapper;
+import com.opymi.otamap.entry.services.PropertyMapFallback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer of the class file of a {@link GeneratedMapper}.
+ *
+ * The generated {@code map} method reads every origin's property and writes the target's property with a
+ * straight-line sequence of invocations, boxing and unboxing primitive values when origin and target are primitivable.
+ * Properties of different types and container properties are delegated to the {@link PropertyMapFallback}.
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MapperClassWriter {
+    private static final int CLASS_VERSION = 52;
+    private static final int MAX_STACK = 6;
+    private static final int MAX_LOCALS = 6;
+    private static final int ORIGIN_LOCAL = 4;
+    private static final int TARGET_LOCAL = 5;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ALOAD_3 = 0x2d;
+    private static final int ALOAD = 0x19;
+    private static final int ASTORE = 0x3a;
+    private static final int AALOAD = 0x32;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC = 0x12;
+    private static final int LDC_W = 0x13;
+    private static final int POP = 0x57;
+    private static final int POP2 = 0x58;
+    private static final int DUP = 0x59;
+    private static final int SWAP = 0x5f;
+    private static final int IF_ACMPNE = 0xa6;
+    private static final int GOTO = 0xa7;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int CHECKCAST = 0xc0;
+    private static final int IFNULL = 0xc6;
+
+    private static final int FULL_FRAME = 255;
+    private static final int ITEM_OBJECT = 7;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String ACCESSORS_FIELD = "accessors";
+    private static final String ACCESSORS_DESCRIPTOR = "[" + descriptor(PropertyMapAccessor.class);
+    private static final String FALLBACK_METHOD = "mapProperty";
+    private static final String FALLBACK_DESCRIPTOR = "(Ljava/lang/Object;" + descriptor(PropertyMapAccessor.class) + "Ljava/lang/Object;)V";
+    private static final String MAP_METHOD = "map";
+    private static final String MAP_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;" + descriptor(PropertyMapFallback.class) + ")V";
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = new HashMap<>();
+
+    static {
+        PRIMITIVE_WRAPPERS.put(boolean.class, Boolean.class);
+        PRIMITIVE_WRAPPERS.put(int.class, Integer.class);
+        PRIMITIVE_WRAPPERS.put(double.class, Double.class);
+        PRIMITIVE_WRAPPERS.put(float.class, Float.class);
+        PRIMITIVE_WRAPPERS.put(long.class, Long.class);
+        PRIMITIVE_WRAPPERS.put(short.class, Short.class);
+        PRIMITIVE_WRAPPERS.put(char.class, Character.class);
+        PRIMITIVE_WRAPPERS.put(byte.class, Byte.class);
+    }
+
+    private final String className;
+    private final Class<?> originType;
+    private final Class<?> targetType;
+    private final List<PropertyMapAccessor> propertyMapAccessors;
+    private final ConstantPool constantPool = new ConstantPool();
+
+    /**
+     * @param className binary name of the generated class
+     * @param originType origin's type
+     * @param targetType target's type
+     * @param propertyMapAccessors accessors of the mapped properties, in the same order of the constructor's argument
+     */
+    public MapperClassWriter(String className, Class<?> originType, Class<?> targetType, List<PropertyMapAccessor> propertyMapAccessors) {
+        this.className = className.replace('.', '/');
+        this.originType = originType;
+        this.targetType = targetType;
+        this.propertyMapAccessors = propertyMapAccessors;
+    }
+
+    /**
+     * @return class file bytes of the generated mapper.
+     * The class has a public constructor that accepts the array of {@link PropertyMapAccessor}
+     */
+    public byte[] write() {
+        int thisClass = constantPool.classInfo(className);
+        int superClass = constantPool.classInfo(OBJECT);
+        int mapperInterface = constantPool.classInfo(internalName(GeneratedMapper.class));
+
+        byte[] constructor = writeMethod(ACC_PUBLIC, "<init>", "(" + ACCESSORS_DESCRIPTOR + ")V", writeConstructorCode());
+        byte[] map = writeMethod(ACC_PUBLIC, MAP_METHOD, MAP_DESCRIPTOR, writeMapCode(thisClass));
+
+        int fieldName = constantPool.utf8(ACCESSORS_FIELD);
+        int fieldDescriptor = constantPool.utf8(ACCESSORS_DESCRIPTOR);
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            constantPool.write(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(mapperInterface);
+
+            out.writeShort(1);
+            out.writeShort(ACC_PRIVATE | ACC_FINAL);
+            out.writeShort(fieldName);
+            out.writeShort(fieldDescriptor);
+            out.writeShort(0);
+
+            out.writeShort(2);
+            out.write(constructor);
+            out.write(map);
+
+            out.writeShort(0);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private byte[] writeConstructorCode() {
+        Code code = new Code(2);
+        code.op(ALOAD_0);
+        code.op(INVOKESPECIAL).u2(constantPool.methodRef(OBJECT, "<init>", "()V", false));
+        code.op(ALOAD_0);
+        code.op(ALOAD_1);
+        code.op(PUTFIELD).u2(constantPool.fieldRef(className, ACCESSORS_FIELD, ACCESSORS_DESCRIPTOR));
+        code.op(RETURN);
+        return code.toAttribute(2);
+    }
+
+    private byte[] writeMapCode(int thisClass) {
+        int[] locals = {
+                thisClass,
+                constantPool.classInfo(OBJECT),
+                constantPool.classInfo(OBJECT),
+                constantPool.classInfo(internalName(PropertyMapFallback.class)),
+                constantPool.classInfo(internalName(originType)),
+                constantPool.classInfo(internalName(targetType))
+        };
+        Code code = new Code(MAX_STACK, locals);
+
+        code.op(ALOAD_1);
+        code.op(CHECKCAST).u2(locals[ORIGIN_LOCAL]);
+        code.op(ASTORE).u1(ORIGIN_LOCAL);
+        code.op(ALOAD_2);
+        code.op(CHECKCAST).u2(locals[TARGET_LOCAL]);
+        code.op(ASTORE).u1(TARGET_LOCAL);
+
+        for (int index = 0; index < propertyMapAccessors.size(); index++) {
+            writeProperty(code, index, propertyMapAccessors.get(index));
+        }
+
+        code.op(RETURN);
+        return code.toAttribute(MAX_LOCALS);
+    }
+
+    /**
+     * Write the mapping of a single property
+     */
+    private void writeProperty(Code code, int index, PropertyMapAccessor propertyMapAccessor) {
+        Method readMethod = propertyMapAccessor.getOrigin().getReadMethod();
+        Method writeMethod = propertyMapAccessor.getTarget().getWriteMethod();
+        Class<?> originPropertyType = readMethod.getReturnType();
+        Class<?> targetPropertyType = writeMethod.getParameterTypes()[0];
+
+        int originValueType = originPropertyType.isPrimitive() ? 0 : constantPool.classInfo(internalName(originPropertyType));
+        int targetObjectType = constantPool.classInfo(internalName(targetType));
+        boolean container = propertyMapAccessor.getContainerMapper() != null;
+
+        if (originPropertyType.isPrimitive()) {
+            if (originPropertyType.equals(targetPropertyType)) {
+                code.op(ALOAD).u1(TARGET_LOCAL);
+                invokeReadMethod(code, readMethod);
+                invokeWriteMethod(code, writeMethod);
+            }
+            else if (PRIMITIVE_WRAPPERS.get(originPropertyType).equals(targetPropertyType)) {
+                code.op(ALOAD).u1(TARGET_LOCAL);
+                invokeReadMethod(code, readMethod);
+                box(code, originPropertyType);
+                invokeWriteMethod(code, writeMethod);
+            }
+            else {
+                invokeReadMethod(code, readMethod);
+                box(code, originPropertyType);
+                invokeFallback(code, index);
+            }
+        }
+        else if (!container && (isUnboxable(originPropertyType, targetPropertyType) || isDirectlyAssignable(originPropertyType, targetPropertyType))) {
+            Label skip = new Label();
+            Label next = new Label();
+            code.op(ALOAD).u1(TARGET_LOCAL);
+            invokeReadMethod(code, readMethod);
+            code.op(DUP);
+            code.jump(IFNULL, skip);
+            if (targetPropertyType.isPrimitive()) {
+                unbox(code, targetPropertyType);
+            }
+            invokeWriteMethod(code, writeMethod);
+            code.jump(GOTO, next);
+            code.bind(skip, targetObjectType, originValueType);
+            code.op(POP2);
+            code.bind(next);
+        }
+        else {
+            Label skip = new Label();
+            Label fallback = new Label();
+            Label next = new Label();
+            invokeReadMethod(code, readMethod);
+            code.op(DUP);
+            code.jump(IFNULL, skip);
+            if (!container && isRuntimeAssignable(originPropertyType, targetPropertyType)) {
+                code.op(DUP);
+                code.op(INVOKEVIRTUAL).u2(constantPool.methodRef(OBJECT, "getClass", "()Ljava/lang/Class;", false));
+                code.ldc(constantPool.classInfo(internalName(targetPropertyType)));
+                code.jump(IF_ACMPNE, fallback);
+                code.op(ALOAD).u1(TARGET_LOCAL);
+                code.op(SWAP);
+                invokeWriteMethod(code, writeMethod);
+                code.jump(GOTO, next);
+            }
+            code.bind(fallback, originValueType);
+            invokeFallback(code, index);
+            code.jump(GOTO, next);
+            code.bind(skip, originValueType);
+            code.op(POP);
+            code.bind(next);
+        }
+    }
+
+    /**
+     * @return true if the origin is a wrapper of the primitive target
+     */
+    private boolean isUnboxable(Class<?> originPropertyType, Class<?> targetPropertyType) {
+        return targetPropertyType.isPrimitive() && originPropertyType.equals(PRIMITIVE_WRAPPERS.get(targetPropertyType));
+    }
+
+    /**
+     * @return true if every not null origin's value has exactly the target's type
+     */
+    private boolean isDirectlyAssignable(Class<?> originPropertyType, Class<?> targetPropertyType) {
+        int modifiers = targetPropertyType.getModifiers();
+        return originPropertyType.equals(targetPropertyType) && Modifier.isFinal(modifiers) && !Modifier.isAbstract(modifiers);
+    }
+
+    /**
+     * @return true if the origin's value has to be checked at runtime to be assigned directly
+     */
+    private boolean isRuntimeAssignable(Class<?> originPropertyType, Class<?> targetPropertyType) {
+        return originPropertyType.equals(targetPropertyType) && !Modifier.isAbstract(targetPropertyType.getModifiers());
+    }
+
+    private void invokeReadMethod(Code code, Method readMethod) {
+        code.op(ALOAD).u1(ORIGIN_LOCAL);
+        invoke(code, originType, readMethod);
+    }
+
+    private void invokeWriteMethod(Code code, Method writeMethod) {
+        invoke(code, targetType, writeMethod);
+    }
+
+    private void invoke(Code code, Class<?> owner, Method method) {
+        String methodDescriptor = descriptor(method);
+        int argumentsSize = 1 + Arrays.stream(method.getParameterTypes()).mapToInt(MapperClassWriter::size).sum();
+        if (owner.isInterface()) {
+            code.op(INVOKEINTERFACE).u2(constantPool.methodRef(internalName(owner), method.getName(), methodDescriptor, true)).u1(argumentsSize).u1(0);
+        } else {
+            code.op(INVOKEVIRTUAL).u2(constantPool.methodRef(internalName(owner), method.getName(), methodDescriptor, false));
+        }
+    }
+
+    /**
+     * Stack: value -> (fallback, value, accessor, target) -> empty
+     */
+    private void invokeFallback(Code code, int index) {
+        code.op(ALOAD_3);
+        code.op(SWAP);
+        code.op(ALOAD_0);
+        code.op(GETFIELD).u2(constantPool.fieldRef(className, ACCESSORS_FIELD, ACCESSORS_DESCRIPTOR));
+        code.op(SIPUSH).u2(index);
+        code.op(AALOAD);
+        code.op(ALOAD_2);
+        code.op(INVOKEINTERFACE).u2(constantPool.methodRef(internalName(PropertyMapFallback.class), FALLBACK_METHOD, FALLBACK_DESCRIPTOR, true)).u1(4).u1(0);
+    }
+
+    private void box(Code code, Class<?> primitive) {
+        Class<?> wrapper = PRIMITIVE_WRAPPERS.get(primitive);
+        String methodDescriptor = "(" + descriptor(primitive) + ")" + descriptor(wrapper);
+        code.op(INVOKESTATIC).u2(constantPool.methodRef(internalName(wrapper), "valueOf", methodDescriptor, false));
+    }
+
+    private void unbox(Code code, Class<?> primitive) {
+        Class<?> wrapper = PRIMITIVE_WRAPPERS.get(primitive);
+        String methodDescriptor = "()" + descriptor(primitive);
+        code.op(INVOKEVIRTUAL).u2(constantPool.methodRef(internalName(wrapper), primitive.getName() + "Value", methodDescriptor, false));
+    }
+
+    private byte[] writeMethod(int access, String name, String methodDescriptor, byte[] codeAttribute) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(constantPool.utf8(name));
+            out.writeShort(constantPool.utf8(methodDescriptor));
+            out.writeShort(1);
+            out.writeShort(constantPool.utf8("Code"));
+            out.writeInt(codeAttribute.length);
+            out.write(codeAttribute);
+            out.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int size(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.isArray() ? descriptor(type) : type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Method method) {
+        StringBuilder builder = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            builder.append(descriptor(parameterType));
+        }
+        return builder.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            if (type == int.class) return "I";
+            if (type == long.class) return "J";
+            if (type == double.class) return "D";
+            if (type == float.class) return "F";
+            if (type == boolean.class) return "Z";
+            if (type == char.class) return "C";
+            if (type == short.class) return "S";
+            if (type == byte.class) return "B";
+            return "V";
+        }
+        if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        }
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    /**
+     * Branch target inside the {@link Code}
+     */
+    private static class Label {
+        private int position = -1;
+        private final List<int[]> references = new ArrayList<>();
+    }
+
+    /**
+     * Bytecode of a method with its stack map frames.
+     * Every branch target has a full frame made of the method's locals and the given stack
+     */
+    private class Code {
+        private final int maxStack;
+        private final int[] locals;
+        private final ByteArrayOutputStream frames = new ByteArrayOutputStream();
+        private byte[] code = new byte[256];
+        private int length;
+        private int framesCount;
+        private int lastFramePosition = -1;
+
+        private Code(int maxStack) {
+            this(maxStack, new int[0]);
+        }
+
+        private Code(int maxStack, int[] locals) {
+            this.maxStack = maxStack;
+            this.locals = locals;
+        }
+
+        private Code op(int opcode) {
+            return u1(opcode);
+        }
+
+        private Code u1(int value) {
+            ensureCapacity(1);
+            code[length++] = (byte) value;
+            return this;
+        }
+
+        private Code u2(int value) {
+            ensureCapacity(2);
+            code[length++] = (byte) (value >>> 8);
+            code[length++] = (byte) value;
+            return this;
+        }
+
+        private void ldc(int index) {
+            if (index < 256) {
+                op(LDC).u1(index);
+            } else {
+                op(LDC_W).u2(index);
+            }
+        }
+
+        private void jump(int opcode, Label label) {
+            int position = length;
+            op(opcode);
+            if (label.position >= 0) {
+                u2(label.position - position);
+            } else {
+                label.references.add(new int[]{position, length});
+                u2(0);
+            }
+        }
+
+        /**
+         * Bind the label to the current position and record the frame of the branch target
+         *
+         * @param stack constant pool classes of the stack's items
+         */
+        private void bind(Label label, int... stack) {
+            label.position = length;
+            for (int[] reference : label.references) {
+                int offset = length - reference[0];
+                code[reference[1]] = (byte) (offset >>> 8);
+                code[reference[1] + 1] = (byte) offset;
+            }
+            writeFrame(stack);
+        }
+
+        private void writeFrame(int[] stack) {
+            DataOutputStream out = new DataOutputStream(frames);
+            try {
+                out.writeByte(FULL_FRAME);
+                out.writeShort(lastFramePosition < 0 ? length : length - lastFramePosition - 1);
+                out.writeShort(locals.length);
+                for (int local : locals) {
+                    out.writeByte(ITEM_OBJECT);
+                    out.writeShort(local);
+                }
+                out.writeShort(stack.length);
+                for (int item : stack) {
+                    out.writeByte(ITEM_OBJECT);
+                    out.writeShort(item);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            lastFramePosition = length;
+            framesCount++;
+        }
+
+        private void ensureCapacity(int size) {
+            if (length + size > code.length) {
+                code = Arrays.copyOf(code, Math.max(code.length * 2, length + size));
+            }
+        }
+
+        /**
+         * @return bytes of the Code attribute, without name and length
+         */
+        private byte[] toAttribute(int maxLocals) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            try {
+                out.writeShort(maxStack);
+                out.writeShort(maxLocals);
+                out.writeInt(length);
+                out.write(code, 0, length);
+                out.writeShort(0);
+                if (framesCount > 0) {
+                    byte[] frameBytes = frames.toByteArray();
+                    out.writeShort(1);
+                    out.writeShort(constantPool.utf8("StackMapTable"));
+                    out.writeInt(2 + frameBytes.length);
+                    out.writeShort(framesCount);
+                    out.write(frameBytes);
+                } else {
+                    out.writeShort(0);
+                }
+                out.flush();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * Constant pool of the generated class
+     */
+    private static class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int INTERFACE_METHOD_REF = 11;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(entries);
+        private int count = 1;
+
+        private int utf8(String value) {
+            String key = "U" + value;
+            Integer index = indexes.get(key);
+            if (index == null) {
+                index = add(key);
+                try {
+                    out.writeByte(UTF8);
+                    out.writeUTF(value);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+            return index;
+        }
+
+        private int classInfo(String internalName) {
+            String key = "C" + internalName;
+            Integer index = indexes.get(key);
+            if (index == null) {
+                int name = utf8(internalName);
+                index = add(key);
+                writeEntry(CLASS, name);
+            }
+            return index;
+        }
+
+        private int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(FIELD_REF, owner, name, descriptor);
+        }
+
+        private int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+            return memberRef(isInterface ? INTERFACE_METHOD_REF : METHOD_REF, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            String key = tag + owner + "." + name + descriptor;
+            Integer index = indexes.get(key);
+            if (index == null) {
+                int ownerIndex = classInfo(owner);
+                int nameAndType = nameAndType(name, descriptor);
+                index = add(key);
+                writeEntry(tag, ownerIndex, nameAndType);
+            }
+            return index;
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            String key = "N" + name + ":" + descriptor;
+            Integer index = indexes.get(key);
+            if (index == null) {
+                int nameIndex = utf8(name);
+                int descriptorIndex = utf8(descriptor);
+                index = add(key);
+                writeEntry(NAME_AND_TYPE, nameIndex, descriptorIndex);
+            }
+            return index;
+        }
+
+        private int add(String key) {
+            int index = count++;
+            indexes.put(key, index);
+            return index;
+        }
+
+        private void writeEntry(int tag, int... values) {
+            try {
+                out.writeByte(tag);
+                for (int value : values) {
+                    out.writeShort(value);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private void write(DataOutputStream classOut) throws IOException {
+            out.flush();
+            classOut.writeShort(count);
+            entries.writeTo(classOut);
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.generator;
+
+import com.opymi.otamap.beans.PropertyMapAccessor;
+import com.opymi.otamap.entry.services.GeneratedMapper;
+import com.opymi.otamap.entry.services.MapperGenerator;
+import com.opymi.otamap.entry.services.MappingDiagnostics;
+import com.opymi.otamap.services.utils.MappingDiagnosticsImp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Generator of {@link GeneratedMapper} classes.
+ *
+ * Classes are defined as hidden classes when the runtime supports them, otherwise as ordinary classes
+ * of the generator's package. Generation is not possible when the types involved are not public or
+ * not visible from the library's class loader.
+ * A class is defined once for each origin, target and shape of the mapped properties, the shape being the read method,
+ * the write method and the container's flag of each property: plans compiled again with the same shape
+ * only create a new instance of the cached class, so classes are not defined without bound
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MapperGeneratorImp implements MapperGenerator {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ClassValue<Map<Class<?>, Map<List<Object>, Constructor<?>>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Map<List<Object>, Constructor<?>>> computeValue(Class<?> origin) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MappingDiagnostics diagnostics = new MappingDiagnosticsImp(Logger.getLogger(MapperGeneratorImp.class.getSimpleName()), true);
+
+    @Override
+    public GeneratedMapper generate(Class<?> origin, Class<?> target, List<PropertyMapAccessor> propertyMapAccessors) {
+        if (!isGenerable(origin, target, propertyMapAccessors)) {
+            return null;
+        }
+
+        try {
+            Constructor<?> constructor = retrieveConstructor(origin, target, propertyMapAccessors);
+            PropertyMapAccessor[] accessors = propertyMapAccessors.toArray(new PropertyMapAccessor[0]);
+            return (GeneratedMapper) constructor.newInstance((Object) accessors);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException cause) {
+            diagnostics.log(Level.FINE, cause, () -> "CANNOT GENERATE MAPPER " + origin.getName() + " -> " + target.getName());
+            return null;
+        }
+    }
+
+    /**
+     * @return constructor of the mapper class cached for the shape of the properties, the class is defined at the first use
+     */
+    private Constructor<?> retrieveConstructor(Class<?> origin, Class<?> target, List<PropertyMapAccessor> propertyMapAccessors) throws ReflectiveOperationException {
+        Map<List<Object>, Constructor<?>> constructors = CONSTRUCTORS.get(origin).computeIfAbsent(target, type -> new ConcurrentHashMap<>());
+        List<Object> shape = createShape(propertyMapAccessors);
+        Constructor<?> constructor = constructors.get(shape);
+        if (constructor == null) {
+            String className = MapperGeneratorImp.class.getPackage().getName() + ".GeneratedMapper$" + origin.getSimpleName() + "$" + target.getSimpleName() + "$" + SEQUENCE.incrementAndGet();
+            byte[] classBytes = new MapperClassWriter(className, origin, target, propertyMapAccessors).write();
+            Constructor<?> definedConstructor = defineClass(classBytes).getConstructor(PropertyMapAccessor[].class);
+            constructor = constructors.putIfAbsent(shape, definedConstructor);
+            if (constructor == null) {
+                constructor = definedConstructor;
+            }
+        }
+        return constructor;
+    }
+
+    /**
+     * @return read method, write method and container's flag of every property, the generated code depends only on them
+     */
+    private List<Object> createShape(List<PropertyMapAccessor> propertyMapAccessors) {
+        List<Object> shape = new ArrayList<>(propertyMapAccessors.size() * 3);
+        for (PropertyMapAccessor propertyMapAccessor : propertyMapAccessors) {
+            shape.add(propertyMapAccessor.getOrigin().getReadMethod());
+            shape.add(propertyMapAccessor.getTarget().getWriteMethod());
+            shape.add(propertyMapAccessor.getContainerMapper() != null);
+        }
+        return shape;
+    }
+
+    /**
+     * Define the class as hidden class if the runtime supports it
+     *
+     * @param classBytes class file bytes
+     * @return defined class
+     */
+    private Class<?> defineClass(byte[] classBytes) throws ReflectiveOperationException {
+        Class<?> classOptionType = findClassOptionType();
+        if (classOptionType == null) {
+            return LOOKUP.defineClass(classBytes);
+        }
+        Method defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, Array.newInstance(classOptionType, 0).getClass());
+        MethodHandles.Lookup hiddenLookup = (MethodHandles.Lookup) defineHiddenClass.invoke(LOOKUP, classBytes, true, Array.newInstance(classOptionType, 0));
+        return hiddenLookup.lookupClass();
+    }
+
+    /**
+     * @return {@code MethodHandles.Lookup.ClassOption} type or null if the runtime doesn't support hidden classes
+     */
+    private Class<?> findClassOptionType() {
+        try {
+            return Class.forName(MethodHandles.Lookup.class.getName() + "$ClassOption");
+        } catch (ClassNotFoundException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if all types and methods involved in the mapping can be linked by the generated class
+     */
+    private boolean isGenerable(Class<?> origin, Class<?> target, List<PropertyMapAccessor> propertyMapAccessors) {
+        if (propertyMapAccessors.size() > Short.MAX_VALUE || !isLinkable(origin) || !isLinkable(target)) {
+            return false;
+        }
+        for (PropertyMapAccessor propertyMapAccessor : propertyMapAccessors) {
+            Method readMethod = propertyMapAccessor.getOrigin().getReadMethod();
+            Method writeMethod = propertyMapAccessor.getTarget().getWriteMethod();
+            if (!isLinkable(readMethod) || !isLinkable(writeMethod)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isLinkable(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()) || !isLinkable(method.getReturnType())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isLinkable(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the type is public and it is visible from the class loader of the generated classes
+     */
+    private boolean isLinkable(Class<?> type) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+        if (elementType.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(elementType.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(elementType.getName(), false, MapperGeneratorImp.class.getClassLoader()) == elementType;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+
+    public void setDiagnostics(MappingDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.instance;
+
+import com.opymi.otamap.beans.InstantiationStrategy;
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.entry.services.InstanceFactoryProvider;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+import com.opymi.otamap.exceptions.OTException;
+
+/**
+ * Provider of the default {@link InstanceFactory} of a type.
+ * Factories are cached by type through a {@link ClassValue} for each strategy, so every type is resolved once.
+ * A failed resolution is cached too, the following requests of the type fail without reflective lookups
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class InstanceFactoryProviderImp implements InstanceFactoryProvider {
+    private final ClassValue<Resolution> methodHandleFactories = new ClassValue<>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            try {
+                return new Resolution(new MethodHandleInstanceFactoryImp<>(type), null);
+            } catch (CreateInstanceException cause) {
+                return new Resolution(null, cause);
+            }
+        }
+    };
+
+    private final ClassValue<Resolution> lambdaFactories = new ClassValue<>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            try {
+                return new Resolution(new LambdaInstanceFactoryImp<>(type), null);
+            } catch (CreateInstanceException cause) {
+                return methodHandleFactories.get(type);
+            }
+        }
+    };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <TARGET> InstanceFactory<TARGET> getInstanceFactory(Class<TARGET> type, InstantiationStrategy strategy) {
+        if (type == null || strategy == null) {
+            throw new OTException("TYPE AND STRATEGY MANDATORY");
+        }
+        switch (strategy) {
+            case LAMBDA:
+                return (InstanceFactory<TARGET>) lambdaFactories.get(type).getFactory();
+            case METHOD_HANDLE:
+            default:
+                return (InstanceFactory<TARGET>) methodHandleFactories.get(type).getFactory();
+        }
+    }
+
+    /**
+     * Result of the resolution of the default factory of a type: the factory or the cause of the failure
+     */
+    private static class Resolution {
+        private final InstanceFactory<?> factory;
+        private final CreateInstanceException failure;
+
+        private Resolution(InstanceFactory<?> factory, CreateInstanceException failure) {
+            this.factory = factory;
+            this.failure = failure;
+        }
+
+        /**
+         * @throws CreateInstanceException if the resolution failed, a new exception for each request with the cached failure as cause
+         */
+        private InstanceFactory<?> getFactory() {
+            if (failure != null) {
+                throw new CreateInstanceException(failure.getMessage(), failure);
+            }
+            return factory;
+        }
+    }
+
+}
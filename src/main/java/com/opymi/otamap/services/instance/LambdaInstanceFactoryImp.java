@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.instance;
+
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+/**
+ * {@link InstanceFactory} that invokes the no-arg constructor of the type through a {@link Supplier}
+ * generated by {@link LambdaMetafactory}, so the constructor is called like by a method reference
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class LambdaInstanceFactoryImp<TARGET> implements InstanceFactory<TARGET> {
+    private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_METHOD_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<TARGET> type;
+    private final Supplier<TARGET> supplier;
+
+    /**
+     * @param type type of the created objects
+     * @throws CreateInstanceException if the type has no no-arg constructor
+     * or the library cannot access the type privately
+     */
+    public LambdaInstanceFactoryImp(Class<TARGET> type) {
+        this.type = type;
+        this.supplier = createSupplier(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TARGET> Supplier<TARGET> createSupplier(Class<TARGET> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY_TYPE, SUPPLIER_METHOD_TYPE, constructor, MethodType.methodType(type));
+            return (Supplier<TARGET>) callSite.getTarget().invoke();
+        } catch (VirtualMachineError error) {
+            throw error;
+        } catch (Throwable cause) {
+            throw new CreateInstanceException("CANNOT CREATE INSTANCE OF " + type.getName(), cause);
+        }
+    }
+
+    @Override
+    public Class<TARGET> getType() {
+        return type;
+    }
+
+    @Override
+    public TARGET newInstance() {
+        return supplier.get();
+    }
+
+}
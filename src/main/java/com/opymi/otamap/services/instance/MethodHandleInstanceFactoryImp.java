@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.instance;
+
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * {@link InstanceFactory} that invokes the no-arg constructor of the type through a method handle
+ * resolved at the creation of the factory
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MethodHandleInstanceFactoryImp<TARGET> implements InstanceFactory<TARGET> {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<TARGET> type;
+    private final MethodHandle constructor;
+
+    /**
+     * @param type type of the created objects
+     * @throws CreateInstanceException if the type has no accessible no-arg constructor
+     */
+    public MethodHandleInstanceFactoryImp(Class<TARGET> type) {
+        this.type = type;
+        try {
+            this.constructor = MethodHandles.lookup().unreflectConstructor(type.getDeclaredConstructor()).asType(CONSTRUCTOR_TYPE);
+        } catch (ReflectiveOperationException | IllegalArgumentException cause) {
+            throw new CreateInstanceException("CANNOT CREATE INSTANCE OF " + type.getName(), cause);
+        }
+    }
+
+    @Override
+    public Class<TARGET> getType() {
+        return type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public TARGET newInstance() {
+        try {
+            return (TARGET) (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error error) {
+            throw error;
+        } catch (Throwable cause) {
+            throw new CreateInstanceException("CANNOT CREATE INSTANCE OF " + type.getName(), cause);
+        }
+    }
+
+}
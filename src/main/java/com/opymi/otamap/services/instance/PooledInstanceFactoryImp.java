@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.instance;
+
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.exceptions.OTException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@link InstanceFactory} that reuses the objects handed back by the callers through {@link #recycle(Object)},
+ * new objects are created by another factory when the pool is empty.
+ * A recycled object keeps the values of the properties that the next mapping doesn't write,
+ * a reset operation can clear them before the object is pooled.
+ * The pool is bounded and lock-free, it can be shared by threads
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PooledInstanceFactoryImp<TARGET> implements InstanceFactory<TARGET> {
+    private final InstanceFactory<TARGET> factory;
+    private final int capacity;
+    private final Consumer<? super TARGET> reset;
+
+    private final Queue<TARGET> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param factory factory of the objects created when the pool is empty
+     * @param capacity maximum number of pooled objects
+     */
+    public PooledInstanceFactoryImp(InstanceFactory<TARGET> factory, int capacity) {
+        this(factory, capacity, target -> { });
+    }
+
+    /**
+     * @param factory factory of the objects created when the pool is empty
+     * @param capacity maximum number of pooled objects
+     * @param reset operation applied to the recycled objects before they are pooled
+     * @throws OTException if the factory or the reset operation is missing or the capacity is not positive
+     */
+    public PooledInstanceFactoryImp(InstanceFactory<TARGET> factory, int capacity, Consumer<? super TARGET> reset) {
+        if (factory == null || reset == null) {
+            throw new OTException("FACTORY AND RESET MANDATORY");
+        }
+        if (capacity <= 0) {
+            throw new OTException("POOL CAPACITY MUST BE POSITIVE");
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.reset = reset;
+    }
+
+    @Override
+    public Class<TARGET> getType() {
+        return factory.getType();
+    }
+
+    @Override
+    public TARGET newInstance() {
+        TARGET target = pool.poll();
+        if (target == null) {
+            return factory.newInstance();
+        }
+        size.decrementAndGet();
+        return target;
+    }
+
+    /**
+     * Hand back an object no longer used by the caller, the object is discarded when the pool is full
+     *
+     * @param target object created by this factory
+     * @return true if the object is pooled
+     */
+    public boolean recycle(TARGET target) {
+        if (target == null || !reserve()) {
+            return false;
+        }
+        reset.accept(target);
+        pool.offer(target);
+        return true;
+    }
+
+    private boolean reserve() {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * @return number of pooled objects
+     */
+    public int getPooled() {
+        return size.get();
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a top-level mapping
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@Name("com.opymi.otamap.Mapping")
+@Label("Mapping")
+@Category("OTAMap")
+@Description("Mapping of an origin's object to a target's object")
+@StackTrace(false)
+public class MappingEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(MappingEvent.class);
+
+    @Label("Origin Type")
+    public Class<?> originType;
+
+    @Label("Target Type")
+    public Class<?> targetType;
+
+    @Label("Deep")
+    public boolean deep;
+
+    @Label("Property Count")
+    @Description("Number of properties of the compiled mapping plan, zero for a converter")
+    public int propertyCount;
+
+    /**
+     * @return true if a recording enables the event, see {@link FlightRecorderEvents}
+     */
+    public static boolean isRecorded() {
+        return TYPE.isEnabled();
+    }
+
+}
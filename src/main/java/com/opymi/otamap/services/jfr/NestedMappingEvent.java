@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the mapping of a nested property
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@Name("com.opymi.otamap.NestedMapping")
+@Label("Nested Mapping")
+@Category("OTAMap")
+@Description("Mapping of a nested property started by the mapping of its owner")
+@StackTrace(false)
+public class NestedMappingEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(NestedMappingEvent.class);
+
+    @Label("Origin Type")
+    public Class<?> originType;
+
+    @Label("Target Type")
+    public Class<?> targetType;
+
+    @Label("Depth")
+    @Description("Depth of the nested object, the root object has depth 0")
+    public int depth;
+
+    /**
+     * @return true if a recording enables the event, see {@link FlightRecorderEvents}
+     */
+    public static boolean isRecorded() {
+        return TYPE.isEnabled();
+    }
+
+}
@@ -24,6 +24,7 @@
 
 package com.opymi.otamap.services.mapper;
 
+import com.opymi.otamap.beans.ConstructorDescriptor;
 import com.opymi.otamap.beans.PropertyCustomNameDescriptor;
 import com.opymi.otamap.beans.PropertyMapDescriptor;
 import com.opymi.otamap.entry.OTCustomMapperOperation;
@@ -33,12 +34,19 @@ import com.opymi.otamap.entry.services.TypeScanner;
 import com.opymi.otamap.exceptions.CustomizeMappingException;
 import com.opymi.otamap.exceptions.OTException;
 
+import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
- * Mapper of the {@param <ORIGIN>} to {@param <TARGET>}
+ * Mapper of the {@param <ORIGIN>} to {@param <TARGET>}.
+ * It can be read by mapping threads while it is configured: every change increments the configuration version.
+ * Records and types without no-arg constructor, whose constructor is annotated by {@link java.beans.ConstructorProperties},
+ * are created by constructor: origin's properties are associated to the constructor's parameters instead of write methods
  *
  * @author Antonino Verde
  * @since 1.0
@@ -52,9 +60,11 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
     private final Class<TARGET> target;
     private final Set<String> orginDeclaredProperties;
     private final Set<String> targetDeclaredProperties;
+    private final ConstructorDescriptor targetConstructor;
     private final List<PropertyCustomNameDescriptor> customNameDescriptors;
     private final Set<String> excludedFields;
-    private OTCustomMapperOperation<ORIGIN, TARGET> OTCustomMapperOperation;
+    private volatile OTCustomMapperOperation<ORIGIN, TARGET> OTCustomMapperOperation;
+    private final AtomicInteger configurationVersion = new AtomicInteger();
 
     public OTMapperImp(TypeScanner typeScanner, JTypeEvaluator jTypeEvaluator, Class<ORIGIN> origin, Class<TARGET> target) {
         this.typeScanner = typeScanner;
@@ -63,8 +73,9 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
         this.target = target;
         this.orginDeclaredProperties = typeScanner.retrieveDeclaredFieldsNames(origin);
         this.targetDeclaredProperties = typeScanner.retrieveDeclaredFieldsNames(target);
-        this.excludedFields = new HashSet<>();
-        this.customNameDescriptors = new ArrayList<>();
+        this.targetConstructor = typeScanner.retrieveConstructorDescriptor(target);
+        this.excludedFields = ConcurrentHashMap.newKeySet();
+        this.customNameDescriptors = new CopyOnWriteArrayList<>();
     }
 
     @Override
@@ -72,6 +83,16 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
         return OTCustomMapperOperation;
     }
 
+    @Override
+    public ConstructorDescriptor getTargetConstructor() {
+        return targetConstructor;
+    }
+
+    @Override
+    public int getConfigurationVersion() {
+        return configurationVersion.get();
+    }
+
     @Override
     public Class<ORIGIN> getOriginType() {
         return origin;
@@ -85,6 +106,7 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
     @Override
     public void setCustomOperation(OTCustomMapperOperation<ORIGIN, TARGET> customMapperOperation) {
         this.OTCustomMapperOperation = customMapperOperation;
+        configurationVersion.incrementAndGet();
     }
 
     @Override
@@ -94,6 +116,7 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
         }
         PropertyCustomNameDescriptor customNameDescriptor = new PropertyCustomNameDescriptor(originField, targetField);
         customNameDescriptors.add(customNameDescriptor);
+        configurationVersion.incrementAndGet();
     }
 
     @Override
@@ -102,16 +125,22 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
             throw new CustomizeMappingException("THE FIELD " + field + " DOES NOT EXIST");
         }
         excludedFields.add(field);
+        configurationVersion.incrementAndGet();
     }
 
     @Override
     public void excludeAllFields() {
         excludedFields.addAll(orginDeclaredProperties);
         excludedFields.addAll(targetDeclaredProperties);
+        configurationVersion.incrementAndGet();
     }
 
     @Override
     public List<PropertyMapDescriptor> generatePropertyMapDescriptors() {
+        if (targetConstructor != null) {
+            return generateConstructorMapDescriptors();
+        }
+
         Map<String, PropertyDescriptor> targetProperties = typeScanner.retrievePropertyDescriptors(target)
                 .stream()
                 .collect(Collectors.toMap(PropertyDescriptor::getName, p -> p));
@@ -134,6 +163,59 @@ public class OTMapperImp<ORIGIN, TARGET> implements OTOperativeMapper<ORIGIN, TA
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Associate the origin's properties to the parameters of the target's constructor with the same name
+     *
+     * @return property map descriptors of the constructor's parameters
+     */
+    private List<PropertyMapDescriptor> generateConstructorMapDescriptors() {
+        List<PropertyDescriptor> originProperties = typeScanner.retrievePropertyDescriptors(origin);
+
+        return originProperties.stream()
+                .filter(this::isValidForMapDescriptor)
+                .map(originProperty -> {
+                    assertReadableOrigin(originProperty);
+
+                    String originPropertyName = originProperty.getName();
+                    String targetPropertyName = findTargetPropertyNameByOrigin(originPropertyName);
+
+                    int parameterIndex = targetConstructor.getParameterIndex(targetPropertyName);
+                    assertValidTargetParameter(parameterIndex, targetPropertyName, originPropertyName);
+
+                    PropertyDescriptor targetProperty = createParameterProperty(targetPropertyName);
+                    return new PropertyMapDescriptor(originProperty, targetProperty, targetConstructor.getParameter(parameterIndex), parameterIndex);
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Check if target's constructor has a parameter for the property and its type is supported
+     * @param parameterIndex
+     * @param targetPropertyName
+     * @param originPropertyName
+     */
+    private void assertValidTargetParameter(int parameterIndex, String targetPropertyName, String originPropertyName) {
+        if (parameterIndex < 0) {
+            throw new OTException(String.format(ERROR_MESSAGE, origin.getName(), originPropertyName, "MATCH NOT FOUND! DOESN'T EXIST CONSTRUCTOR PARAMETER WITH SAME NAME IN " + target.getName()));
+        }
+        Class<?> parameterType = targetConstructor.getParameter(parameterIndex).getType();
+        if (jTypeEvaluator.isUnsupportedType(parameterType)) {
+            throw new OTException(String.format(ERROR_MESSAGE, target.getName(), targetPropertyName, "TYPE NOT SUPPORTED " + parameterType.getSimpleName()));
+        }
+    }
+
+    /**
+     * @param name name of the target's property
+     * @return descriptor of the target's property passed to the constructor, without read and write methods
+     */
+    private PropertyDescriptor createParameterProperty(String name) {
+        try {
+            return new PropertyDescriptor(name, null, null);
+        } catch (IntrospectionException exception) {
+            throw new OTException(String.format(ERROR_MESSAGE, target.getName(), name, "INVALID PROPERTY NAME"), exception);
+        }
+    }
+
     /**
      * @param originProperty origin property
      * @return true if origin and relative target is not present in excluded fields
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.metrics;
+
+import com.opymi.otamap.beans.MappingStatistics;
+import com.opymi.otamap.entry.services.MetricsSink;
+import com.opymi.otamap.exceptions.AccessPropertyException;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+import com.opymi.otamap.exceptions.OTException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MetricsSink} that keeps the metrics in memory and exposes them as {@link MappingMetricsMXBean}.
+ * Counters and histograms are lock-free, a pair of types is allocated at its first metric
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class JmxMetricsSinkImp implements MetricsSink, MappingMetricsMXBean {
+    public static final String DOMAIN = "com.opymi.otamap";
+
+    private final Map<Class<?>, Map<Class<?>, PairMetrics>> metrics = new ConcurrentHashMap<>();
+    private volatile ObjectName objectName;
+
+    @Override
+    public void recordMapping(Class<?> origin, Class<?> target, long durationNanos) {
+        PairMetrics pairMetrics = retrievePairMetrics(origin, target);
+        pairMetrics.invocations.increment();
+        pairMetrics.latency.record(durationNanos);
+    }
+
+    @Override
+    public void recordNestedMapping(Class<?> origin, Class<?> target) {
+        retrievePairMetrics(origin, target).nestedMappings.increment();
+    }
+
+    @Override
+    public void recordError(Class<?> origin, Class<?> target, Throwable error) {
+        PairMetrics pairMetrics = retrievePairMetrics(origin, target);
+        pairMetrics.invocations.increment();
+        if (error instanceof AccessPropertyException) {
+            pairMetrics.accessPropertyErrors.increment();
+        } else if (error instanceof CreateInstanceException) {
+            pairMetrics.createInstanceErrors.increment();
+        } else if (error instanceof OTException) {
+            pairMetrics.otErrors.increment();
+        } else {
+            pairMetrics.otherErrors.increment();
+        }
+    }
+
+    @Override
+    public void recordLookup(Class<?> origin, Class<?> target, long durationNanos) {
+        retrievePairMetrics(origin, target).lookupLatency.record(durationNanos);
+    }
+
+    @Override
+    public List<MappingStatistics> getStatistics() {
+        List<MappingStatistics> statistics = new ArrayList<>();
+        for (Map<Class<?>, PairMetrics> metricsByTarget : metrics.values()) {
+            for (PairMetrics pairMetrics : metricsByTarget.values()) {
+                statistics.add(pairMetrics.snapshot());
+            }
+        }
+        statistics.sort(Comparator.comparing(MappingStatistics::getOrigin).thenComparing(MappingStatistics::getTarget));
+        return statistics;
+    }
+
+    @Override
+    public void reset() {
+        metrics.clear();
+    }
+
+    /**
+     * Register the sink on the platform MBean server
+     *
+     * @param name name of the sink, distinguishes sinks of different providers
+     * @return name of the registered MBean
+     * @throws OTException if the registration fails
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName mbeanName = new ObjectName(DOMAIN + ":type=MappingMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, mbeanName);
+            objectName = mbeanName;
+            return mbeanName;
+        } catch (JMException cause) {
+            throw new OTException("CANNOT REGISTER MAPPING METRICS " + name, cause);
+        }
+    }
+
+    /**
+     * Unregister the sink from the platform MBean server, if registered
+     *
+     * @throws OTException if the unregistration fails
+     */
+    public void unregister() {
+        ObjectName mbeanName = objectName;
+        if (mbeanName == null) {
+            return;
+        }
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            if (mbeanServer.isRegistered(mbeanName)) {
+                mbeanServer.unregisterMBean(mbeanName);
+            }
+            objectName = null;
+        } catch (JMException cause) {
+            throw new OTException("CANNOT UNREGISTER MAPPING METRICS " + mbeanName, cause);
+        }
+    }
+
+    /**
+     * @return metrics of the pair of types, created at the first use
+     */
+    private PairMetrics retrievePairMetrics(Class<?> origin, Class<?> target) {
+        Map<Class<?>, PairMetrics> metricsByTarget = metrics.get(origin);
+        if (metricsByTarget == null) {
+            metricsByTarget = metrics.computeIfAbsent(origin, key -> new ConcurrentHashMap<>());
+        }
+        PairMetrics pairMetrics = metricsByTarget.get(target);
+        if (pairMetrics == null) {
+            pairMetrics = metricsByTarget.computeIfAbsent(target, key -> new PairMetrics(origin, target));
+        }
+        return pairMetrics;
+    }
+
+    /**
+     * Metrics of a pair of origin's type and target's type
+     */
+    private static class PairMetrics {
+        private final Class<?> origin;
+        private final Class<?> target;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder nestedMappings = new LongAdder();
+        private final LongAdder accessPropertyErrors = new LongAdder();
+        private final LongAdder createInstanceErrors = new LongAdder();
+        private final LongAdder otErrors = new LongAdder();
+        private final LongAdder otherErrors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram lookupLatency = new LatencyHistogram();
+
+        private PairMetrics(Class<?> origin, Class<?> target) {
+            this.origin = origin;
+            this.target = target;
+        }
+
+        private MappingStatistics snapshot() {
+            return new MappingStatistics(origin.getName(), target.getName(), invocations.sum(), nestedMappings.sum(), accessPropertyErrors.sum(),
+                    createInstanceErrors.sum(), otErrors.sum(), otherErrors.sum(), latency.snapshot(), lookupLatency.snapshot());
+        }
+    }
+
+}
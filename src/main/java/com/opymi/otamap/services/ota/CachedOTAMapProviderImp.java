@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.ota;
+
+import com.opymi.otamap.beans.OTAMapConfiguration;
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.services.OTAMapProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link OTAMap} Factory that reuses the instances created for its repository,
+ * it is shared by the {@link OTAMapImp} that map the same objects graph so each pair of types has a single engine
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class CachedOTAMapProviderImp implements OTAMapProvider {
+    private final OTAMapProviderImp otaMapProvider;
+    private final OTRepository repository;
+    private final Map<Class<?>, Map<Class<?>, OTAMap<?, ?>>> otaMaps = new ConcurrentHashMap<>();
+
+    public CachedOTAMapProviderImp(OTAMapProviderImp otaMapProvider, OTRepository repository) {
+        this.otaMapProvider = otaMapProvider;
+        this.repository = repository;
+    }
+
+    /**
+     * @return repository of the cached {@link OTAMap}
+     */
+    OTRepository getRepository() {
+        return repository;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> getOTAMap(OTRepository repository, Class<ORIGIN> origin, Class<TARGET> target) {
+        if (repository != this.repository) {
+            return otaMapProvider.getOTAMap(repository, origin, target);
+        }
+
+        Map<Class<?>, OTAMap<?, ?>> otaMapsByTarget = otaMaps.computeIfAbsent(origin, key -> new ConcurrentHashMap<>());
+        OTAMap<?, ?> otaMap = otaMapsByTarget.get(target);
+        if (otaMap == null) {
+            otaMap = otaMapsByTarget.computeIfAbsent(target, key -> otaMapProvider.createOTAMapImp(repository, origin, target, this));
+        }
+        return (OTAMap<ORIGIN, TARGET>) otaMap;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> getOTAMap(Class<ORIGIN> origin, Class<TARGET> target) {
+        return otaMapProvider.getOTAMap(origin, target);
+    }
+
+    @Override
+    public OTAMapConfiguration getConfiguration() {
+        return otaMapProvider.getConfiguration();
+    }
+
+    @Override
+    public OTAMapProvider withConfiguration(OTAMapConfiguration configuration) {
+        return otaMapProvider.withConfiguration(configuration);
+    }
+
+}
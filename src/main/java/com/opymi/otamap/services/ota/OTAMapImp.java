@@ -25,24 +25,58 @@
 package com.opymi.otamap.services.ota;
 
 import com.opymi.otamap.entry.*;
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+import com.opymi.otamap.entry.services.GeneratedMapper;
+import com.opymi.otamap.entry.services.InstanceFactoryProvider;
 import com.opymi.otamap.entry.services.JTypeEvaluator;
+import com.opymi.otamap.entry.services.MappingDiagnostics;
+import com.opymi.otamap.entry.services.MapperGenerator;
+import com.opymi.otamap.entry.services.MetricsSink;
 import com.opymi.otamap.entry.services.OTAMapProvider;
 import com.opymi.otamap.entry.services.OTAMessageFormatter;
+import com.opymi.otamap.entry.services.PropertyAccessorFactory;
+import com.opymi.otamap.entry.services.PropertyMapFallback;
 import com.opymi.otamap.exceptions.AccessPropertyException;
 import com.opymi.otamap.exceptions.CreateInstanceException;
 import com.opymi.otamap.exceptions.OTException;
 import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.beans.ConstructorAccessor;
+import com.opymi.otamap.beans.ConstructorDescriptor;
+import com.opymi.otamap.beans.InstantiationStrategy;
+import com.opymi.otamap.beans.MappingContext;
+import com.opymi.otamap.beans.MappingPlan;
+import com.opymi.otamap.beans.OTAMapConfiguration;
+import com.opymi.otamap.beans.PropertyMapAccessor;
 import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.services.jfr.MappingEvent;
+import com.opymi.otamap.services.jfr.MappingPlanCompilationEvent;
+import com.opymi.otamap.services.jfr.NestedMappingEvent;
+import com.opymi.otamap.services.utils.MappingDiagnosticsImp;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.ListIterator;
 import java.util.Objects;
-import java.util.logging.Logger;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.stream.Stream;
 
 /**
- * Core engine to build a {@param <TARGET>} object from an {@param <ORIGIN>} object
+ * Core engine to build a {@param <TARGET>} object from an {@param <ORIGIN>} object.
+ * The mapping path holds no monitor, mapper and plan are published through volatile fields,
+ * so mappings running on virtual threads are never pinned to their carrier.
+ * Records and immutable targets are created by constructor once their properties are mapped,
+ * a given target is not modified and a new target is returned instead.
+ * When flight recorder events are enabled, mappings, nested mappings and compilations of mapping plans
+ * are reported as {@link MappingEvent}, {@link NestedMappingEvent} and {@link MappingPlanCompilationEvent}
  *
  * @param <ORIGIN>
  * @param <TARGET>
@@ -51,7 +85,7 @@ import java.util.logging.Logger;
  * @since 1.0
  */
 public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
-    private static final Logger logger = Logger.getLogger(OTAMapImp.class.getSimpleName());
+    private static final MappingDiagnostics DEFAULT_DIAGNOSTICS = new MappingDiagnosticsImp();
 
     private final OTRepository repository;
     private final Class<ORIGIN> originType;
@@ -60,6 +94,28 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
     private JTypeEvaluator jTypeEvaluator;
     private OTAMessageFormatter messageFormatter;
     private OTMapperBuilderProvider mapperBuilderProvider;
+    private PropertyAccessorFactory propertyAccessorFactory;
+    private MapperGenerator mapperGenerator;
+    private OTAMapProvider otaMapProvider;
+    private InstanceFactoryProvider instanceFactoryProvider;
+    private InstantiationStrategy instantiationStrategy = InstantiationStrategy.METHOD_HANDLE;
+
+    private final PropertyMapFallback shallowFallback = (originValue, propertyMapAccessor, target) -> mapProperty(propertyMapAccessor, originValue, target, null);
+    private final ElementMapper shallowElementMapper = (originElement, elementType) -> mapTargetByOrigin(originElement, elementType, null);
+
+    private int parallelBatchSize = OTAMapConfiguration.DEFAULT.getParallelBatchSize();
+    private Executor asyncExecutor;
+    private MappingDiagnostics diagnostics = DEFAULT_DIAGNOSTICS;
+    private boolean traceMappings;
+    private MetricsSink metricsSink;
+    private boolean flightRecorderEvents;
+    private boolean iterativeDeepMapping;
+    private int maxMappingDepth;
+    private int maxMappingNodes;
+
+    private volatile OTMapper<ORIGIN, TARGET> defaultMapper;
+    private volatile MappingPlan<ORIGIN, TARGET> mappingPlan;
+    private volatile InstanceFactory<TARGET> defaultInstanceFactory;
 
     public OTAMapImp(OTRepository repository, Class<ORIGIN> originType, Class<TARGET> targetType) {
         this.originType = originType;
@@ -77,10 +133,93 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
             return (TARGET) origin;
         }
         else {
-           return transmute(origin, target, deepAutomatedMapping);
+            if (traceMappings && diagnostics.isEnabled(Level.FINEST)) {
+                diagnostics.log(Level.FINEST, () -> messageFormatter.formatMappingMessage(originType, targetType, deepAutomatedMapping ? "DEEP MAPPING" : "MAPPING"));
+            }
+            if (flightRecorderEvents && MappingEvent.isRecorded()) {
+                return recordTransmute(origin, target, deepAutomatedMapping);
+            }
+            MetricsSink sink = metricsSink;
+            return sink != null ? measureTransmute(sink, origin, target, deepAutomatedMapping) : transmute(origin, target, deepAutomatedMapping);
+        }
+    }
+
+    /**
+     * Transmute origin to target reporting the mapping to the flight recorder
+     *
+     * @param origin
+     * @param target
+     * @param deepAutomatedMapping
+     * @return target object
+     */
+    private TARGET recordTransmute(ORIGIN origin, TARGET target, boolean deepAutomatedMapping) {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        MetricsSink sink = metricsSink;
+        TARGET result = sink != null ? measureTransmute(sink, origin, target, deepAutomatedMapping) : transmute(origin, target, deepAutomatedMapping);
+        commitMapping(event, deepAutomatedMapping);
+        return result;
+    }
+
+    private void commitMapping(MappingEvent event, boolean deepAutomatedMapping) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.originType = originType;
+            event.targetType = targetType;
+            event.deep = deepAutomatedMapping;
+            event.propertyCount = retrievePropertyCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * @return number of properties of the compiled mapping plan, zero if no plan has been compiled because a converter maps the types
+     */
+    private int retrievePropertyCount() {
+        MappingPlan<ORIGIN, TARGET> plan = mappingPlan;
+        return plan != null ? plan.getPropertyMapAccessors().size() : 0;
+    }
+
+    /**
+     * Transmute origin to target recording duration or error on the metrics sink
+     *
+     * @param sink
+     * @param origin
+     * @param target
+     * @param deepAutomatedMapping
+     * @return target object
+     */
+    private TARGET measureTransmute(MetricsSink sink, ORIGIN origin, TARGET target, boolean deepAutomatedMapping) {
+        long start = System.nanoTime();
+        try {
+            TARGET result = transmute(origin, target, deepAutomatedMapping);
+            sink.recordMapping(originType, targetType, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException error) {
+            sink.recordError(originType, targetType, error);
+            throw error;
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public final TARGET map(ORIGIN origin, TARGET target, MappingContext context) {
+        if (context == null) {
+            throw new OTException("CONTEXT MANDATORY");
+        }
+        else if (origin == null) {
+            return null;
+        }
+        else if (Objects.equals(originType, targetType) || jTypeEvaluator.isPrimitivable(originType, targetType)) {
+            return (TARGET) origin;
+        }
+        Object mappedTarget = context.getTarget(origin, targetType);
+        if (mappedTarget != null && (target == null || target == mappedTarget)) {
+            return (TARGET) mappedTarget;
+        }
+        return transmute(origin, target, context);
+    }
+
     @Override
     public final TARGET map(ORIGIN origin, TARGET target) {
         return map(origin, target, false);
@@ -97,6 +236,256 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
         return map(origin, null, deepAutomatedMapping);
     }
 
+    @Override
+    public final List<TARGET> mapAll(Iterable<ORIGIN> origins, boolean deepAutomatedMapping) {
+        if (origins == null) {
+            throw new OTException("ORIGINS MANDATORY");
+        }
+        BiFunction<ORIGIN, TARGET, TARGET> transmutation = resolveTransmutation(deepAutomatedMapping);
+        List<TARGET> targets = origins instanceof Collection ? new ArrayList<>(((Collection<?>) origins).size()) : new ArrayList<>();
+        for (ORIGIN origin : origins) {
+            targets.add(origin != null ? transmutation.apply(origin, null) : null);
+        }
+        return targets;
+    }
+
+    @Override
+    public final List<TARGET> mapAll(Iterable<ORIGIN> origins) {
+        return mapAll(origins, false);
+    }
+
+    @Override
+    public final List<TARGET> mapAll(ORIGIN[] origins, boolean deepAutomatedMapping) {
+        if (origins == null) {
+            throw new OTException("ORIGINS MANDATORY");
+        }
+        return mapAll(Arrays.asList(origins), deepAutomatedMapping);
+    }
+
+    @Override
+    public final List<TARGET> mapAll(ORIGIN[] origins) {
+        return mapAll(origins, false);
+    }
+
+    @Override
+    public final List<TARGET> mapInto(List<ORIGIN> origins, List<TARGET> targets, boolean deepAutomatedMapping) {
+        if (origins == null || targets == null) {
+            throw new OTException("ORIGINS AND TARGETS MANDATORY");
+        } else if (origins.size() != targets.size()) {
+            throw new OTException("ORIGINS AND TARGETS MUST HAVE THE SAME SIZE");
+        }
+        BiFunction<ORIGIN, TARGET, TARGET> transmutation = resolveTransmutation(deepAutomatedMapping);
+        ListIterator<TARGET> targetIterator = targets.listIterator();
+        for (ORIGIN origin : origins) {
+            TARGET target = targetIterator.next();
+            TARGET result = origin != null ? transmutation.apply(origin, target) : null;
+            if (result != target) {
+                targetIterator.set(result);
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    public final List<TARGET> mapInto(List<ORIGIN> origins, List<TARGET> targets) {
+        return mapInto(origins, targets, false);
+    }
+
+    @Override
+    public final Stream<TARGET> mapStream(Stream<ORIGIN> origins, boolean deepAutomatedMapping) {
+        if (origins == null) {
+            throw new OTException("ORIGINS MANDATORY");
+        }
+        BiFunction<ORIGIN, TARGET, TARGET> transmutation = resolveTransmutation(deepAutomatedMapping);
+        return origins.map(origin -> origin != null ? transmutation.apply(origin, null) : null);
+    }
+
+    @Override
+    public final Stream<TARGET> mapStream(Stream<ORIGIN> origins) {
+        return mapStream(origins, false);
+    }
+
+    @Override
+    public final List<TARGET> mapAllParallel(Collection<ORIGIN> origins, ForkJoinPool pool, boolean deepAutomatedMapping) {
+        if (pool == null) {
+            throw new OTException("POOL MANDATORY");
+        }
+        Object[] targets = new Object[checkOrigins(origins).size()];
+        pool.invoke(createParallelMappingTask(origins, targets, deepAutomatedMapping));
+        return toTargets(targets);
+    }
+
+    @Override
+    public final List<TARGET> mapAllParallel(Collection<ORIGIN> origins, Executor executor, boolean deepAutomatedMapping) {
+        if (executor instanceof ForkJoinPool) {
+            return mapAllParallel(origins, (ForkJoinPool) executor, deepAutomatedMapping);
+        } else if (executor == null) {
+            throw new OTException("EXECUTOR MANDATORY");
+        }
+        Object[] targets = new Object[checkOrigins(origins).size()];
+        List<ParallelMappingTask<ORIGIN, TARGET>> parts = createParallelMappingTask(origins, targets, deepAutomatedMapping).split();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[parts.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(parts.get(i)::mapPart, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OTException(messageFormatter.formatMappingMessage(originType, targetType, "PARALLEL MAPPING FAILED"), e.getCause());
+        }
+        return toTargets(targets);
+    }
+
+    @Override
+    public final List<TARGET> mapAllParallel(Collection<ORIGIN> origins, boolean deepAutomatedMapping) {
+        return mapAllParallel(origins, ForkJoinPool.commonPool(), deepAutomatedMapping);
+    }
+
+    @Override
+    public final List<TARGET> mapAllParallel(Collection<ORIGIN> origins) {
+        return mapAllParallel(origins, false);
+    }
+
+    @Override
+    public final CompletableFuture<TARGET> mapAsync(ORIGIN origin, boolean deepAutomatedMapping) {
+        return CompletableFuture.supplyAsync(() -> map(origin, null, deepAutomatedMapping), retrieveAsyncExecutor());
+    }
+
+    @Override
+    public final CompletableFuture<TARGET> mapAsync(ORIGIN origin) {
+        return mapAsync(origin, false);
+    }
+
+    @Override
+    public final CompletableFuture<List<TARGET>> mapAllAsync(Iterable<ORIGIN> origins, boolean deepAutomatedMapping) {
+        if (origins == null) {
+            throw new OTException("ORIGINS MANDATORY");
+        }
+        return CompletableFuture.supplyAsync(() -> mapAll(origins, deepAutomatedMapping), retrieveAsyncExecutor());
+    }
+
+    @Override
+    public final CompletableFuture<List<TARGET>> mapAllAsync(Iterable<ORIGIN> origins) {
+        return mapAllAsync(origins, false);
+    }
+
+    /**
+     * @return configured executor of the asynchronous mapping or the {@link DefaultAsyncExecutor}
+     */
+    private Executor retrieveAsyncExecutor() {
+        return asyncExecutor != null ? asyncExecutor : DefaultAsyncExecutor.get();
+    }
+
+    private Collection<ORIGIN> checkOrigins(Collection<ORIGIN> origins) {
+        if (origins == null) {
+            throw new OTException("ORIGINS MANDATORY");
+        }
+        return origins;
+    }
+
+    /**
+     * Create the root task of the parallel mapping, origins without exact size of the parts are copied in a list
+     *
+     * @param origins
+     * @param targets array of targets as large as origins
+     * @param deepAutomatedMapping
+     * @return {@link ParallelMappingTask} of all origins
+     */
+    private ParallelMappingTask<ORIGIN, TARGET> createParallelMappingTask(Collection<ORIGIN> origins, Object[] targets, boolean deepAutomatedMapping) {
+        BiFunction<ORIGIN, TARGET, TARGET> transmutation = resolveTransmutation(deepAutomatedMapping);
+        Spliterator<ORIGIN> spliterator = origins.spliterator();
+        if (!spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            spliterator = new ArrayList<>(origins).spliterator();
+        }
+        return new ParallelMappingTask<>(spliterator, 0, targets, transmutation, parallelBatchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TARGET> toTargets(Object[] targets) {
+        return (List<TARGET>) new ArrayList<>(Arrays.asList(targets));
+    }
+
+    /**
+     * Resolve once the transmutation of not null origins used by batch mapping,
+     * each origin is reported to the metrics sink and the flight recorder as a top-level mapping
+     *
+     * @param deepAutomatedBuild
+     * @return function of origin and target, target can be null
+     */
+    @SuppressWarnings("unchecked")
+    private BiFunction<ORIGIN, TARGET, TARGET> resolveTransmutation(boolean deepAutomatedBuild) {
+        if (Objects.equals(originType, targetType) || jTypeEvaluator.isPrimitivable(originType, targetType)) {
+            return (origin, target) -> (TARGET) origin;
+        }
+        BiFunction<ORIGIN, TARGET, TARGET> transmutation = resolveTransmuterTransmutation(deepAutomatedBuild);
+        MetricsSink sink = metricsSink;
+        if (sink == null && !flightRecorderEvents) {
+            return transmutation;
+        }
+        return (origin, target) -> recordTransmutation(sink, transmutation, origin, target, deepAutomatedBuild);
+    }
+
+    /**
+     * Transmute origin to target reporting the mapping to the metrics sink, if present, and to the flight recorder, if recorded
+     *
+     * @param sink metrics sink, can be null
+     * @param transmutation resolved transmutation
+     * @param origin
+     * @param target
+     * @param deepAutomatedMapping
+     * @return target object
+     */
+    private TARGET recordTransmutation(MetricsSink sink, BiFunction<ORIGIN, TARGET, TARGET> transmutation, ORIGIN origin, TARGET target, boolean deepAutomatedMapping) {
+        MappingEvent event = flightRecorderEvents && MappingEvent.isRecorded() ? new MappingEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = sink != null ? System.nanoTime() : 0;
+        TARGET result;
+        try {
+            result = transmutation.apply(origin, target);
+        } catch (RuntimeException error) {
+            if (sink != null) {
+                sink.recordError(originType, targetType, error);
+            }
+            throw error;
+        }
+        if (sink != null) {
+            sink.recordMapping(originType, targetType, System.nanoTime() - start);
+        }
+        if (event != null) {
+            commitMapping(event, deepAutomatedMapping);
+        }
+        return result;
+    }
+
+    /**
+     * @param deepAutomatedBuild
+     * @return transmutation of the transmuter of origin's type and target's type
+     */
+    @SuppressWarnings("unchecked")
+    private BiFunction<ORIGIN, TARGET, TARGET> resolveTransmuterTransmutation(boolean deepAutomatedBuild) {
+
+        OTTransmuter<ORIGIN, TARGET> transmuter = repository != null ? repository.find(originType, targetType) : null;
+        if (transmuter == null) {
+            transmuter = retrieveDefaultMapper();
+        }
+
+        if (transmuter instanceof OTConverter) {
+            OTConverter<ORIGIN, TARGET> converter = (OTConverter<ORIGIN, TARGET>) transmuter;
+            return (origin, target) -> converter.convert(origin);
+        } else if (transmuter instanceof OTMapper) {
+            OTMapper<ORIGIN, TARGET> mapper = (OTMapper<ORIGIN, TARGET>) transmuter;
+            MappingPlan<ORIGIN, TARGET> plan = retrieveMappingPlan(mapper);
+            return (origin, target) -> transmute(mapper, plan, origin, target, deepAutomatedBuild ? createMappingContext() : null);
+        }
+        String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, "TRANSMUTER TYPE NOT SUPPORTED");
+        throw new OTException(errorMessage);
+    }
+
     /**
      * Transmute origin to target
      *
@@ -107,21 +496,56 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
      * @return target object
      */
     protected TARGET transmute(ORIGIN origin, TARGET target, boolean deepAutomatedBuild) {
-        if (repository != null && repository.exists(originType, targetType)) {
-            OTTransmuter<ORIGIN, TARGET> transmuter = repository.get(originType, targetType);
+        return transmute(origin, target, deepAutomatedBuild ? createMappingContext() : null);
+    }
+
+    /**
+     * @return context of a deep mapping, iterative with the configured budget if iterative deep mapping is enabled
+     */
+    private MappingContext createMappingContext() {
+        return iterativeDeepMapping ? new MappingContext(maxMappingDepth, maxMappingNodes) : new MappingContext();
+    }
+
+    /**
+     * Transmute origin to target registering the target in the context
+     *
+     * @param origin
+     * @param target
+     * @param context context of the deep mapping, null for shallow mapping
+     * @return target object
+     */
+    private TARGET transmute(ORIGIN origin, TARGET target, MappingContext context) {
+        OTTransmuter<ORIGIN, TARGET> transmuter = repository != null ? repository.find(originType, targetType) : null;
+        if (transmuter != null) {
             if (transmuter instanceof OTConverter) {
-                return ((OTConverter<ORIGIN, TARGET>) transmuter).convert(origin);
+                TARGET convertedTarget = ((OTConverter<ORIGIN, TARGET>) transmuter).convert(origin);
+                if (context != null) {
+                    context.putTarget(origin, targetType, convertedTarget);
+                }
+                return convertedTarget;
             } else if (transmuter instanceof OTMapper) {
-                return transmute((OTMapper<ORIGIN, TARGET>) transmuter, origin, target, deepAutomatedBuild);
+                return transmute((OTMapper<ORIGIN, TARGET>) transmuter, origin, target, context);
             } else {
                 String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, "TRANSMUTER TYPE NOT SUPPORTED");
                 throw new OTException(errorMessage);
             }
         }
         else {
-            OTMapper<ORIGIN, TARGET> mapper = mapperBuilderProvider.getBuilder(originType, targetType).getMapper();
-            return transmute(mapper, origin, target, deepAutomatedBuild);
+            OTMapper<ORIGIN, TARGET> mapper = retrieveDefaultMapper();
+            return transmute(mapper, origin, target, context);
+        }
+    }
+
+    /**
+     * @return default mapper for origin's type and target's type, created at the first use
+     */
+    private OTMapper<ORIGIN, TARGET> retrieveDefaultMapper() {
+        OTMapper<ORIGIN, TARGET> mapper = defaultMapper;
+        if (mapper == null) {
+            mapper = mapperBuilderProvider.getBuilder(originType, targetType).getMapper();
+            defaultMapper = mapper;
         }
+        return mapper;
     }
 
     /**
@@ -130,43 +554,238 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
      * @param mapper
      * @param origin
      * @param target
-     * @param deepAutomatedMap
+     * @param context
      * @return transmuted target instance
      */
-    private TARGET transmute(OTMapper<ORIGIN, TARGET> mapper, ORIGIN origin, TARGET target, boolean deepAutomatedMap) {
-        final TARGET newTarget = target != null ? target : createInstance(targetType);
+    private TARGET transmute(OTMapper<ORIGIN, TARGET> mapper, ORIGIN origin, TARGET target, MappingContext context) {
+        return transmute(mapper, retrieveMappingPlan(mapper), origin, target, context);
+    }
 
-        executeDefaultMapping(mapper, origin, newTarget, deepAutomatedMap);
+    /**
+     * Transmute origin to target using {@link OTMapper} and its plan
+     *
+     * @param mapper
+     * @param plan mapping plan of mapper
+     * @param origin
+     * @param target
+     * @param context context of the deep mapping, null for shallow mapping
+     * @return transmuted target instance
+     */
+    private TARGET transmute(OTMapper<ORIGIN, TARGET> mapper, MappingPlan<ORIGIN, TARGET> plan, ORIGIN origin, TARGET target, MappingContext context) {
+        if (plan.getConstructorAccessor() != null) {
+            return construct(mapper, plan, origin, context);
+        }
+        final TARGET newTarget = target != null ? target : createInstance();
+        if (context != null) {
+            context.putTarget(origin, targetType, newTarget);
+            if (context.isIterative()) {
+                Runnable mapping = () -> {
+                    executeDefaultMapping(plan, origin, newTarget, context);
+                    executeCustomMapping(mapper, origin, newTarget);
+                };
+                if (context.isExecuting()) {
+                    context.schedule(mapping);
+                } else {
+                    context.execute(mapping);
+                }
+                return newTarget;
+            }
+        }
+
+        executeDefaultMapping(plan, origin, newTarget, context);
         executeCustomMapping(mapper, origin, newTarget);
 
         return newTarget;
     }
 
     /**
-     * Execute default mapping of origin and target mapped properties
+     * Create the target by constructor: the values of the mapped properties are gathered in the constructor's arguments
+     * and the constructor is invoked once, then the target is registered in the context.
+     * In an iterative context the properties of the mutable nested objects are mapped through the work queue,
+     * a nested target created by constructor is mapped by recursion within the budget of the context
      *
      * @param mapper
+     * @param plan mapping plan of mapper, with the constructor of the target
+     * @param origin
+     * @param context context of the deep mapping, null for shallow mapping
+     * @return target object
+     */
+    @SuppressWarnings("unchecked")
+    private TARGET construct(OTMapper<ORIGIN, TARGET> mapper, MappingPlan<ORIGIN, TARGET> plan, ORIGIN origin, MappingContext context) {
+        if (context == null || !context.isIterative()) {
+            return constructTarget(mapper, plan, origin, context);
+        }
+        if (!context.isExecuting()) {
+            Object[] root = new Object[1];
+            context.execute(() -> root[0] = constructTarget(mapper, plan, origin, context));
+            return (TARGET) root[0];
+        }
+        context.descendConstruction();
+        try {
+            return constructTarget(mapper, plan, origin, context);
+        } finally {
+            context.ascend();
+        }
+    }
+
+    /**
+     * @see #construct(OTMapper, MappingPlan, Object, MappingContext)
+     */
+    @SuppressWarnings("unchecked")
+    private TARGET constructTarget(OTMapper<ORIGIN, TARGET> mapper, MappingPlan<ORIGIN, TARGET> plan, ORIGIN origin, MappingContext context) {
+        if (context != null) {
+            context.startConstruction(origin, targetType);
+        }
+
+        ConstructorAccessor constructorAccessor = plan.getConstructorAccessor();
+        Object[] arguments = constructorAccessor.createArguments();
+        List<PropertyMapAccessor> propertyMapAccessors = plan.getPropertyMapAccessors();
+        for (int i = 0; i < propertyMapAccessors.size(); i++) {
+            PropertyMapAccessor propertyMapAccessor = propertyMapAccessors.get(i);
+            Object originValue = readOriginValue(propertyMapAccessor, origin);
+            Object targetValue = originValue != null ? mapPropertyValue(propertyMapAccessor, originValue, context) : null;
+            if (targetValue != null) {
+                arguments[propertyMapAccessor.getDescriptor().getParameterIndex()] = targetValue;
+            }
+        }
+
+        TARGET newTarget;
+        try {
+            newTarget = (TARGET) constructorAccessor.newInstance(arguments);
+        } catch (Throwable cause) {
+            throw createInstanceException(cause);
+        }
+        if (context != null) {
+            context.putTarget(origin, targetType, newTarget);
+        }
+        executeCustomMapping(mapper, origin, newTarget);
+        return newTarget;
+    }
+
+    /**
+     * Execute default mapping of origin and target mapped properties
+     *
+     * @param plan
      * @param origin
      * @param target
-     * @param deepAutomatedMap
+     * @param context
      */
-    private void executeDefaultMapping(OTMapper<ORIGIN, TARGET> mapper, ORIGIN origin, TARGET target, boolean deepAutomatedMap) {
-        List<PropertyMapDescriptor> propertyMapDescriptors = generatePropertyMapDescriptors(mapper);
-        propertyMapDescriptors.forEach(propertyMapDescriptor -> {
-            PropertyDescriptor originProperty = propertyMapDescriptor.getOrigin();
-            PropertyDescriptor targetProperty = propertyMapDescriptor.getTarget();
-            try {
-                Object originValue = origin != null ? originProperty.getReadMethod().invoke(origin) : null;
-                if(originValue != null) {
-                    Object targetValue = mapTargetByOrigin(originValue, targetProperty.getPropertyType(), deepAutomatedMap);
-                    targetProperty.getWriteMethod().invoke(target, targetValue);
-                }
-            } catch (IllegalAccessException | InvocationTargetException cause) {
-                String detailMessage = "CANNOT READ ORIGIN'S PROPERTY " + originProperty.getName() + " OR CANNOT WRITE TARGET'S PROPERTY " + targetProperty.getName();
-                String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, detailMessage);
-                throw new AccessPropertyException(errorMessage, cause);
+    private void executeDefaultMapping(MappingPlan<ORIGIN, TARGET> plan, ORIGIN origin, TARGET target, MappingContext context) {
+        GeneratedMapper generatedMapper = plan.getGeneratedMapper();
+        if (generatedMapper != null && origin != null) {
+            executeGeneratedMapping(generatedMapper, origin, target, context);
+            return;
+        }
+
+        List<PropertyMapAccessor> propertyMapAccessors = plan.getPropertyMapAccessors();
+        for (int i = 0; i < propertyMapAccessors.size(); i++) {
+            PropertyMapAccessor propertyMapAccessor = propertyMapAccessors.get(i);
+            if (origin != null && propertyMapAccessor.isDirectCopy()) {
+                copyProperty(propertyMapAccessor, origin, target);
+                continue;
             }
-        });
+            Object originValue = origin != null ? readOriginValue(propertyMapAccessor, origin) : null;
+            if(originValue != null) {
+                mapProperty(propertyMapAccessor, originValue, target, context);
+            }
+        }
+    }
+
+    /**
+     * Execute default mapping by the mapper generated for the plan
+     *
+     * @param generatedMapper
+     * @param origin
+     * @param target
+     * @param context
+     */
+    private void executeGeneratedMapping(GeneratedMapper generatedMapper, ORIGIN origin, TARGET target, MappingContext context) {
+        PropertyMapFallback fallback = context != null
+                ? (originValue, propertyMapAccessor, targetObject) -> mapProperty(propertyMapAccessor, originValue, targetObject, context)
+                : shallowFallback;
+        try {
+            generatedMapper.map(origin, target, fallback);
+        } catch (OTException exception) {
+            throw exception;
+        } catch (Throwable cause) {
+            String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, "CANNOT READ ORIGIN'S PROPERTIES OR CANNOT WRITE TARGET'S PROPERTIES");
+            throw new AccessPropertyException(errorMessage, cause);
+        }
+    }
+
+    /**
+     * Map the not null origin's property value on the target's property
+     *
+     * @param propertyMapAccessor
+     * @param originValue
+     * @param target
+     * @param context
+     */
+    private void mapProperty(PropertyMapAccessor propertyMapAccessor, Object originValue, Object target, MappingContext context) {
+        writeTargetValue(propertyMapAccessor, target, mapPropertyValue(propertyMapAccessor, originValue, context));
+    }
+
+    /**
+     * Map the not null origin's property value to the value of the target's property
+     *
+     * @param propertyMapAccessor
+     * @param originValue
+     * @param context
+     * @return value of the target's property
+     */
+    private Object mapPropertyValue(PropertyMapAccessor propertyMapAccessor, Object originValue, MappingContext context) {
+        ContainerMapper containerMapper = propertyMapAccessor.getContainerMapper();
+        if (containerMapper != null) {
+            ElementMapper elementMapper = context != null
+                    ? (originElement, elementType) -> mapTargetByOrigin(originElement, elementType, context)
+                    : shallowElementMapper;
+            return containerMapper.map(originValue, elementMapper);
+        }
+        return mapTargetByOrigin(originValue, propertyMapAccessor.getDescriptor().getTargetType(), context);
+    }
+
+    /**
+     * @return value of the origin's property
+     * @throws AccessPropertyException if cannot read the origin's property
+     */
+    private Object readOriginValue(PropertyMapAccessor propertyMapAccessor, ORIGIN origin) {
+        try {
+            return propertyMapAccessor.read(origin);
+        } catch (Throwable cause) {
+            throw createAccessPropertyException(propertyMapAccessor, cause);
+        }
+    }
+
+    /**
+     * Copy the origin's property on the target's property without boxing
+     *
+     * @throws AccessPropertyException if cannot read the origin's property or cannot write the target's property
+     */
+    private void copyProperty(PropertyMapAccessor propertyMapAccessor, ORIGIN origin, Object target) {
+        try {
+            propertyMapAccessor.copy(origin, target);
+        } catch (Throwable cause) {
+            throw createAccessPropertyException(propertyMapAccessor, cause);
+        }
+    }
+
+    /**
+     * Write value on the target's property
+     *
+     * @throws AccessPropertyException if cannot write the target's property
+     */
+    private void writeTargetValue(PropertyMapAccessor propertyMapAccessor, Object target, Object targetValue) {
+        try {
+            propertyMapAccessor.write(target, targetValue);
+        } catch (Throwable cause) {
+            throw createAccessPropertyException(propertyMapAccessor, cause);
+        }
+    }
+
+    private AccessPropertyException createAccessPropertyException(PropertyMapAccessor propertyMapAccessor, Throwable cause) {
+        String detailMessage = "CANNOT READ ORIGIN'S PROPERTY " + propertyMapAccessor.getOrigin().getName() + " OR CANNOT WRITE TARGET'S PROPERTY " + propertyMapAccessor.getTarget().getName();
+        String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, detailMessage);
+        return new AccessPropertyException(errorMessage, cause);
     }
 
     /**
@@ -188,53 +807,196 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
      *
      * @param originPropertyValue
      * @param targetType
-     * @param deepAutomatedClone
+     * @param context context of the deep mapping, null for shallow mapping:
+     * an origin already mapped in the context is not mapped again
      *
      * @return target object
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private Object mapTargetByOrigin(Object originPropertyValue, Class<?> targetType, boolean deepAutomatedClone) {
+    private Object mapTargetByOrigin(Object originPropertyValue, Class<?> targetType, MappingContext context) {
         Class<?> originPropertyType = originPropertyValue.getClass();
 
         if (Objects.equals(originPropertyType, targetType) || jTypeEvaluator.isPrimitivable(originPropertyType, targetType)) {
             return originPropertyValue;
         }
-        else if (deepAutomatedClone || (repository != null && repository.exists(originPropertyType, targetType))) {
-            OTAMapProvider otaMapProvider = ServiceProvider.getService(OTAMapProvider.class);
+        else if (context != null) {
+            Object mappedTarget = context.getTarget(originPropertyValue, targetType);
+            if (mappedTarget != null) {
+                return mappedTarget;
+            }
             OTAMap otaMap = otaMapProvider.getOTAMap(repository, originPropertyType, targetType);
-            return otaMap.map(originPropertyValue, deepAutomatedClone);
+            recordNestedMapping(originPropertyType, targetType);
+            NestedMappingEvent event = flightRecorderEvents && NestedMappingEvent.isRecorded() ? beginNestedMapping() : null;
+            Object target = mapNested(otaMap, originPropertyValue, context);
+            if (event != null) {
+                commitNestedMapping(event, originPropertyType, targetType, context.getDepth() + 1);
+            }
+            return target;
+        }
+        else if (repository != null && repository.exists(originPropertyType, targetType)) {
+            OTAMap otaMap = otaMapProvider.getOTAMap(repository, originPropertyType, targetType);
+            recordNestedMapping(originPropertyType, targetType);
+            NestedMappingEvent event = flightRecorderEvents && NestedMappingEvent.isRecorded() ? beginNestedMapping() : null;
+            Object target = mapNested(otaMap, originPropertyValue);
+            if (event != null) {
+                commitNestedMapping(event, originPropertyType, targetType, 1);
+            }
+            return target;
         }
         return null;
     }
 
+    /**
+     * Deep map a nested object, in a recursive context the object is mapped one level deeper than its owner
+     *
+     * @param otaMap
+     * @param originPropertyValue
+     * @param context
+     * @return target object
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object mapNested(OTAMap otaMap, Object originPropertyValue, MappingContext context) {
+        if (context.isIterative()) {
+            return otaMap.map(originPropertyValue, null, context);
+        }
+        context.descend();
+        try {
+            return otaMap.map(originPropertyValue, null, context);
+        } finally {
+            context.ascend();
+        }
+    }
+
+    /**
+     * Shallow map a nested object through the internal path of the nested engine,
+     * so the nested mapping is not reported as a top-level mapping
+     *
+     * @param otaMap
+     * @param originPropertyValue
+     * @return target object
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object mapNested(OTAMap otaMap, Object originPropertyValue) {
+        if (otaMap instanceof OTAMapImp) {
+            return ((OTAMapImp) otaMap).transmute(originPropertyValue, null, (MappingContext) null);
+        }
+        return otaMap.map(originPropertyValue, false);
+    }
+
+    private NestedMappingEvent beginNestedMapping() {
+        NestedMappingEvent event = new NestedMappingEvent();
+        event.begin();
+        return event;
+    }
+
+    private void commitNestedMapping(NestedMappingEvent event, Class<?> originPropertyType, Class<?> targetType, int depth) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.originType = originPropertyType;
+            event.targetType = targetType;
+            event.depth = depth;
+            event.commit();
+        }
+    }
+
+    private void recordNestedMapping(Class<?> originPropertyType, Class<?> targetType) {
+        MetricsSink sink = metricsSink;
+        if (sink != null) {
+            sink.recordNestedMapping(originPropertyType, targetType);
+        }
+    }
+
+    /**
+     * Retrieve the mapping plan compiled for the current configuration of {@param mapper},
+     * the plan is compiled again only when the mapper's configuration changes
+     *
+     * @param mapper
+     * @return {@link MappingPlan} of mapper
+     */
+    private MappingPlan<ORIGIN, TARGET> retrieveMappingPlan(OTMapper<ORIGIN, TARGET> mapper) {
+        MappingPlan<ORIGIN, TARGET> plan = mappingPlan;
+        if (plan == null || !plan.isCompiledFor(mapper)) {
+            plan = compileMappingPlan(mapper);
+            mappingPlan = plan;
+        }
+        return plan;
+    }
+
     /**
      * @param mapper for origin {@param <O>} and target {@param <T>}
      *
-     * @return {@link Map} of {@link PropertyDescriptor} by mapper {@link OTMapper}
+     * @return {@link MappingPlan} verified for the current configuration of mapper {@link OTMapper}
      */
-    private <O, T> List<PropertyMapDescriptor> generatePropertyMapDescriptors(OTMapper<O, T> mapper) {
-        String verifyMessage = messageFormatter.formatMappingMessage(mapper.getOriginType(), mapper.getTargetType(), "VERIFY MAPPING");
-        logger.info(verifyMessage);
+    private <O, T> MappingPlan<O, T> compileMappingPlan(OTMapper<O, T> mapper) {
+        diagnostics.log(Level.FINE, () -> messageFormatter.formatMappingMessage(mapper.getOriginType(), mapper.getTargetType(), "VERIFY MAPPING"));
+        MappingPlanCompilationEvent event = flightRecorderEvents ? new MappingPlanCompilationEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
         try {
-            return mapper.generatePropertyMapDescriptors();
+            int configurationVersion = mapper.getConfigurationVersion();
+            List<PropertyMapDescriptor> propertyMapDescriptors = mapper.generatePropertyMapDescriptors();
+            List<PropertyMapAccessor> propertyMapAccessors = new ArrayList<>(propertyMapDescriptors.size());
+            for (PropertyMapDescriptor propertyMapDescriptor : propertyMapDescriptors) {
+                propertyMapAccessors.add(propertyAccessorFactory.createAccessor(propertyMapDescriptor));
+            }
+            ConstructorDescriptor constructorDescriptor = mapper.getTargetConstructor();
+            ConstructorAccessor constructorAccessor = constructorDescriptor != null ? propertyAccessorFactory.createConstructorAccessor(constructorDescriptor) : null;
+            GeneratedMapper generatedMapper = mapperGenerator != null && constructorAccessor == null
+                    ? mapperGenerator.generate(mapper.getOriginType(), mapper.getTargetType(), propertyMapAccessors)
+                    : null;
+            if (event != null && event.shouldCommit()) {
+                event.originType = mapper.getOriginType();
+                event.targetType = mapper.getTargetType();
+                event.propertyCount = propertyMapAccessors.size();
+                event.generated = generatedMapper != null;
+                event.commit();
+            }
+            return new MappingPlan<>(mapper, configurationVersion, propertyMapAccessors, generatedMapper, constructorAccessor);
         } catch (Exception cause) {
-            String failedMessage = verifyMessage + " FAILED. CAUSE: " + cause.getMessage();
+            String failedMessage = messageFormatter.formatMappingMessage(mapper.getOriginType(), mapper.getTargetType(), "VERIFY MAPPING FAILED. CAUSE: " + cause.getMessage());
             throw new OTException(failedMessage, cause);
         }
     }
 
     /**
-     * @return an instance of {@param type} class
+     * @return an instance of target's type, created by the factory stored in the repository for target's type,
+     * looked up at each call like the transmuters, otherwise by the default factory resolved at the first use
      */
-    private <T> T createInstance(Class<T> type) {
+    private TARGET createInstance() {
+        InstanceFactory<TARGET> factory = repository != null ? repository.findInstanceFactory(targetType) : null;
+        if (factory == null) {
+            factory = retrieveDefaultInstanceFactory();
+        }
         try {
-            return type.getDeclaredConstructor().newInstance();
-        } catch (ReflectiveOperationException | IllegalArgumentException | ExceptionInInitializerError cause) {
-            String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, "CANNOT CREATE INSTANCE OF " + type.getName());
-            throw new CreateInstanceException(errorMessage, cause);
+            return factory.newInstance();
+        } catch (Exception cause) {
+            throw createInstanceException(cause);
         }
     }
 
+    /**
+     * @return default factory of the instantiation strategy for target's type
+     * @throws CreateInstanceException if target's type has no accessible no-arg constructor
+     */
+    private InstanceFactory<TARGET> retrieveDefaultInstanceFactory() {
+        InstanceFactory<TARGET> factory = defaultInstanceFactory;
+        if (factory == null) {
+            try {
+                factory = instanceFactoryProvider.getInstanceFactory(targetType, instantiationStrategy);
+            } catch (RuntimeException cause) {
+                throw createInstanceException(cause);
+            }
+            defaultInstanceFactory = factory;
+        }
+        return factory;
+    }
+
+    private CreateInstanceException createInstanceException(Throwable cause) {
+        String errorMessage = messageFormatter.formatMappingMessage(originType, targetType, "CANNOT CREATE INSTANCE OF " + targetType.getName());
+        return new CreateInstanceException(errorMessage, cause);
+    }
+
     public void setjTypeEvaluator(JTypeEvaluator jTypeEvaluator) {
         this.jTypeEvaluator = jTypeEvaluator;
     }
@@ -247,4 +1009,60 @@ public class OTAMapImp<ORIGIN, TARGET> implements OTAMap<ORIGIN, TARGET> {
         this.mapperBuilderProvider = mapperBuilderProvider;
     }
 
+    public void setPropertyAccessorFactory(PropertyAccessorFactory propertyAccessorFactory) {
+        this.propertyAccessorFactory = propertyAccessorFactory;
+    }
+
+    public void setMapperGenerator(MapperGenerator mapperGenerator) {
+        this.mapperGenerator = mapperGenerator;
+    }
+
+    public void setOtaMapProvider(OTAMapProvider otaMapProvider) {
+        this.otaMapProvider = otaMapProvider;
+    }
+
+    public void setInstanceFactoryProvider(InstanceFactoryProvider instanceFactoryProvider) {
+        this.instanceFactoryProvider = instanceFactoryProvider;
+    }
+
+    public void setInstantiationStrategy(InstantiationStrategy instantiationStrategy) {
+        this.instantiationStrategy = instantiationStrategy;
+    }
+
+    public void setParallelBatchSize(int parallelBatchSize) {
+        this.parallelBatchSize = parallelBatchSize;
+    }
+
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public void setDiagnostics(MappingDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    public void setTraceMappings(boolean traceMappings) {
+        this.traceMappings = traceMappings;
+    }
+
+    public void setMetricsSink(MetricsSink metricsSink) {
+        this.metricsSink = metricsSink;
+    }
+
+    public void setFlightRecorderEvents(boolean flightRecorderEvents) {
+        this.flightRecorderEvents = flightRecorderEvents;
+    }
+
+    public void setIterativeDeepMapping(boolean iterativeDeepMapping) {
+        this.iterativeDeepMapping = iterativeDeepMapping;
+    }
+
+    public void setMaxMappingDepth(int maxMappingDepth) {
+        this.maxMappingDepth = maxMappingDepth;
+    }
+
+    public void setMaxMappingNodes(int maxMappingNodes) {
+        this.maxMappingNodes = maxMappingNodes;
+    }
+
 }
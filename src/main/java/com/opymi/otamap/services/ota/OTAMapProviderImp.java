@@ -24,30 +24,86 @@
 
 package com.opymi.otamap.services.ota;
 
+import com.opymi.otamap.beans.OTAMapConfiguration;
 import com.opymi.otamap.entry.OTAMap;
 import com.opymi.otamap.entry.OTRepository;
 import com.opymi.otamap.entry.ServiceProvider;
+import com.opymi.otamap.entry.services.InstanceFactoryProvider;
 import com.opymi.otamap.entry.services.JTypeEvaluator;
+import com.opymi.otamap.entry.services.MappingDiagnostics;
 import com.opymi.otamap.entry.services.OTAMapProvider;
 import com.opymi.otamap.entry.services.OTAMessageFormatter;
 import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
 import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.container.ContainerMapperFactoryImp;
+import com.opymi.otamap.services.generator.MapperGeneratorImp;
+import com.opymi.otamap.services.jfr.FlightRecorderEvents;
+import com.opymi.otamap.services.repository.MeasuredOTRepositoryImp;
 import com.opymi.otamap.services.repository.OTRepositoryImp;
+import com.opymi.otamap.services.repository.RecordedOTRepositoryImp;
 import com.opymi.otamap.services.utils.JTypeEvaluatorImp;
+import com.opymi.otamap.services.utils.MappingDiagnosticsImp;
 import com.opymi.otamap.services.utils.OTAMessageFormatterImp;
+import com.opymi.otamap.services.utils.PropertyAccessorFactoryImp;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * {@link OTAMap} Factory
+ * {@link OTAMap} Factory.
+ * The {@link OTAMap} of a repository are cached by a {@link CachedOTAMapProviderImp} reused by every call with the same repository:
+ * repositories are weak keys and the cache is weakly referenced, so it lives as long as one of its {@link OTAMap} is in use.
+ * The cache of the last repository is read without lock, the others are looked up under a {@link ReentrantLock}.
+ * Calls without repository share a default repository of the factory
  *
  * @author Antonino Verde
  * @since 2.0
  */
 public class OTAMapProviderImp implements OTAMapProvider {
+    private final OTAMapConfiguration configuration;
+    private final OTRepository defaultRepository = new OTRepositoryImp();
+    private final Map<OTRepository, NestedOTAMapProviderReference> nestedOTAMapProviders = new WeakHashMap<>();
+    private final Lock nestedOTAMapProvidersLock = new ReentrantLock();
+    private volatile NestedOTAMapProviderReference lastNestedOTAMapProvider;
+
+    /**
+     * Weak reference to the provider of a repository, it references weakly also the repository
+     * so the provider of the last repository can be checked without lock
+     */
+    private static class NestedOTAMapProviderReference extends WeakReference<CachedOTAMapProviderImp> {
+        private final Reference<OTRepository> repository;
+
+        private NestedOTAMapProviderReference(CachedOTAMapProviderImp nestedOTAMapProvider, OTRepository repository) {
+            super(nestedOTAMapProvider);
+            this.repository = new WeakReference<>(repository);
+        }
+
+        /**
+         * @return provider of the repository, null if it is collected or it belongs to another repository
+         */
+        private CachedOTAMapProviderImp get(OTRepository repository) {
+            return this.repository.get() == repository ? get() : null;
+        }
+    }
+
+    public OTAMapProviderImp() {
+        this(OTAMapConfiguration.DEFAULT);
+    }
+
+    public OTAMapProviderImp(OTAMapConfiguration configuration) {
+        if (configuration == null) {
+            throw new OTException("CONFIGURATION MANDATORY");
+        }
+        this.configuration = configuration;
+    }
 
     @Override
     public <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> getOTAMap(Class<ORIGIN> origin, Class<TARGET> target) {
-        OTRepository repository = new OTRepositoryImp();
-        return getOTAMap(repository, origin, target);
+        return getOTAMap(defaultRepository, origin, target);
     }
 
     @Override
@@ -55,7 +111,64 @@ public class OTAMapProviderImp implements OTAMapProvider {
         if (origin == null || target == null) {
             throw new OTException("TYPES MANDATORY");
         }
-        return createOTAMapImp(repository, origin, target);
+        CachedOTAMapProviderImp nestedOTAMapProvider = retrieveNestedOTAMapProvider(repository);
+        return nestedOTAMapProvider.getOTAMap(nestedOTAMapProvider.getRepository(), origin, target);
+    }
+
+    /**
+     * The provider of the last repository is read without lock, the others are looked up under a lock that doesn't pin virtual threads
+     *
+     * @param repository
+     * @return provider that caches the {@link OTAMap} of the repository, created at the first use or when the previous one is collected
+     */
+    private CachedOTAMapProviderImp retrieveNestedOTAMapProvider(OTRepository repository) {
+        NestedOTAMapProviderReference lastReference = lastNestedOTAMapProvider;
+        CachedOTAMapProviderImp nestedOTAMapProvider = lastReference != null ? lastReference.get(repository) : null;
+        if (nestedOTAMapProvider != null) {
+            return nestedOTAMapProvider;
+        }
+
+        nestedOTAMapProvidersLock.lock();
+        try {
+            NestedOTAMapProviderReference reference = nestedOTAMapProviders.get(repository);
+            nestedOTAMapProvider = reference != null ? reference.get() : null;
+            if (nestedOTAMapProvider == null) {
+                nestedOTAMapProvider = new CachedOTAMapProviderImp(this, createMappingRepository(repository));
+                reference = new NestedOTAMapProviderReference(nestedOTAMapProvider, repository);
+                nestedOTAMapProviders.put(repository, reference);
+            }
+            lastNestedOTAMapProvider = reference;
+            return nestedOTAMapProvider;
+        } finally {
+            nestedOTAMapProvidersLock.unlock();
+        }
+    }
+
+    /**
+     * @return repository used by the mappings, that reports the lookups to the flight recorder and to the metrics sink when configured
+     */
+    private OTRepository createMappingRepository(OTRepository repository) {
+        if (repository == null) {
+            return null;
+        }
+        OTRepository mappingRepository = repository;
+        if (configuration.isFlightRecorderEvents() && FlightRecorderEvents.isAvailable()) {
+            mappingRepository = new RecordedOTRepositoryImp(mappingRepository);
+        }
+        if (configuration.getMetricsSink() != null) {
+            mappingRepository = new MeasuredOTRepositoryImp(mappingRepository, configuration.getMetricsSink());
+        }
+        return mappingRepository;
+    }
+
+    @Override
+    public OTAMapConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public OTAMapProvider withConfiguration(OTAMapConfiguration configuration) {
+        return new OTAMapProviderImp(configuration);
     }
 
     /**
@@ -64,13 +177,14 @@ public class OTAMapProviderImp implements OTAMapProvider {
      * @param repository
      * @param origin
      * @param target
+     * @param nestedOTAMapProvider provider of the {@link OTAMap} used for nested properties
      *
      * @return {@link OTAMap} implementation
      *
      * @param <ORIGIN>
      * @param <TARGET>
      */
-    private <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> createOTAMapImp(OTRepository repository, Class<ORIGIN> origin, Class<TARGET> target) {
+    <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> createOTAMapImp(OTRepository repository, Class<ORIGIN> origin, Class<TARGET> target, OTAMapProvider nestedOTAMapProvider) {
         OTAMapImp<ORIGIN, TARGET> otaMap = new OTAMapImp<>(repository, origin, target);
 
         JTypeEvaluator jTypeEvaluator = new JTypeEvaluatorImp();
@@ -79,9 +193,40 @@ public class OTAMapProviderImp implements OTAMapProvider {
         OTAMessageFormatter messageFormatter = new OTAMessageFormatterImp();
         otaMap.setMessageFormatter(messageFormatter);
 
+        MappingDiagnostics diagnostics = configuration.getDiagnostics() != null ? configuration.getDiagnostics() : new MappingDiagnosticsImp();
+        otaMap.setDiagnostics(diagnostics);
+        otaMap.setTraceMappings(configuration.isTraceMappings());
+        otaMap.setMetricsSink(configuration.getMetricsSink());
+        otaMap.setInstanceFactoryProvider(ServiceProvider.getService(InstanceFactoryProvider.class));
+        otaMap.setInstantiationStrategy(configuration.getInstantiationStrategy());
+        otaMap.setFlightRecorderEvents(configuration.isFlightRecorderEvents() && FlightRecorderEvents.isAvailable());
+
         OTMapperBuilderProvider mapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
         otaMap.setMapperBuilderProvider(mapperBuilderProvider);
 
+        ContainerMapperFactoryImp containerMapperFactory = new ContainerMapperFactoryImp();
+        containerMapperFactory.setjTypeEvaluator(jTypeEvaluator);
+        containerMapperFactory.setSharedPrimitiveArrays(configuration.isSharedPrimitiveArrays());
+
+        PropertyAccessorFactoryImp propertyAccessorFactory = new PropertyAccessorFactoryImp();
+        propertyAccessorFactory.setContainerMapperFactory(containerMapperFactory);
+        otaMap.setPropertyAccessorFactory(propertyAccessorFactory);
+
+        otaMap.setOtaMapProvider(nestedOTAMapProvider);
+        otaMap.setParallelBatchSize(configuration.getParallelBatchSize());
+        otaMap.setAsyncExecutor(configuration.getAsyncExecutor());
+        otaMap.setIterativeDeepMapping(configuration.isIterativeDeepMapping());
+        otaMap.setMaxMappingDepth(configuration.getMaxMappingDepth());
+        otaMap.setMaxMappingNodes(configuration.getMaxMappingNodes());
+
+        if (configuration.isGeneratedMappers()) {
+            MapperGeneratorImp mapperGenerator = new MapperGeneratorImp();
+            if (configuration.getDiagnostics() != null) {
+                mapperGenerator.setDiagnostics(configuration.getDiagnostics());
+            }
+            otaMap.setMapperGenerator(mapperGenerator);
+        }
+
         return otaMap;
     }
 
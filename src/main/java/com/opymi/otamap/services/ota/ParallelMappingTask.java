@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.ota;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+
+/**
+ * Task of the parallel batch mapping: maps a part of the origins writing the targets at the origins' positions.
+ * The part is split while it is greater than the batch size, so the spliterator must know the exact size of its parts
+ *
+ * @param <ORIGIN>
+ * @param <TARGET>
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ParallelMappingTask<ORIGIN, TARGET> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Spliterator<ORIGIN> spliterator;
+    private final int offset;
+    private final Object[] targets;
+    private final BiFunction<ORIGIN, TARGET, TARGET> transmutation;
+    private final int batchSize;
+
+    /**
+     * @param spliterator part of the origins, with {@link Spliterator#SUBSIZED} characteristic
+     * @param offset position of the first origin of the part
+     * @param targets targets of all the origins
+     * @param transmutation transmutation of not null origins
+     * @param batchSize maximum size of a part mapped without splitting
+     */
+    public ParallelMappingTask(Spliterator<ORIGIN> spliterator, int offset, Object[] targets, BiFunction<ORIGIN, TARGET, TARGET> transmutation, int batchSize) {
+        this.spliterator = spliterator;
+        this.offset = offset;
+        this.targets = targets;
+        this.transmutation = transmutation;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected void compute() {
+        Spliterator<ORIGIN> prefix;
+        if (spliterator.estimateSize() > batchSize && (prefix = spliterator.trySplit()) != null) {
+            int prefixSize = (int) prefix.getExactSizeIfKnown();
+            invokeAll(new ParallelMappingTask<>(prefix, offset, targets, transmutation, batchSize),
+                    new ParallelMappingTask<>(spliterator, offset + prefixSize, targets, transmutation, batchSize));
+        } else {
+            mapPart();
+        }
+    }
+
+    /**
+     * Split the task in tasks not greater than the batch size, to be executed without fork/join
+     *
+     * @return tasks that map all the origins of this task
+     */
+    public List<ParallelMappingTask<ORIGIN, TARGET>> split() {
+        List<ParallelMappingTask<ORIGIN, TARGET>> parts = new ArrayList<>();
+        Deque<ParallelMappingTask<ORIGIN, TARGET>> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            ParallelMappingTask<ORIGIN, TARGET> task = pending.pop();
+            Spliterator<ORIGIN> prefix;
+            if (task.spliterator.estimateSize() > batchSize && (prefix = task.spliterator.trySplit()) != null) {
+                int prefixSize = (int) prefix.getExactSizeIfKnown();
+                pending.push(new ParallelMappingTask<>(task.spliterator, task.offset + prefixSize, targets, transmutation, batchSize));
+                pending.push(new ParallelMappingTask<>(prefix, task.offset, targets, transmutation, batchSize));
+            } else {
+                parts.add(task);
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Map the part without splitting
+     */
+    public void mapPart() {
+        int[] position = {offset};
+        spliterator.forEachRemaining(origin -> targets[position[0]++] = origin != null ? transmutation.apply(origin, null) : null);
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.repository;
+
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.entry.OTCustomTransmuterDefiner;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.OTTransmuter;
+import com.opymi.otamap.entry.services.MetricsSink;
+
+/**
+ * {@link OTRepository} that records the latency of the transmuter's lookups of another repository on a {@link MetricsSink}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MeasuredOTRepositoryImp implements OTRepository {
+    private final OTRepository repository;
+    private final MetricsSink metricsSink;
+
+    /**
+     * @param repository measured repository
+     * @param metricsSink sink of the lookups' metrics
+     */
+    public MeasuredOTRepositoryImp(OTRepository repository, MetricsSink metricsSink) {
+        this.repository = repository;
+        this.metricsSink = metricsSink;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> boolean exists(Class<ORIGIN> origin, Class<TARGET> target) {
+        long start = System.nanoTime();
+        boolean exists = repository.exists(origin, target);
+        metricsSink.recordLookup(origin, target, System.nanoTime() - start);
+        return exists;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void store(OTTransmuter<ORIGIN, TARGET> transmuter) {
+        repository.store(transmuter);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void store(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        repository.store(definer);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> get(Class<ORIGIN> origin, Class<TARGET> target) {
+        long start = System.nanoTime();
+        OTTransmuter<ORIGIN, TARGET> transmuter = repository.get(origin, target);
+        metricsSink.recordLookup(origin, target, System.nanoTime() - start);
+        return transmuter;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> find(Class<ORIGIN> origin, Class<TARGET> target) {
+        long start = System.nanoTime();
+        OTTransmuter<ORIGIN, TARGET> transmuter = repository.find(origin, target);
+        metricsSink.recordLookup(origin, target, System.nanoTime() - start);
+        return transmuter;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> computeIfAbsent(Class<ORIGIN> origin, Class<TARGET> target, OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        return repository.computeIfAbsent(origin, target, definer);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void remove(Class<ORIGIN> origin, Class<TARGET> target) {
+        repository.remove(origin, target);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void remove(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        repository.remove(definer);
+    }
+
+    @Override
+    public boolean supportsInstanceFactories() {
+        return repository.supportsInstanceFactories();
+    }
+
+    @Override
+    public <TARGET> void storeInstanceFactory(InstanceFactory<TARGET> instanceFactory) {
+        repository.storeInstanceFactory(instanceFactory);
+    }
+
+    @Override
+    public <TARGET> InstanceFactory<TARGET> findInstanceFactory(Class<TARGET> type) {
+        return repository.findInstanceFactory(type);
+    }
+
+    @Override
+    public <TARGET> void removeInstanceFactory(Class<TARGET> type) {
+        repository.removeInstanceFactory(type);
+    }
+
+    /**
+     * @return measured repository
+     */
+    public OTRepository getRepository() {
+        return repository;
+    }
+
+}
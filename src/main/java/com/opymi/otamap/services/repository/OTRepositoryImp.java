@@ -24,36 +24,63 @@
 
 package com.opymi.otamap.services.repository;
 
+import com.opymi.otamap.entry.InstanceFactory;
 import com.opymi.otamap.entry.OTRepository;
 import com.opymi.otamap.exceptions.OTException;
 import com.opymi.otamap.entry.OTCustomTransmuterDefiner;
 import com.opymi.otamap.entry.OTTransmuter;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Repository of {@link OTTransmuter} defined by user
+ * Repository of {@link OTTransmuter} defined by user.
+ * It can be shared by threads: reads are lock-free, store and remove are atomic.
+ * Transmuters are indexed by origin's class and then by target's class,
+ * lookups don't allocate and the index of an origin's class is created only when a transmuter is stored for it.
+ * Threads waiting for a transmuter being defined by another thread block on a future, not on a monitor
  *
  * @author Antonino Verde
  * @since 1.0
  */
 public class OTRepositoryImp implements OTRepository {
-    private final Map<String, OTTransmuter<?, ?>> repository = new HashMap<>();
+    private final ConcurrentMap<Class<?>, TransmutersByTarget> repository = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, InstanceFactory<?>> instanceFactories = new ConcurrentHashMap<>();
+
+    /**
+     * Transmuters and definitions in progress of an origin's type by target's type
+     */
+    private static class TransmutersByTarget {
+        private final ConcurrentMap<Class<?>, OTTransmuter<?, ?>> transmuters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Class<?>, Definition> definitions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Definition of a transmuter in progress
+     */
+    private static class Definition {
+        private final Thread owner = Thread.currentThread();
+        private final CompletableFuture<OTTransmuter<?, ?>> transmuter = new CompletableFuture<>();
+    }
 
 
     @Override
     public <ORIGIN, TARGET> boolean exists(Class<ORIGIN> origin, Class<TARGET> target) {
-        String key = composeKey(origin, target);
-        return repository.containsKey(key);
+        return find(origin, target) != null;
     }
 
     @Override
     public <ORIGIN, TARGET> void store(OTTransmuter<ORIGIN, TARGET> transmuter) {
         checkTransmuter(transmuter);
 
-        String key = composeKey(transmuter.getOriginType(), transmuter.getTargetType());
-        repository.put(key, transmuter);
+        Class<ORIGIN> origin = transmuter.getOriginType();
+        Class<TARGET> target = transmuter.getTargetType();
+        if (retrieveTransmutersByTarget(origin).transmuters.putIfAbsent(target, transmuter) != null) {
+            throw createAlreadyExistsException(origin, target);
+        }
     }
 
     @Override
@@ -67,17 +94,78 @@ public class OTRepositoryImp implements OTRepository {
     @Override
     @SuppressWarnings("unchecked")
     public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> get(Class<ORIGIN> origin, Class<TARGET> target) {
-        String key = composeKey(origin, target);
-        if (repository.containsKey(key)) {
-            return (OTTransmuter<ORIGIN, TARGET>) repository.get(key);
+        return find(origin, target);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> find(Class<ORIGIN> origin, Class<TARGET> target) {
+        if (origin == null || target == null) {
+            return null;
+        }
+        return findTransmuter(origin, target);
+    }
+
+    /**
+     * @return the transmuter or null, without creating the index of the origin's class
+     */
+    @SuppressWarnings("unchecked")
+    private <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> findTransmuter(Class<ORIGIN> origin, Class<TARGET> target) {
+        TransmutersByTarget transmuters = repository.get(origin);
+        return transmuters != null ? (OTTransmuter<ORIGIN, TARGET>) transmuters.transmuters.get(target) : null;
+    }
+
+    /**
+     * @return index of the origin's class, created at the first use
+     */
+    private TransmutersByTarget retrieveTransmutersByTarget(Class<?> origin) {
+        TransmutersByTarget transmuters = repository.get(origin);
+        return transmuters != null ? transmuters : repository.computeIfAbsent(origin, key -> new TransmutersByTarget());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> computeIfAbsent(Class<ORIGIN> origin, Class<TARGET> target, OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        OTTransmuter<ORIGIN, TARGET> transmuter = find(origin, target);
+        if (transmuter != null) {
+            return transmuter;
+        }
+        if (definer == null) {
+            throw new OTException("DEFINER IS NULL");
+        }
+
+        TransmutersByTarget transmuters = retrieveTransmutersByTarget(origin);
+        Definition definition = new Definition();
+        Definition running = transmuters.definitions.putIfAbsent(target, definition);
+        if (running != null) {
+            return awaitDefinition(running, origin, target);
+        }
+
+        try {
+            transmuter = (OTTransmuter<ORIGIN, TARGET>) transmuters.transmuters.get(target);
+            if (transmuter == null) {
+                transmuter = defineTransmuter(definer, origin, target);
+                OTTransmuter<?, ?> stored = transmuters.transmuters.putIfAbsent(target, transmuter);
+                if (stored != null) {
+                    transmuter = (OTTransmuter<ORIGIN, TARGET>) stored;
+                }
+            }
+            definition.transmuter.complete(transmuter);
+            return transmuter;
+        } catch (RuntimeException | Error e) {
+            definition.transmuter.completeExceptionally(e);
+            throw e;
+        } finally {
+            transmuters.definitions.remove(target, definition);
         }
-        return null;
     }
 
     @Override
     public <ORIGIN, TARGET> void remove(Class<ORIGIN> origin, Class<TARGET> target) {
-        String key = composeKey(origin, target);
-        repository.remove(key);
+        TransmutersByTarget transmuters = origin != null ? repository.get(origin) : null;
+        if (transmuters != null && target != null) {
+            transmuters.transmuters.remove(target);
+        }
     }
 
     @Override
@@ -88,11 +176,66 @@ public class OTRepositoryImp implements OTRepository {
         }
     }
 
+    @Override
+    public boolean supportsInstanceFactories() {
+        return true;
+    }
+
+    @Override
+    public <TARGET> void storeInstanceFactory(InstanceFactory<TARGET> instanceFactory) {
+        if (instanceFactory == null || instanceFactory.getType() == null) {
+            throw new OTException("INSTANCE FACTORY IS NULL");
+        }
+        instanceFactories.put(instanceFactory.getType(), instanceFactory);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <TARGET> InstanceFactory<TARGET> findInstanceFactory(Class<TARGET> type) {
+        return type != null ? (InstanceFactory<TARGET>) instanceFactories.get(type) : null;
+    }
+
+    @Override
+    public <TARGET> void removeInstanceFactory(Class<TARGET> type) {
+        if (type != null) {
+            instanceFactories.remove(type);
+        }
+    }
+
     /**
-     * @return key for types {@param origin} and {@param target}
+     * Define the transmuter and check that it is of the requested types
+     *
+     * @throws OTException
+     */
+    private <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> defineTransmuter(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer, Class<ORIGIN> origin, Class<TARGET> target) throws OTException {
+        OTTransmuter<ORIGIN, TARGET> transmuter = definer.define(this);
+        if (transmuter == null) {
+            throw new OTException("TRANSMUTER IS NULL");
+        }
+        if (!Objects.equals(origin, transmuter.getOriginType()) || !Objects.equals(target, transmuter.getTargetType())) {
+            throw new OTException("TRANSMUTER DEFINED FOR DIFFERENT CLASSES: " + transmuter.getOriginType().getName() + " " + transmuter.getTargetType().getName());
+        }
+        return transmuter;
+    }
+
+    /**
+     * Wait the transmuter defined by another thread
+     *
+     * @throws OTException if the definition is recursive or fails
      */
-    private <ORIGIN, TARGET> String composeKey(Class<ORIGIN> origin, Class<TARGET> target) {
-        return origin.getName() + "_" + target.getName();
+    @SuppressWarnings("unchecked")
+    private <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> awaitDefinition(Definition definition, Class<ORIGIN> origin, Class<TARGET> target) throws OTException {
+        if (definition.owner == Thread.currentThread()) {
+            throw new OTException("RECURSIVE DEFINITION OF TRANSMUTER FOR CLASSES: " + origin.getName() + " " + target.getName());
+        }
+        try {
+            return (OTTransmuter<ORIGIN, TARGET>) definition.transmuter.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new OTException("DEFINITION OF TRANSMUTER FAILED FOR CLASSES: " + origin.getName() + " " + target.getName(), e.getCause());
+        }
     }
 
     /**
@@ -109,8 +252,12 @@ public class OTRepositoryImp implements OTRepository {
         Class<ORIGIN> origin = transmuter.getOriginType();
         Class<TARGET> target = transmuter.getTargetType();
         if (exists(origin, target)) {
-            throw new OTException("TRANSMUTER ALREADY EXISTS FOR CLASSES: " + origin.getName() + " " + target.getName());
+            throw createAlreadyExistsException(origin, target);
         }
     }
 
+    private OTException createAlreadyExistsException(Class<?> origin, Class<?> target) {
+        return new OTException("TRANSMUTER ALREADY EXISTS FOR CLASSES: " + origin.getName() + " " + target.getName());
+    }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.services.repository;
+
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.entry.OTCustomTransmuterDefiner;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.OTTransmuter;
+import com.opymi.otamap.services.jfr.FlightRecorderEvents;
+import com.opymi.otamap.services.jfr.TransmuterLookupEvent;
+
+/**
+ * {@link OTRepository} that reports the transmuter's lookups of another repository as {@link TransmuterLookupEvent}
+ * to the flight recorder when it is recording them.
+ * It must be created only when the events are available, see {@link FlightRecorderEvents}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class RecordedOTRepositoryImp implements OTRepository {
+    private final OTRepository repository;
+
+    /**
+     * @param repository recorded repository
+     */
+    public RecordedOTRepositoryImp(OTRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> boolean exists(Class<ORIGIN> origin, Class<TARGET> target) {
+        if (!TransmuterLookupEvent.isRecorded()) {
+            return repository.exists(origin, target);
+        }
+        TransmuterLookupEvent event = new TransmuterLookupEvent();
+        event.begin();
+        boolean exists = repository.exists(origin, target);
+        commitLookup(event, origin, target, exists);
+        return exists;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void store(OTTransmuter<ORIGIN, TARGET> transmuter) {
+        repository.store(transmuter);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void store(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        repository.store(definer);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> get(Class<ORIGIN> origin, Class<TARGET> target) {
+        if (!TransmuterLookupEvent.isRecorded()) {
+            return repository.get(origin, target);
+        }
+        TransmuterLookupEvent event = new TransmuterLookupEvent();
+        event.begin();
+        OTTransmuter<ORIGIN, TARGET> transmuter = repository.get(origin, target);
+        commitLookup(event, origin, target, transmuter != null);
+        return transmuter;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> find(Class<ORIGIN> origin, Class<TARGET> target) {
+        if (!TransmuterLookupEvent.isRecorded()) {
+            return repository.find(origin, target);
+        }
+        TransmuterLookupEvent event = new TransmuterLookupEvent();
+        event.begin();
+        OTTransmuter<ORIGIN, TARGET> transmuter = repository.find(origin, target);
+        commitLookup(event, origin, target, transmuter != null);
+        return transmuter;
+    }
+
+    @Override
+    public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> computeIfAbsent(Class<ORIGIN> origin, Class<TARGET> target, OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        return repository.computeIfAbsent(origin, target, definer);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void remove(Class<ORIGIN> origin, Class<TARGET> target) {
+        repository.remove(origin, target);
+    }
+
+    @Override
+    public <ORIGIN, TARGET> void remove(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+        repository.remove(definer);
+    }
+
+    @Override
+    public boolean supportsInstanceFactories() {
+        return repository.supportsInstanceFactories();
+    }
+
+    @Override
+    public <TARGET> void storeInstanceFactory(InstanceFactory<TARGET> instanceFactory) {
+        repository.storeInstanceFactory(instanceFactory);
+    }
+
+    @Override
+    public <TARGET> InstanceFactory<TARGET> findInstanceFactory(Class<TARGET> type) {
+        return repository.findInstanceFactory(type);
+    }
+
+    @Override
+    public <TARGET> void removeInstanceFactory(Class<TARGET> type) {
+        repository.removeInstanceFactory(type);
+    }
+
+    /**
+     * @return recorded repository
+     */
+    public OTRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * End the lookup's event and commit it if it passes the threshold of the recording
+     */
+    private void commitLookup(TransmuterLookupEvent event, Class<?> origin, Class<?> target, boolean found) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.originType = origin;
+            event.targetType = target;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+}
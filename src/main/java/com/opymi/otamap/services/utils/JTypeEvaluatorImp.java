@@ -26,7 +26,17 @@ package com.opymi.otamap.services.utils;
 
 import com.opymi.otamap.entry.services.JTypeEvaluator;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Utility to evaluate java base type
@@ -36,7 +46,8 @@ import java.util.*;
  */
 public class JTypeEvaluatorImp implements JTypeEvaluator {
     private final Map<Class<?>, Class<?>> SIMPLE_WRAPPER_TYPES;
-    private final List<Class<?>> UNSUPPORTED_TYPES;
+    private final List<Class<?>> CONTAINER_TYPES;
+    private final Map<Class<?>, Class<?>> CONTAINER_IMPLEMENTATIONS;
 
     public JTypeEvaluatorImp() {
         SIMPLE_WRAPPER_TYPES = new HashMap<>();
@@ -49,9 +60,23 @@ public class JTypeEvaluatorImp implements JTypeEvaluator {
         SIMPLE_WRAPPER_TYPES.put(Character.class, char.class);
         SIMPLE_WRAPPER_TYPES.put(Byte.class, byte.class);
 
-        UNSUPPORTED_TYPES = new ArrayList<>();
-        UNSUPPORTED_TYPES.add(Collection.class);
-        UNSUPPORTED_TYPES.add(Map.class);
+        CONTAINER_TYPES = new ArrayList<>();
+        CONTAINER_TYPES.add(Collection.class);
+        CONTAINER_TYPES.add(Map.class);
+
+        CONTAINER_IMPLEMENTATIONS = new HashMap<>();
+        CONTAINER_IMPLEMENTATIONS.put(Collection.class, ArrayList.class);
+        CONTAINER_IMPLEMENTATIONS.put(List.class, ArrayList.class);
+        CONTAINER_IMPLEMENTATIONS.put(Set.class, LinkedHashSet.class);
+        CONTAINER_IMPLEMENTATIONS.put(SortedSet.class, TreeSet.class);
+        CONTAINER_IMPLEMENTATIONS.put(NavigableSet.class, TreeSet.class);
+        CONTAINER_IMPLEMENTATIONS.put(Queue.class, ArrayDeque.class);
+        CONTAINER_IMPLEMENTATIONS.put(Deque.class, ArrayDeque.class);
+        CONTAINER_IMPLEMENTATIONS.put(Map.class, LinkedHashMap.class);
+        CONTAINER_IMPLEMENTATIONS.put(SortedMap.class, TreeMap.class);
+        CONTAINER_IMPLEMENTATIONS.put(NavigableMap.class, TreeMap.class);
+        CONTAINER_IMPLEMENTATIONS.put(ConcurrentMap.class, ConcurrentHashMap.class);
+        CONTAINER_IMPLEMENTATIONS.put(ConcurrentNavigableMap.class, ConcurrentSkipListMap.class);
     }
 
 
@@ -62,7 +87,82 @@ public class JTypeEvaluatorImp implements JTypeEvaluator {
 
     @Override
     public boolean isUnsupportedType(Class<?> type) {
-        return type.isArray() || UNSUPPORTED_TYPES.stream().anyMatch(unsupported -> unsupported.isAssignableFrom(type));
+        return isContainerType(type) && !type.isArray() && retrieveContainerImplementation(type) == null;
+    }
+
+    @Override
+    public boolean isContainerType(Class<?> type) {
+        return type.isArray() || CONTAINER_TYPES.stream().anyMatch(container -> container.isAssignableFrom(type));
+    }
+
+    @Override
+    public Class<?> retrieveContainerImplementation(Class<?> type) {
+        Class<?> implementation = CONTAINER_IMPLEMENTATIONS.get(type);
+        return implementation != null ? implementation : JTypeEvaluator.super.retrieveContainerImplementation(type);
+    }
+
+    @Override
+    public Class<?> resolveTypeArgument(Type type, Class<?> genericType, int index) {
+        Type typeArgument = resolveTypeArgument(type, genericType, index, Collections.emptyMap());
+        return typeArgument != null ? erase(typeArgument) : Object.class;
+    }
+
+    /**
+     * Walk the hierarchy of {@param type} up to {@param genericType} binding the type variables met along the way
+     *
+     * @return type argument or null if the hierarchy doesn't declare it
+     */
+    private Type resolveTypeArgument(Type type, Class<?> genericType, int index, Map<TypeVariable<?>, Type> bindings) {
+        Class<?> rawType;
+        Map<TypeVariable<?>, Type> typeBindings = new HashMap<>();
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            rawType = (Class<?>) parameterizedType.getRawType();
+            TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+            Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            for (int i = 0; i < typeParameters.length; i++) {
+                Type typeArgument = typeArguments[i];
+                typeBindings.put(typeParameters[i], bindings.getOrDefault(typeArgument, typeArgument));
+            }
+        } else if (type instanceof Class) {
+            rawType = (Class<?>) type;
+        } else {
+            return null;
+        }
+
+        if (rawType.equals(genericType)) {
+            return typeBindings.get(rawType.getTypeParameters()[index]);
+        }
+
+        List<Type> superTypes = new ArrayList<>(Arrays.asList(rawType.getGenericInterfaces()));
+        if (rawType.getGenericSuperclass() != null) {
+            superTypes.add(rawType.getGenericSuperclass());
+        }
+        for (Type superType : superTypes) {
+            Type typeArgument = resolveTypeArgument(superType, genericType, index, typeBindings);
+            if (typeArgument != null) {
+                return typeArgument;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return class of the type without generic information
+     */
+    private Class<?> erase(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof WildcardType) {
+            return erase(((WildcardType) type).getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable) {
+            return erase(((TypeVariable<?>) type).getBounds()[0]);
+        } else if (type instanceof GenericArrayType) {
+            return Array.newInstance(erase(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        return Object.class;
     }
 
 }
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.utils;
+
+import com.opymi.otamap.entry.services.MappingDiagnostics;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link MappingDiagnostics} recorded by a {@link Logger}, or discarded when disabled
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MappingDiagnosticsImp implements MappingDiagnostics {
+    public static final String LOGGER_NAME = "OTAMapImp";
+
+    private final Logger logger;
+    private final boolean enabled;
+
+    /**
+     * Diagnostics recorded by the {@value LOGGER_NAME} logger
+     */
+    public MappingDiagnosticsImp() {
+        this(Logger.getLogger(LOGGER_NAME), true);
+    }
+
+    /**
+     * @param logger logger of the messages
+     * @param enabled if false all the messages are discarded without checking the logger
+     */
+    public MappingDiagnosticsImp(Logger logger, boolean enabled) {
+        this.logger = logger;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return enabled && logger.isLoggable(level);
+    }
+
+    @Override
+    public void log(Level level, Supplier<String> message) {
+        if (enabled) {
+            logger.log(level, message);
+        }
+    }
+
+    @Override
+    public void log(Level level, Throwable cause, Supplier<String> message) {
+        if (enabled) {
+            logger.log(level, cause, message);
+        }
+    }
+
+}
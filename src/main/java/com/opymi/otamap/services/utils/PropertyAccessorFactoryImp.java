@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.utils;
+
+import com.opymi.otamap.beans.ConstructorAccessor;
+import com.opymi.otamap.beans.ConstructorDescriptor;
+import com.opymi.otamap.beans.PropertyMapAccessor;
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ContainerMapperFactory;
+import com.opymi.otamap.entry.services.PropertyAccessorFactory;
+import com.opymi.otamap.exceptions.AccessPropertyException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Factory of property accessors {@link PropertyMapAccessor} based on {@link MethodHandle}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PropertyAccessorFactoryImp implements PropertyAccessorFactory {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType COPIER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private ContainerMapperFactory containerMapperFactory;
+
+    @Override
+    public PropertyMapAccessor createAccessor(PropertyMapDescriptor descriptor) {
+        MethodHandle originReader = unreflect(descriptor.getOrigin().getReadMethod());
+        ContainerMapper containerMapper = containerMapperFactory != null ? containerMapperFactory.createContainerMapper(descriptor) : null;
+        if (descriptor.isConstructorParameter()) {
+            return new PropertyMapAccessor(descriptor, originReader.asType(READER_TYPE), null, containerMapper);
+        }
+        MethodHandle targetWriter = unreflect(descriptor.getTarget().getWriteMethod());
+        MethodHandle copier = isDirectCopy(descriptor) ? createCopier(originReader, targetWriter) : null;
+        return new PropertyMapAccessor(descriptor, originReader.asType(READER_TYPE), targetWriter.asType(WRITER_TYPE), containerMapper, copier);
+    }
+
+    @Override
+    public ConstructorAccessor createConstructorAccessor(ConstructorDescriptor descriptor) {
+        Constructor<?> constructor = descriptor.getConstructor();
+        MethodHandle targetConstructor = unreflectConstructor(constructor);
+        MethodHandle spreadConstructor = targetConstructor.asType(targetConstructor.type().generic())
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(CONSTRUCTOR_TYPE);
+        return new ConstructorAccessor(descriptor, spreadConstructor, createDefaultArguments(constructor.getParameterTypes()));
+    }
+
+    /**
+     * @param parameterTypes types of the constructor's parameters
+     * @return arguments of the parameters without value: null for objects and zero for primitives, that cannot be null
+     */
+    private Object[] createDefaultArguments(Class<?>[] parameterTypes) {
+        Object[] defaultArguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                defaultArguments[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+        return defaultArguments;
+    }
+
+    /**
+     * Properties of the same primitive type are copied directly, values of other types
+     * can need a conversion or a null check and are mapped through read and write
+     *
+     * @param descriptor property association between origin and target
+     * @return true if the property can be copied without conversion
+     */
+    private boolean isDirectCopy(PropertyMapDescriptor descriptor) {
+        Class<?> originType = descriptor.getOrigin().getPropertyType();
+        return originType.isPrimitive() && originType == descriptor.getTarget().getPropertyType();
+    }
+
+    /**
+     * @param originReader origin's read method of type (Origin)value
+     * @param targetWriter target's write method of type (Target,value)void
+     * @return copier of type (Object,Object)void, taking origin and target
+     */
+    private MethodHandle createCopier(MethodHandle originReader, MethodHandle targetWriter) {
+        MethodHandle targetOriginCopier = MethodHandles.filterArguments(targetWriter, 1, originReader);
+        return MethodHandles.permuteArguments(targetOriginCopier.asType(COPIER_TYPE), COPIER_TYPE, 1, 0);
+    }
+
+    /**
+     * @param method method to resolve
+     * @return {@link MethodHandle} of the method
+     * @throws AccessPropertyException if the method is not accessible
+     */
+    private MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException publicAccessFailure) {
+            try {
+                method.setAccessible(true);
+                return LOOKUP.unreflect(method);
+            } catch (IllegalAccessException | RuntimeException cause) {
+                throw new AccessPropertyException("CANNOT ACCESS METHOD " + method.getDeclaringClass().getName() + "." + method.getName(), cause);
+            }
+        }
+    }
+
+    /**
+     * @param constructor constructor to resolve
+     * @return {@link MethodHandle} of the constructor
+     * @throws AccessPropertyException if the constructor is not accessible
+     */
+    private MethodHandle unreflectConstructor(Constructor<?> constructor) {
+        try {
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (IllegalAccessException publicAccessFailure) {
+            try {
+                constructor.setAccessible(true);
+                return LOOKUP.unreflectConstructor(constructor);
+            } catch (IllegalAccessException | RuntimeException cause) {
+                throw new AccessPropertyException("CANNOT ACCESS CONSTRUCTOR OF " + constructor.getDeclaringClass().getName(), cause);
+            }
+        }
+    }
+
+    public void setContainerMapperFactory(ContainerMapperFactory containerMapperFactory) {
+        this.containerMapperFactory = containerMapperFactory;
+    }
+
+}
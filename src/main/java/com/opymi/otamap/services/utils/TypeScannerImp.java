@@ -25,13 +25,19 @@
 package com.opymi.otamap.services.utils;
 
 
+import com.opymi.otamap.beans.ConstructorDescriptor;
 import com.opymi.otamap.entry.services.TypeScanner;
+import com.opymi.otamap.exceptions.OTException;
 
 import java.beans.BeanInfo;
+import java.beans.ConstructorProperties;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -39,7 +45,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * Type Scanner
+ * Type Scanner.
+ * Records are recognized by their superclass and their components are read by reflection,
+ * so the scanner runs also on Java versions without records
  *
  * @author Antonino Verde
  * @since 1.0
@@ -47,6 +55,7 @@ import java.util.stream.Collectors;
 public class TypeScannerImp implements TypeScanner {
 	private static final String CLASS_FIELD = "class";
 	private static final String SERIAL_VERSION_UID_FIELD = "serialVersionUID";
+	private static final String RECORD_CLASS = "java.lang.Record";
 
 	@Override
 	public List<PropertyDescriptor> retrievePropertyDescriptors(Class<?> type) {
@@ -96,6 +105,68 @@ public class TypeScannerImp implements TypeScanner {
 		return fields;
 	}
 
+	@Override
+	public ConstructorDescriptor retrieveConstructorDescriptor(Class<?> type) {
+		if (isRecord(type)) {
+			return retrieveCanonicalConstructor(type);
+		} else if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || hasNoArgConstructor(type)) {
+			return null;
+		}
+
+		Constructor<?> propertiesConstructor = null;
+		for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+			ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+			if (properties != null && properties.value().length == constructor.getParameterCount()
+					&& (propertiesConstructor == null || constructor.getParameterCount() > propertiesConstructor.getParameterCount())) {
+				propertiesConstructor = constructor;
+			}
+		}
+		return propertiesConstructor != null
+				? new ConstructorDescriptor(propertiesConstructor, propertiesConstructor.getAnnotation(ConstructorProperties.class).value())
+				: null;
+	}
+
+	/**
+	 * @param type
+	 * @return true if type is a record
+	 */
+	private boolean isRecord(Class<?> type) {
+		Class<?> superclass = type.getSuperclass();
+		return superclass != null && RECORD_CLASS.equals(superclass.getName());
+	}
+
+	/**
+	 * @param type
+	 * @return true if type declares a constructor without parameters
+	 */
+	private boolean hasNoArgConstructor(Class<?> type) {
+		return Arrays.stream(type.getDeclaredConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0);
+	}
+
+	/**
+	 * Retrieve the canonical constructor of a record, whose parameters are the record's components
+	 *
+	 * @param type record's type
+	 * @return descriptor of the canonical constructor
+	 * @throws OTException if the record's components cannot be read
+	 */
+	private ConstructorDescriptor retrieveCanonicalConstructor(Class<?> type) {
+		try {
+			Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+			String[] names = new String[components.length];
+			Class<?>[] types = new Class<?>[components.length];
+			for (int i = 0; i < components.length; i++) {
+				Method getName = components[i].getClass().getMethod("getName");
+				Method getType = components[i].getClass().getMethod("getType");
+				names[i] = (String) getName.invoke(components[i]);
+				types[i] = (Class<?>) getType.invoke(components[i]);
+			}
+			return new ConstructorDescriptor(type.getDeclaredConstructor(types), names);
+		} catch (ReflectiveOperationException exception) {
+			throw new OTException("CANNOT RETRIEVE CANONICAL CONSTRUCTOR OF " + type.getName(), exception);
+		}
+	}
+
 	/**
 	 * @param field
 	 * @return true if field is not java defined field
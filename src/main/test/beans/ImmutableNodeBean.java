@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package beans;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+/**
+ * Test Bean created by constructor, node of a graph
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ImmutableNodeBean {
+    private final String name;
+    private final ImmutableNodeBean parent;
+    private final ImmutableNodeBean link;
+    private final List<ImmutableNodeBean> children;
+
+    @ConstructorProperties({"name", "parent", "link", "children"})
+    public ImmutableNodeBean(String name, ImmutableNodeBean parent, ImmutableNodeBean link, List<ImmutableNodeBean> children) {
+        this.name = name;
+        this.parent = parent;
+        this.link = link;
+        this.children = children;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ImmutableNodeBean getParent() {
+        return parent;
+    }
+
+    public ImmutableNodeBean getLink() {
+        return link;
+    }
+
+    public List<ImmutableNodeBean> getChildren() {
+        return children;
+    }
+}
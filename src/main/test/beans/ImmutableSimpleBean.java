@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package beans;
+
+import java.beans.ConstructorProperties;
+import java.math.BigDecimal;
+
+/**
+ * Test Bean created by constructor
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ImmutableSimpleBean {
+    private final String stringProp;
+    private final int intProp;
+    private final BigDecimal bigDecimalProp;
+
+    @ConstructorProperties({SimpleBean.Properties.STRING_PROP, SimpleBean.Properties.INT_PROP, SimpleBean.Properties.BIGDECIMAL_PROP})
+    public ImmutableSimpleBean(String stringProp, int intProp, BigDecimal bigDecimalProp) {
+        this.stringProp = stringProp;
+        this.intProp = intProp;
+        this.bigDecimalProp = bigDecimalProp;
+    }
+
+    public String getStringProp() {
+        return stringProp;
+    }
+
+    public int getIntProp() {
+        return intProp;
+    }
+
+    public BigDecimal getBigDecimalProp() {
+        return bigDecimalProp;
+    }
+}
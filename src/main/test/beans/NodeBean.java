@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package beans;
+
+import java.util.List;
+
+/**
+ * Test Bean of a graph with cycles
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class NodeBean {
+
+    private String name;
+    private NodeBean parent;
+    private NodeBean link;
+    private List<NodeBean> children;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public NodeBean getParent() {
+        return parent;
+    }
+
+    public void setParent(NodeBean parent) {
+        this.parent = parent;
+    }
+
+    public NodeBean getLink() {
+        return link;
+    }
+
+    public void setLink(NodeBean link) {
+        this.link = link;
+    }
+
+    public List<NodeBean> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<NodeBean> children) {
+        this.children = children;
+    }
+}
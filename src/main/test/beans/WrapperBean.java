@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package beans;
+
+/**
+ * Test Bean with the wrappers of the properties of {@link PrimitiveBean}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class WrapperBean {
+
+    public static class Properties {
+        public static final String FLAG = "flag";
+        public static final String BYTE_VALUE = "byteValue";
+        public static final String SHORT_VALUE = "shortValue";
+        public static final String CHAR_VALUE = "charValue";
+        public static final String INT_VALUE = "intValue";
+        public static final String LONG_VALUE = "longValue";
+        public static final String FLOAT_VALUE = "floatValue";
+        public static final String DOUBLE_VALUE = "doubleValue";
+        public static final String WIDENED = "widened";
+    }
+
+    private Boolean flag;
+    private Byte byteValue;
+    private Short shortValue;
+    private Character charValue;
+    private Integer intValue;
+    private Long longValue;
+    private Float floatValue;
+    private Double doubleValue;
+    private long widened;
+
+    public Boolean getFlag() {
+        return flag;
+    }
+
+    public void setFlag(Boolean flag) {
+        this.flag = flag;
+    }
+
+    public Byte getByteValue() {
+        return byteValue;
+    }
+
+    public void setByteValue(Byte byteValue) {
+        this.byteValue = byteValue;
+    }
+
+    public Short getShortValue() {
+        return shortValue;
+    }
+
+    public void setShortValue(Short shortValue) {
+        this.shortValue = shortValue;
+    }
+
+    public Character getCharValue() {
+        return charValue;
+    }
+
+    public void setCharValue(Character charValue) {
+        this.charValue = charValue;
+    }
+
+    public Integer getIntValue() {
+        return intValue;
+    }
+
+    public void setIntValue(Integer intValue) {
+        this.intValue = intValue;
+    }
+
+    public Long getLongValue() {
+        return longValue;
+    }
+
+    public void setLongValue(Long longValue) {
+        this.longValue = longValue;
+    }
+
+    public Float getFloatValue() {
+        return floatValue;
+    }
+
+    public void setFloatValue(Float floatValue) {
+        this.floatValue = floatValue;
+    }
+
+    public Double getDoubleValue() {
+        return doubleValue;
+    }
+
+    public void setDoubleValue(Double doubleValue) {
+        this.doubleValue = doubleValue;
+    }
+
+    public long getWidened() {
+        return widened;
+    }
+
+    public void setWidened(long widened) {
+        this.widened = widened;
+    }
+}
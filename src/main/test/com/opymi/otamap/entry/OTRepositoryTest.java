@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.entry;
+
+import beans.SimpleBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.converter.OTConverterImp;
+import com.opymi.otamap.services.instance.MethodHandleInstanceFactoryImp;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test of the default methods of {@link OTRepository}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTRepositoryTest {
+    private final Class<SimpleBean> ORIGIN_TYPE = SimpleBean.class;
+    private final Class<SpecularSimpleBean> TARGET_TYPE = SpecularSimpleBean.class;
+
+    private OTRepository sut;
+
+    @Before
+    public void setUp() {
+        sut = new LegacyRepository();
+    }
+
+    @Test
+    public void find() {
+        Assert.assertNull(sut.find(ORIGIN_TYPE, TARGET_TYPE));
+
+        OTTransmuter<SimpleBean, SpecularSimpleBean> transmuter = createTransmuter();
+        sut.store(transmuter);
+        Assert.assertSame(transmuter, sut.find(ORIGIN_TYPE, TARGET_TYPE));
+    }
+
+    @Test
+    public void computeIfAbsent() {
+        AtomicInteger definitions = new AtomicInteger();
+        OTCustomTransmuterDefiner<SimpleBean, SpecularSimpleBean> definer = repository -> {
+            definitions.incrementAndGet();
+            return createTransmuter();
+        };
+
+        OTTransmuter<SimpleBean, SpecularSimpleBean> transmuter = sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, definer);
+        Assert.assertSame(transmuter, sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, definer));
+        Assert.assertSame(transmuter, sut.get(ORIGIN_TYPE, TARGET_TYPE));
+        Assert.assertEquals(1, definitions.get());
+    }
+
+    @Test(expected = OTException.class)
+    public void computeIfAbsentNullDefiner() {
+        sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, null);
+    }
+
+    @Test
+    public void instanceFactories() {
+        Assert.assertFalse(sut.supportsInstanceFactories());
+        sut.storeInstanceFactory(new MethodHandleInstanceFactoryImp<>(TARGET_TYPE));
+        Assert.assertNull(sut.findInstanceFactory(TARGET_TYPE));
+        sut.removeInstanceFactory(TARGET_TYPE);
+    }
+
+    private OTTransmuter<SimpleBean, SpecularSimpleBean> createTransmuter() {
+        return new OTConverterImp<>(ORIGIN_TYPE, TARGET_TYPE, origin -> new SpecularSimpleBean());
+    }
+
+    /**
+     * Repository implementing only the methods without default implementation
+     */
+    private static class LegacyRepository implements OTRepository {
+        private final Map<List<Class<?>>, OTTransmuter<?, ?>> transmuters = new HashMap<>();
+
+        @Override
+        public <ORIGIN, TARGET> boolean exists(Class<ORIGIN> origin, Class<TARGET> target) {
+            return transmuters.containsKey(Arrays.asList(origin, target));
+        }
+
+        @Override
+        public <ORIGIN, TARGET> void store(OTTransmuter<ORIGIN, TARGET> transmuter) {
+            transmuters.put(Arrays.asList(transmuter.getOriginType(), transmuter.getTargetType()), transmuter);
+        }
+
+        @Override
+        public <ORIGIN, TARGET> void store(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+            store(definer.define(this));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <ORIGIN, TARGET> OTTransmuter<ORIGIN, TARGET> get(Class<ORIGIN> origin, Class<TARGET> target) {
+            return (OTTransmuter<ORIGIN, TARGET>) transmuters.get(Arrays.asList(origin, target));
+        }
+
+        @Override
+        public <ORIGIN, TARGET> void remove(Class<ORIGIN> origin, Class<TARGET> target) {
+            transmuters.remove(Arrays.asList(origin, target));
+        }
+
+        @Override
+        public <ORIGIN, TARGET> void remove(OTCustomTransmuterDefiner<ORIGIN, TARGET> definer) {
+            OTTransmuter<ORIGIN, TARGET> transmuter = definer.define(this);
+            remove(transmuter.getOriginType(), transmuter.getTargetType());
+        }
+    }
+
+}
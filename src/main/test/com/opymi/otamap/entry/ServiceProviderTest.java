@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.entry;
+
+import com.opymi.otamap.entry.services.OTAMapProvider;
+import com.opymi.otamap.entry.services.OTConverterProvider;
+import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.ota.OTAMapProviderImp;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ServiceProvider}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ServiceProviderTest {
+
+    @Test
+    public void getServiceReturnSameInstance() {
+        OTAMapProvider otaMapProvider = ServiceProvider.getService(OTAMapProvider.class);
+
+        Assert.assertTrue(otaMapProvider instanceof OTAMapProviderImp);
+        Assert.assertSame(otaMapProvider, ServiceProvider.getService(OTAMapProvider.class));
+        Assert.assertSame(ServiceProvider.getService(OTMapperBuilderProvider.class), ServiceProvider.getService(OTMapperBuilderProvider.class));
+        Assert.assertSame(ServiceProvider.getService(OTConverterProvider.class), ServiceProvider.getService(OTConverterProvider.class));
+    }
+
+    @Test(expected = OTException.class)
+    public void getServiceUnmanagedResource() {
+        ServiceProvider.getService(OTRepository.class);
+    }
+
+    @Test(expected = OTException.class)
+    public void getServiceNull() {
+        ServiceProvider.getService(null);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.entry.services;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test of the default methods of {@link JTypeEvaluator}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class JTypeEvaluatorTest {
+    private final JTypeEvaluator sut = new LegacyJTypeEvaluator();
+
+    private List<String> strings;
+    private ArrayList<String> arrayStrings;
+    private Map<String, List<Integer>> map;
+
+    @Test
+    public void isContainerType() {
+        Assert.assertTrue(sut.isContainerType(int[].class));
+        Assert.assertTrue(sut.isContainerType(List.class));
+        Assert.assertTrue(sut.isContainerType(Map.class));
+        Assert.assertFalse(sut.isContainerType(String.class));
+    }
+
+    @Test
+    public void retrieveContainerImplementation() {
+        Assert.assertEquals(ArrayList.class, sut.retrieveContainerImplementation(ArrayList.class));
+        Assert.assertNull(sut.retrieveContainerImplementation(List.class));
+        Assert.assertNull(sut.retrieveContainerImplementation(AbstractList.class));
+    }
+
+    @Test
+    public void resolveTypeArgument() throws NoSuchFieldException {
+        Assert.assertEquals(String.class, sut.resolveTypeArgument(getClass().getDeclaredField("strings").getGenericType(), List.class, 0));
+        Assert.assertEquals(Object.class, sut.resolveTypeArgument(getClass().getDeclaredField("arrayStrings").getGenericType(), Collection.class, 0));
+        Assert.assertEquals(List.class, sut.resolveTypeArgument(getClass().getDeclaredField("map").getGenericType(), Map.class, 1));
+        Assert.assertEquals(Object.class, sut.resolveTypeArgument(List.class, List.class, 0));
+    }
+
+    /**
+     * Evaluator implementing only the methods without default implementation
+     */
+    private static class LegacyJTypeEvaluator implements JTypeEvaluator {
+
+        @Override
+        public boolean isPrimitivable(Class<?> origin, Class<?> target) {
+            return false;
+        }
+
+        @Override
+        public boolean isUnsupportedType(Class<?> type) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.entry.services;
+
+import beans.SimpleBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.OTAMapConfiguration;
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.ota.OTAMapProviderImp;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of the default methods of {@link OTAMapProvider}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTAMapProviderTest {
+    private final OTAMapProvider sut = new LegacyOTAMapProvider();
+
+    @Test
+    public void getConfiguration() {
+        Assert.assertSame(OTAMapConfiguration.DEFAULT, sut.getConfiguration());
+    }
+
+    @Test
+    public void withConfiguration() {
+        OTAMapConfiguration configuration = OTAMapConfiguration.builder().traceMappings(true).build();
+        OTAMapProvider provider = sut.withConfiguration(configuration);
+        Assert.assertTrue(provider instanceof OTAMapProviderImp);
+        Assert.assertSame(configuration, provider.getConfiguration());
+        Assert.assertNotNull(provider.getOTAMap(SimpleBean.class, SpecularSimpleBean.class).map(new SimpleBean()));
+        Assert.assertThrows(OTException.class, () -> sut.withConfiguration(null));
+    }
+
+    /**
+     * Provider implementing only the methods without default implementation
+     */
+    private static class LegacyOTAMapProvider implements OTAMapProvider {
+
+        @Override
+        public <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> getOTAMap(OTRepository repository, Class<ORIGIN> origin, Class<TARGET> target) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public <ORIGIN, TARGET> OTAMap<ORIGIN, TARGET> getOTAMap(Class<ORIGIN> origin, Class<TARGET> target) {
+            throw new AssertionError();
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.entry.services;
+
+import beans.ImmutableSimpleBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test of the default methods of {@link TypeScanner}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class TypeScannerTest {
+    private final TypeScanner sut = new LegacyTypeScanner();
+
+    @Test
+    public void retrieveConstructorDescriptor() {
+        Assert.assertNull(sut.retrieveConstructorDescriptor(ImmutableSimpleBean.class));
+    }
+
+    /**
+     * Scanner implementing only the methods without default implementation
+     */
+    private static class LegacyTypeScanner implements TypeScanner {
+
+        @Override
+        public List<PropertyDescriptor> retrievePropertyDescriptors(Class<?> type) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Set<Field> retrieveDeclaredFields(Class<?> type) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<String> retrieveDeclaredFieldsNames(Class<?> type) {
+            return Collections.emptySet();
+        }
+    }
+
+}
@@ -0,0 +1,432 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import beans.SimpleBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.utils.JTypeEvaluatorImp;
+import com.opymi.otamap.services.utils.TypeScannerImp;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Test of {@link ContainerMapperFactoryImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class ContainerMapperFactoryImpTest {
+    private final ElementMapper ELEMENT_MAPPER = (originElement, targetType) -> {
+        SimpleBean simpleBean = (SimpleBean) originElement;
+        SpecularSimpleBean specularSimpleBean = new SpecularSimpleBean();
+        specularSimpleBean.setIntProp(simpleBean.getIntProp());
+        return specularSimpleBean;
+    };
+
+    private ContainerMapperFactoryImp sut;
+
+    @Before
+    public void setUp() {
+        sut = new ContainerMapperFactoryImp();
+        sut.setjTypeEvaluator(new JTypeEvaluatorImp());
+    }
+
+    @Test
+    public void createContainerMapperNotContainer() {
+        Assert.assertNull(sut.createContainerMapper(createDescriptor("name", "name")));
+    }
+
+    @Test
+    public void createContainerMapperCollection() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("beans", "beans"));
+        SimpleBean simpleBean = createSimpleBean(1);
+
+        Object result = containerMapper.map(Arrays.asList(simpleBean, null), ELEMENT_MAPPER);
+        List<?> targetBeans = (List<?>) result;
+        Assert.assertEquals(2, targetBeans.size());
+        Assert.assertEquals(1, ((SpecularSimpleBean) targetBeans.get(0)).getIntProp());
+        Assert.assertNull(targetBeans.get(1));
+    }
+
+    @Test
+    public void createContainerMapperAssignableElements() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("ids", "ids"));
+        Set<Integer> ids = new LinkedHashSet<>(Arrays.asList(3, 1, 2));
+
+        Object result = containerMapper.map(ids, (originElement, targetType) -> {
+            throw new AssertionError("ELEMENTS MUST BE COPIED");
+        });
+        Assert.assertTrue(result instanceof TreeSet);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), Arrays.asList(((SortedSet<?>) result).toArray()));
+    }
+
+    @Test
+    public void createContainerMapperArray() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("array", "array"));
+
+        Object result = containerMapper.map(new SimpleBean[]{createSimpleBean(2)}, ELEMENT_MAPPER);
+        SpecularSimpleBean[] targetArray = (SpecularSimpleBean[]) result;
+        Assert.assertEquals(1, targetArray.length);
+        Assert.assertEquals(2, targetArray[0].getIntProp());
+    }
+
+    @Test
+    public void createContainerMapperCollectionToArray() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("idList", "idArray"));
+
+        Object result = containerMapper.map(Arrays.asList(1, null, 3), (originElement, targetType) -> originElement);
+        Assert.assertArrayEquals(new int[]{1, 0, 3}, (int[]) result);
+    }
+
+    @Test
+    public void createContainerMapperMap() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("beansByName", "beansByName"));
+
+        Object result = containerMapper.map(Collections.singletonMap("KEY", createSimpleBean(3)), ELEMENT_MAPPER);
+        Map<?, ?> targetBeans = (Map<?, ?>) result;
+        Assert.assertEquals(3, ((SpecularSimpleBean) targetBeans.get("KEY")).getIntProp());
+    }
+
+    @Test
+    public void createContainerMapperConcurrentMap() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("beansByName", "concurrentBeansByName"));
+
+        Object result = containerMapper.map(Collections.singletonMap("KEY", createSimpleBean(4)), ELEMENT_MAPPER);
+        Assert.assertTrue(result instanceof ConcurrentHashMap);
+        Assert.assertEquals(4, ((SpecularSimpleBean) ((Map<?, ?>) result).get("KEY")).getIntProp());
+    }
+
+    @Test
+    public void createContainerMapperConcurrentMapNullEntry() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("beansByName", "concurrentBeansByName"));
+        try {
+            containerMapper.map(Collections.singletonMap("KEY", null), ELEMENT_MAPPER);
+            Assert.fail();
+        } catch (OTException e) {
+            Assert.assertTrue(e.getMessage().endsWith("concurrentBeansByName"));
+        }
+
+        ContainerMapper assignableMapper = sut.createContainerMapper(createDescriptor("idsByName", "concurrentIdsByName"));
+        Map<String, Integer> idsByName = new HashMap<>();
+        idsByName.put(null, 1);
+        try {
+            assignableMapper.map(idsByName, ELEMENT_MAPPER);
+            Assert.fail();
+        } catch (OTException e) {
+            Assert.assertTrue(e.getMessage().endsWith("concurrentIdsByName"));
+        }
+    }
+
+    @Test
+    public void createContainerMapperSortedComparator() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("ids", "ids"));
+        Set<Integer> ids = new TreeSet<>(Comparator.reverseOrder());
+        ids.addAll(Arrays.asList(1, 3, 2));
+        SortedSet<?> result = (SortedSet<?>) containerMapper.map(ids, ELEMENT_MAPPER);
+        Assert.assertEquals(Comparator.reverseOrder(), result.comparator());
+        Assert.assertEquals(Arrays.asList(3, 2, 1), Arrays.asList(result.toArray()));
+
+        ContainerMapper mapMapper = sut.createContainerMapper(createDescriptor("idsByName", "sortedIdsByName"));
+        Map<String, Integer> idsByName = new TreeMap<>(Comparator.reverseOrder());
+        idsByName.put("A", 1);
+        idsByName.put("B", 2);
+        SortedMap<?, ?> mapResult = (SortedMap<?, ?>) mapMapper.map(idsByName, ELEMENT_MAPPER);
+        Assert.assertEquals(Comparator.reverseOrder(), mapResult.comparator());
+        Assert.assertEquals("B", mapResult.firstKey());
+    }
+
+    @Test
+    public void createContainerMapperRejectedElements() {
+        ContainerMapper dequeMapper = sut.createContainerMapper(createDescriptor("idList", "idDeque"));
+        Assert.assertEquals(Arrays.asList(1, 2), new ArrayList<>((Deque<?>) dequeMapper.map(Arrays.asList(1, 2), ELEMENT_MAPPER)));
+        assertRejected(dequeMapper, Arrays.asList(1, null), "NULL ELEMENT", "idDeque");
+
+        ContainerMapper sortedMapper = sut.createContainerMapper(createDescriptor("ids", "ids"));
+        assertRejected(sortedMapper, new HashSet<>(Arrays.asList(1, null)), "NULL ELEMENT", "ids");
+
+        ContainerMapper notComparableMapper = sut.createContainerMapper(createDescriptor("beans", "sortedBeans"));
+        assertRejected(notComparableMapper, Collections.singletonList(createSimpleBean(1)), "NOT COMPARABLE", "sortedBeans");
+
+        ContainerMapper sortedMapMapper = sut.createContainerMapper(createDescriptor("idsByName", "sortedIdsByName"));
+        Map<String, Integer> idsByName = new HashMap<>();
+        idsByName.put(null, 1);
+        assertRejected(sortedMapMapper, idsByName, "NULL KEY", "sortedIdsByName");
+    }
+
+    @Test
+    public void createContainerMapperPrimitiveArray() {
+        ContainerMapper containerMapper = sut.createContainerMapper(createDescriptor("series", "series"));
+        Assert.assertTrue(containerMapper instanceof PrimitiveArrayMapperImp);
+
+        long[] series = {1L, 2L};
+        Assert.assertNotSame(series, containerMapper.map(series, ELEMENT_MAPPER));
+
+        sut.setSharedPrimitiveArrays(true);
+        containerMapper = sut.createContainerMapper(createDescriptor("series", "series"));
+        Assert.assertSame(series, containerMapper.map(series, ELEMENT_MAPPER));
+    }
+
+    @Test(expected = OTException.class)
+    public void createContainerMapperNotCompatible() {
+        sut.createContainerMapper(createDescriptor("beansByName", "beans"));
+    }
+
+    private void assertRejected(ContainerMapper containerMapper, Object origin, String cause, String propertyName) {
+        try {
+            containerMapper.map(origin, ELEMENT_MAPPER);
+            Assert.fail();
+        } catch (OTException e) {
+            Assert.assertTrue(e.getMessage().contains(cause));
+            Assert.assertTrue(e.getMessage().endsWith(propertyName));
+        }
+    }
+
+    private SimpleBean createSimpleBean(int intProp) {
+        SimpleBean simpleBean = new SimpleBean();
+        simpleBean.setIntProp(intProp);
+        return simpleBean;
+    }
+
+    private PropertyMapDescriptor createDescriptor(String originName, String targetName) {
+        return new PropertyMapDescriptor(findProperty(Origin.class, originName), findProperty(Target.class, targetName));
+    }
+
+    private PropertyDescriptor findProperty(Class<?> type, String name) {
+        return new TypeScannerImp().retrievePropertyDescriptors(type).stream()
+                .filter(propertyDescriptor -> propertyDescriptor.getName().equals(name))
+                .findAny().orElseThrow(IllegalArgumentException::new);
+    }
+
+    public static class Origin {
+        private String name;
+        private long[] series;
+        private List<SimpleBean> beans;
+        private Set<Integer> ids;
+        private SimpleBean[] array;
+        private List<Integer> idList;
+        private Map<String, SimpleBean> beansByName;
+        private Map<String, Integer> idsByName;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<SimpleBean> getBeans() {
+            return beans;
+        }
+
+        public void setBeans(List<SimpleBean> beans) {
+            this.beans = beans;
+        }
+
+        public Set<Integer> getIds() {
+            return ids;
+        }
+
+        public void setIds(Set<Integer> ids) {
+            this.ids = ids;
+        }
+
+        public SimpleBean[] getArray() {
+            return array;
+        }
+
+        public void setArray(SimpleBean[] array) {
+            this.array = array;
+        }
+
+        public List<Integer> getIdList() {
+            return idList;
+        }
+
+        public void setIdList(List<Integer> idList) {
+            this.idList = idList;
+        }
+
+        public Map<String, SimpleBean> getBeansByName() {
+            return beansByName;
+        }
+
+        public void setBeansByName(Map<String, SimpleBean> beansByName) {
+            this.beansByName = beansByName;
+        }
+
+        public Map<String, Integer> getIdsByName() {
+            return idsByName;
+        }
+
+        public void setIdsByName(Map<String, Integer> idsByName) {
+            this.idsByName = idsByName;
+        }
+
+        public long[] getSeries() {
+            return series;
+        }
+
+        public void setSeries(long[] series) {
+            this.series = series;
+        }
+    }
+
+    public static class Target {
+        private String name;
+        private long[] series;
+        private List<SpecularSimpleBean> beans;
+        private SortedSet<Integer> ids;
+        private SpecularSimpleBean[] array;
+        private int[] idArray;
+        private Map<String, SpecularSimpleBean> beansByName;
+        private ConcurrentMap<String, SpecularSimpleBean> concurrentBeansByName;
+        private ConcurrentMap<String, Integer> concurrentIdsByName;
+        private SortedSet<SpecularSimpleBean> sortedBeans;
+        private Deque<Integer> idDeque;
+        private SortedMap<String, Integer> sortedIdsByName;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<SpecularSimpleBean> getBeans() {
+            return beans;
+        }
+
+        public void setBeans(List<SpecularSimpleBean> beans) {
+            this.beans = beans;
+        }
+
+        public SortedSet<Integer> getIds() {
+            return ids;
+        }
+
+        public void setIds(SortedSet<Integer> ids) {
+            this.ids = ids;
+        }
+
+        public SpecularSimpleBean[] getArray() {
+            return array;
+        }
+
+        public void setArray(SpecularSimpleBean[] array) {
+            this.array = array;
+        }
+
+        public int[] getIdArray() {
+            return idArray;
+        }
+
+        public void setIdArray(int[] idArray) {
+            this.idArray = idArray;
+        }
+
+        public Map<String, SpecularSimpleBean> getBeansByName() {
+            return beansByName;
+        }
+
+        public void setBeansByName(Map<String, SpecularSimpleBean> beansByName) {
+            this.beansByName = beansByName;
+        }
+
+        public ConcurrentMap<String, SpecularSimpleBean> getConcurrentBeansByName() {
+            return concurrentBeansByName;
+        }
+
+        public void setConcurrentBeansByName(ConcurrentMap<String, SpecularSimpleBean> concurrentBeansByName) {
+            this.concurrentBeansByName = concurrentBeansByName;
+        }
+
+        public ConcurrentMap<String, Integer> getConcurrentIdsByName() {
+            return concurrentIdsByName;
+        }
+
+        public void setConcurrentIdsByName(ConcurrentMap<String, Integer> concurrentIdsByName) {
+            this.concurrentIdsByName = concurrentIdsByName;
+        }
+
+        public SortedSet<SpecularSimpleBean> getSortedBeans() {
+            return sortedBeans;
+        }
+
+        public void setSortedBeans(SortedSet<SpecularSimpleBean> sortedBeans) {
+            this.sortedBeans = sortedBeans;
+        }
+
+        public Deque<Integer> getIdDeque() {
+            return idDeque;
+        }
+
+        public void setIdDeque(Deque<Integer> idDeque) {
+            this.idDeque = idDeque;
+        }
+
+        public SortedMap<String, Integer> getSortedIdsByName() {
+            return sortedIdsByName;
+        }
+
+        public void setSortedIdsByName(SortedMap<String, Integer> sortedIdsByName) {
+            this.sortedIdsByName = sortedIdsByName;
+        }
+
+        public long[] getSeries() {
+            return series;
+        }
+
+        public void setSeries(long[] series) {
+            this.series = series;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.container;
+
+import com.opymi.otamap.entry.services.ContainerMapper;
+import com.opymi.otamap.entry.services.ElementMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link PrimitiveArrayMapperImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PrimitiveArrayMapperImpTest {
+    private final ElementMapper ELEMENT_MAPPER = (originElement, targetType) -> {
+        throw new AssertionError("ELEMENTS MUST BE COPIED IN BULK");
+    };
+
+    @Test
+    public void mapCopy() {
+        ContainerMapper sut = new PrimitiveArrayMapperImp(double.class, double.class, false);
+        double[] origin = {1.5, 2.5, 3.5};
+
+        Object result = sut.map(origin, ELEMENT_MAPPER);
+        Assert.assertNotSame(origin, result);
+        Assert.assertArrayEquals(origin, (double[]) result, 0D);
+    }
+
+    @Test
+    public void mapShared() {
+        ContainerMapper sut = new PrimitiveArrayMapperImp(long.class, long.class, true);
+        long[] origin = {1L, 2L};
+
+        Assert.assertSame(origin, sut.map(origin, ELEMENT_MAPPER));
+    }
+
+    @Test
+    public void mapBox() {
+        ContainerMapper sut = new PrimitiveArrayMapperImp(int.class, Integer.class, true);
+
+        Object result = sut.map(new int[]{1, 2, 3}, ELEMENT_MAPPER);
+        Assert.assertArrayEquals(new Integer[]{1, 2, 3}, (Integer[]) result);
+    }
+
+    @Test
+    public void mapUnbox() {
+        ContainerMapper sut = new PrimitiveArrayMapperImp(Byte.class, byte.class, false);
+
+        Object result = sut.map(new Byte[]{1, null, 3}, ELEMENT_MAPPER);
+        Assert.assertArrayEquals(new byte[]{1, 0, 3}, (byte[]) result);
+    }
+
+}
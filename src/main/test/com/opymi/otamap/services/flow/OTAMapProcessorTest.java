@@ -0,0 +1,365 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.flow;
+
+import com.opymi.otamap.entry.OTAMap;
+import com.opymi.otamap.exceptions.OTException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Test of {@link OTAMapProcessor}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class OTAMapProcessorTest {
+
+    @Mock private OTAMap<Integer, String> otaMap;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Mockito.lenient().when(otaMap.mapAll(ArgumentMatchers.<Iterable<Integer>>any(), ArgumentMatchers.anyBoolean()))
+                .thenAnswer(invocation -> StreamSupport.stream(invocation.<Iterable<Integer>>getArgument(0).spliterator(), false)
+                        .map(String::valueOf)
+                        .collect(Collectors.toList()));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void mapInBatches() {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(3).build();
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        sut.subscribe(subscriber);
+        new ListPublisher(range(10)).subscribe(sut);
+
+        Assert.assertEquals(strings(10), subscriber.items);
+        Assert.assertTrue(subscriber.completed);
+        Mockito.verify(otaMap, Mockito.times(4)).mapAll(ArgumentMatchers.<Iterable<Integer>>any(), ArgumentMatchers.eq(false));
+    }
+
+    @Test
+    public void backpressure() {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(2).build();
+        ListPublisher publisher = new ListPublisher(range(10));
+        TestSubscriber subscriber = new TestSubscriber(0);
+        publisher.subscribe(sut);
+        sut.subscribe(subscriber);
+        Assert.assertEquals(0, publisher.position);
+
+        subscriber.subscription.request(3);
+        Assert.assertEquals(strings(3), subscriber.items);
+        Assert.assertEquals(4, publisher.position);
+        Assert.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assert.assertEquals(strings(10), subscriber.items);
+        Assert.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void orderedParallelism() throws Exception {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(4).executor(executor, 3).build();
+        TestSubscriber subscriber = new TestSubscriber(1, true);
+        sut.subscribe(subscriber);
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(sut);
+            range(100).forEach(publisher::submit);
+        }
+
+        subscriber.done.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(strings(100), subscriber.items);
+        Assert.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void mappingFailure() throws Exception {
+        Mockito.doThrow(new OTException("FAILURE")).when(otaMap).mapAll(ArgumentMatchers.<Iterable<Integer>>any(), ArgumentMatchers.anyBoolean());
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).executor(executor, 2).build();
+        ListPublisher publisher = new ListPublisher(range(10));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        sut.subscribe(subscriber);
+        publisher.subscribe(sut);
+
+        subscriber.done.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue(subscriber.error instanceof OTException);
+        Assert.assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void cancel() {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(2).build();
+        ListPublisher publisher = new ListPublisher(range(10));
+        TestSubscriber subscriber = new TestSubscriber(1);
+        sut.subscribe(subscriber);
+        publisher.subscribe(sut);
+        subscriber.subscription.cancel();
+
+        Assert.assertTrue(publisher.cancelled);
+        Assert.assertEquals(strings(1), subscriber.items);
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void singleSubscriber() {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).build();
+        sut.subscribe(new TestSubscriber(0));
+        TestSubscriber rejected = new TestSubscriber(0);
+        sut.subscribe(rejected);
+
+        Assert.assertTrue(rejected.error instanceof OTException);
+    }
+
+    @Test
+    public void flushAfterMaxLatency() throws Exception {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(4).maxLatency(10, TimeUnit.MILLISECONDS).build();
+        ManualPublisher publisher = new ManualPublisher();
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        sut.subscribe(subscriber);
+        publisher.subscribe(sut);
+        publisher.emit(3);
+
+        awaitItems(subscriber, 3);
+        Assert.assertEquals(strings(3), subscriber.items);
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void flushWhenRequestedOriginsDelivered() throws Exception {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(4).maxLatency(50, TimeUnit.MILLISECONDS).build();
+        ManualPublisher publisher = new ManualPublisher();
+        TestSubscriber subscriber = new TestSubscriber(2);
+        sut.subscribe(subscriber);
+        publisher.subscribe(sut);
+        publisher.emit(3);
+        awaitItems(subscriber, 2);
+        Assert.assertEquals(1, publisher.requested);
+
+        publisher.emit(1);
+        subscriber.subscription.request(5);
+        Assert.assertEquals(strings(4), subscriber.items);
+        Mockito.verify(otaMap, Mockito.times(2)).mapAll(ArgumentMatchers.<Iterable<Integer>>any(), ArgumentMatchers.eq(false));
+    }
+
+    @Test
+    public void boundedDemandWithPartialBatches() throws Exception {
+        OTAMapProcessor<Integer, String> sut = OTAMapProcessor.builder(otaMap).batchSize(4).maxLatency(1, TimeUnit.MILLISECONDS).build();
+        ManualPublisher publisher = new ManualPublisher();
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        sut.subscribe(subscriber);
+        publisher.subscribe(sut);
+        for (int i = 1; i <= 20; i++) {
+            publisher.emit(1);
+            awaitItems(subscriber, i);
+            Assert.assertTrue(publisher.requested <= 4);
+        }
+
+        Assert.assertEquals(strings(20), subscriber.items);
+        Assert.assertEquals(24, publisher.totalRequested);
+    }
+
+    @Test(expected = OTException.class)
+    public void invalidMaxLatency() {
+        OTAMapProcessor.builder(otaMap).maxLatency(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = OTException.class)
+    public void invalidBatchSize() {
+        OTAMapProcessor.builder(otaMap).batchSize(0);
+    }
+
+    private static void awaitItems(TestSubscriber subscriber, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (subscriber.items.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static List<String> strings(int size) {
+        return IntStream.range(0, size).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Publisher that emits the items synchronously on request
+     */
+    private static class ListPublisher implements Flow.Publisher<Integer>, Flow.Subscription {
+        private final List<Integer> items;
+        private Flow.Subscriber<? super Integer> subscriber;
+        private int position;
+        private long requested;
+        private boolean emitting;
+        private boolean cancelled;
+
+        private ListPublisher(List<Integer> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            requested += n;
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (requested > 0 && position < items.size() && !cancelled) {
+                requested--;
+                subscriber.onNext(items.get(position++));
+            }
+            if (position == items.size() && !cancelled) {
+                cancelled = true;
+                subscriber.onComplete();
+            }
+            emitting = false;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Publisher that emits the items only when the test asks for them and never completes
+     */
+    private static class ManualPublisher implements Flow.Publisher<Integer>, Flow.Subscription {
+        private Flow.Subscriber<? super Integer> subscriber;
+        private int position;
+        private volatile long requested;
+        private volatile long totalRequested;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            requested += n;
+            totalRequested += n;
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        private void emit(int count) {
+            for (int i = 0; i < count; i++) {
+                synchronized (this) {
+                    requested--;
+                }
+                subscriber.onNext(position++);
+            }
+        }
+    }
+
+    /**
+     * Subscriber that collects the items, requesting the given amount at subscription and optionally one item for each item received
+     */
+    private static class TestSubscriber implements Flow.Subscriber<String> {
+        private final List<String> items = new ArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final long initialRequest;
+        private final boolean requestEach;
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private TestSubscriber(long initialRequest) {
+            this(initialRequest, false);
+        }
+
+        private TestSubscriber(long initialRequest, boolean requestEach) {
+            this.initialRequest = initialRequest;
+            this.requestEach = requestEach;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+            if (requestEach) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.complete(null);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.complete(null);
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.generator;
+
+import beans.ComplexBean;
+import beans.PrimitiveBean;
+import beans.SimpleBean;
+import beans.SpecularComplexBean;
+import beans.SpecularSimpleBean;
+import beans.WrapperBean;
+import com.opymi.otamap.beans.PropertyMapAccessor;
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.entry.services.GeneratedMapper;
+import com.opymi.otamap.entry.services.MapperGenerator;
+import com.opymi.otamap.entry.services.PropertyMapFallback;
+import com.opymi.otamap.services.utils.PropertyAccessorFactoryImp;
+import com.opymi.otamap.services.utils.TypeScannerImp;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.beans.PropertyDescriptor;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test of {@link MapperGeneratorImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MapperGeneratorImpTest {
+
+    private MapperGenerator sut;
+
+    @Mock private PropertyMapFallback fallback;
+
+    @Before
+    public void setUp() {
+        sut = new MapperGeneratorImp();
+    }
+
+    @Test
+    public void generateDirectMapping() {
+        List<PropertyMapAccessor> accessors = createAccessors(SimpleBean.class, SpecularSimpleBean.class,
+                SimpleBean.Properties.STRING_PROP, SimpleBean.Properties.INT_PROP, SimpleBean.Properties.BIGDECIMAL_PROP);
+        GeneratedMapper mapper = sut.generate(SimpleBean.class, SpecularSimpleBean.class, accessors);
+        Assert.assertNotNull(mapper);
+
+        SimpleBean origin = new SimpleBean();
+        origin.setStringProp("STRING_PROP");
+        origin.setIntProp(1);
+        origin.setBigDecimalProp(BigDecimal.TEN);
+        SpecularSimpleBean target = new SpecularSimpleBean();
+        mapper.map(origin, target, fallback);
+
+        Assert.assertEquals(origin.getStringProp(), target.getStringProp());
+        Assert.assertEquals(origin.getIntProp(), target.getIntProp());
+        Assert.assertEquals(origin.getBigDecimalProp(), target.getBigDecimalProp());
+        Mockito.verifyNoInteractions(fallback);
+    }
+
+    @Test
+    public void generatePrimitivableAndFallbackMapping() {
+        List<PropertyMapAccessor> accessors = createAccessors(ComplexBean.class, SpecularComplexBean.class,
+                ComplexBean.Properties.A_DOUBLE, ComplexBean.Properties.SIMPLE_BEAN);
+        GeneratedMapper mapper = sut.generate(ComplexBean.class, SpecularComplexBean.class, accessors);
+        Assert.assertNotNull(mapper);
+
+        ComplexBean origin = new ComplexBean();
+        SpecularComplexBean target = new SpecularComplexBean();
+        mapper.map(origin, target, fallback);
+        Assert.assertEquals(0D, target.getaDouble(), 0D);
+        Mockito.verifyNoInteractions(fallback);
+
+        origin.setaDouble(3D);
+        origin.setSimpleBean(new SimpleBean());
+        mapper.map(origin, target, fallback);
+        Assert.assertEquals(3D, target.getaDouble(), 0D);
+        Mockito.verify(fallback).mapProperty(origin.getSimpleBean(), accessors.get(1), target);
+    }
+
+    @Test
+    public void generateBoxingMapping() {
+        List<PropertyMapAccessor> accessors = createPrimitiveAccessors(PrimitiveBean.class, WrapperBean.class);
+        GeneratedMapper mapper = sut.generate(PrimitiveBean.class, WrapperBean.class, accessors);
+        Assert.assertNotNull(mapper);
+
+        PrimitiveBean origin = createPrimitiveBean();
+        WrapperBean target = new WrapperBean();
+        mapper.map(origin, target, fallback);
+
+        Assert.assertEquals(Boolean.TRUE, target.getFlag());
+        Assert.assertEquals(Byte.valueOf((byte) 1), target.getByteValue());
+        Assert.assertEquals(Short.valueOf((short) 2), target.getShortValue());
+        Assert.assertEquals(Character.valueOf('c'), target.getCharValue());
+        Assert.assertEquals(Integer.valueOf(3), target.getIntValue());
+        Assert.assertEquals(Long.valueOf(4L), target.getLongValue());
+        Assert.assertEquals(Float.valueOf(5F), target.getFloatValue());
+        Assert.assertEquals(Double.valueOf(6D), target.getDoubleValue());
+        Mockito.verify(fallback).mapProperty(7, accessors.get(accessors.size() - 1), target);
+        Mockito.verifyNoMoreInteractions(fallback);
+    }
+
+    @Test
+    public void generateUnboxingMapping() {
+        List<PropertyMapAccessor> accessors = createPrimitiveAccessors(WrapperBean.class, PrimitiveBean.class);
+        GeneratedMapper mapper = sut.generate(WrapperBean.class, PrimitiveBean.class, accessors);
+        Assert.assertNotNull(mapper);
+
+        PrimitiveBean target = createPrimitiveBean();
+        mapper.map(new WrapperBean(), target, fallback);
+        Assert.assertTrue(target.isFlag());
+        Assert.assertEquals(4L, target.getLongValue());
+        Assert.assertEquals(6D, target.getDoubleValue(), 0D);
+
+        WrapperBean origin = new WrapperBean();
+        origin.setFlag(false);
+        origin.setByteValue((byte) 10);
+        origin.setShortValue((short) 20);
+        origin.setCharValue('z');
+        origin.setIntValue(30);
+        origin.setLongValue(40L);
+        origin.setFloatValue(50F);
+        origin.setDoubleValue(60D);
+        origin.setWidened(70L);
+        mapper.map(origin, target, fallback);
+
+        Assert.assertFalse(target.isFlag());
+        Assert.assertEquals(10, target.getByteValue());
+        Assert.assertEquals(20, target.getShortValue());
+        Assert.assertEquals('z', target.getCharValue());
+        Assert.assertEquals(30, target.getIntValue());
+        Assert.assertEquals(40L, target.getLongValue());
+        Assert.assertEquals(50F, target.getFloatValue(), 0F);
+        Assert.assertEquals(60D, target.getDoubleValue(), 0D);
+        Mockito.verify(fallback).mapProperty(0L, accessors.get(accessors.size() - 1), target);
+        Mockito.verify(fallback).mapProperty(70L, accessors.get(accessors.size() - 1), target);
+        Mockito.verifyNoMoreInteractions(fallback);
+    }
+
+    @Test
+    public void generateRuntimeAssignableFallback() {
+        List<PropertyMapAccessor> accessors = createAccessors(SimpleBean.class, SpecularSimpleBean.class, SimpleBean.Properties.BIGDECIMAL_PROP);
+        GeneratedMapper mapper = sut.generate(SimpleBean.class, SpecularSimpleBean.class, accessors);
+        Assert.assertNotNull(mapper);
+
+        SimpleBean origin = new SimpleBean();
+        origin.setBigDecimalProp(new BigDecimal("1") {});
+        SpecularSimpleBean target = new SpecularSimpleBean();
+        mapper.map(origin, target, fallback);
+
+        Assert.assertNull(target.getBigDecimalProp());
+        Mockito.verify(fallback).mapProperty(origin.getBigDecimalProp(), accessors.get(0), target);
+    }
+
+    @Test
+    public void generateNotPublicTarget() {
+        List<PropertyMapAccessor> accessors = createAccessors(SimpleBean.class, HiddenSimpleBean.class, SimpleBean.Properties.STRING_PROP);
+        Assert.assertNull(sut.generate(SimpleBean.class, HiddenSimpleBean.class, accessors));
+    }
+
+    @Test
+    public void generateReuseClass() {
+        List<PropertyMapAccessor> accessors = createAccessors(SimpleBean.class, SpecularSimpleBean.class, SimpleBean.Properties.STRING_PROP, SimpleBean.Properties.INT_PROP);
+        GeneratedMapper mapper = sut.generate(SimpleBean.class, SpecularSimpleBean.class, accessors);
+        GeneratedMapper sameShapeMapper = new MapperGeneratorImp().generate(SimpleBean.class, SpecularSimpleBean.class,
+                createAccessors(SimpleBean.class, SpecularSimpleBean.class, SimpleBean.Properties.STRING_PROP, SimpleBean.Properties.INT_PROP));
+        GeneratedMapper otherShapeMapper = sut.generate(SimpleBean.class, SpecularSimpleBean.class,
+                createAccessors(SimpleBean.class, SpecularSimpleBean.class, SimpleBean.Properties.INT_PROP, SimpleBean.Properties.STRING_PROP));
+
+        Assert.assertNotSame(mapper, sameShapeMapper);
+        Assert.assertSame(mapper.getClass(), sameShapeMapper.getClass());
+        Assert.assertNotSame(mapper.getClass(), otherShapeMapper.getClass());
+    }
+
+    private List<PropertyMapAccessor> createPrimitiveAccessors(Class<?> origin, Class<?> target) {
+        return createAccessors(origin, target, PrimitiveBean.Properties.FLAG, PrimitiveBean.Properties.BYTE_VALUE,
+                PrimitiveBean.Properties.SHORT_VALUE, PrimitiveBean.Properties.CHAR_VALUE, PrimitiveBean.Properties.INT_VALUE,
+                PrimitiveBean.Properties.LONG_VALUE, PrimitiveBean.Properties.FLOAT_VALUE, PrimitiveBean.Properties.DOUBLE_VALUE,
+                PrimitiveBean.Properties.WIDENED);
+    }
+
+    private PrimitiveBean createPrimitiveBean() {
+        PrimitiveBean primitiveBean = new PrimitiveBean();
+        primitiveBean.setFlag(true);
+        primitiveBean.setByteValue((byte) 1);
+        primitiveBean.setShortValue((short) 2);
+        primitiveBean.setCharValue('c');
+        primitiveBean.setIntValue(3);
+        primitiveBean.setLongValue(4L);
+        primitiveBean.setFloatValue(5F);
+        primitiveBean.setDoubleValue(6D);
+        primitiveBean.setWidened(7);
+        return primitiveBean;
+    }
+
+    private List<PropertyMapAccessor> createAccessors(Class<?> origin, Class<?> target, String... properties) {
+        PropertyAccessorFactoryImp propertyAccessorFactory = new PropertyAccessorFactoryImp();
+        List<PropertyMapAccessor> accessors = new ArrayList<>();
+        for (String property : properties) {
+            PropertyDescriptor originProperty = findPropertyDescriptor(origin, property);
+            PropertyDescriptor targetProperty = findPropertyDescriptor(target, property);
+            accessors.add(propertyAccessorFactory.createAccessor(new PropertyMapDescriptor(originProperty, targetProperty)));
+        }
+        return accessors;
+    }
+
+    private PropertyDescriptor findPropertyDescriptor(Class<?> type, String property) {
+        return new TypeScannerImp().retrievePropertyDescriptors(type).stream()
+                .filter(propertyDescriptor -> propertyDescriptor.getName().equals(property))
+                .findAny().orElseThrow(IllegalArgumentException::new);
+    }
+
+    static class HiddenSimpleBean {
+        private String stringProp;
+
+        public String getStringProp() {
+            return stringProp;
+        }
+
+        public void setStringProp(String stringProp) {
+            this.stringProp = stringProp;
+        }
+    }
+
+}
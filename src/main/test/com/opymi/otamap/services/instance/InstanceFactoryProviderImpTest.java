@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.instance;
+
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.InstantiationStrategy;
+import com.opymi.otamap.entry.InstanceFactory;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+import com.opymi.otamap.exceptions.OTException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test of {@link InstanceFactoryProviderImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class InstanceFactoryProviderImpTest {
+    private InstanceFactoryProviderImp sut;
+
+    @Before
+    public void setUp() {
+        sut = new InstanceFactoryProviderImp();
+    }
+
+    @Test
+    public void methodHandleFactory() {
+        InstanceFactory<SpecularSimpleBean> instanceFactory = sut.getInstanceFactory(SpecularSimpleBean.class, InstantiationStrategy.METHOD_HANDLE);
+        Assert.assertTrue(instanceFactory instanceof MethodHandleInstanceFactoryImp);
+        Assert.assertSame(instanceFactory, sut.getInstanceFactory(SpecularSimpleBean.class, InstantiationStrategy.METHOD_HANDLE));
+        assertNewInstances(instanceFactory);
+    }
+
+    @Test
+    public void lambdaFactory() {
+        InstanceFactory<SpecularSimpleBean> instanceFactory = sut.getInstanceFactory(SpecularSimpleBean.class, InstantiationStrategy.LAMBDA);
+        Assert.assertTrue(instanceFactory instanceof LambdaInstanceFactoryImp);
+        Assert.assertSame(instanceFactory, sut.getInstanceFactory(SpecularSimpleBean.class, InstantiationStrategy.LAMBDA));
+        assertNewInstances(instanceFactory);
+    }
+
+    @Test
+    public void noDefaultConstructor() {
+        Assert.assertThrows(CreateInstanceException.class, () -> sut.getInstanceFactory(Integer.class, InstantiationStrategy.METHOD_HANDLE));
+        Assert.assertThrows(CreateInstanceException.class, () -> sut.getInstanceFactory(Integer.class, InstantiationStrategy.LAMBDA));
+        Assert.assertThrows(OTException.class, () -> sut.getInstanceFactory(SpecularSimpleBean.class, null));
+    }
+
+    @Test
+    public void noDefaultConstructorCached() {
+        CreateInstanceException first = Assert.assertThrows(CreateInstanceException.class, () -> sut.getInstanceFactory(Integer.class, InstantiationStrategy.METHOD_HANDLE));
+        CreateInstanceException second = Assert.assertThrows(CreateInstanceException.class, () -> sut.getInstanceFactory(Integer.class, InstantiationStrategy.METHOD_HANDLE));
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(first.getCause(), second.getCause());
+    }
+
+    private void assertNewInstances(InstanceFactory<SpecularSimpleBean> instanceFactory) {
+        Assert.assertEquals(SpecularSimpleBean.class, instanceFactory.getType());
+        SpecularSimpleBean first = instanceFactory.newInstance();
+        Assert.assertNotNull(first);
+        Assert.assertNotSame(first, instanceFactory.newInstance());
+    }
+
+}
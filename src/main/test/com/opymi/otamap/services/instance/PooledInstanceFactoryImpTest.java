@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.instance;
+
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.exceptions.OTException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test of {@link PooledInstanceFactoryImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PooledInstanceFactoryImpTest {
+    private PooledInstanceFactoryImp<SpecularSimpleBean> sut;
+
+    @Before
+    public void setUp() {
+        sut = new PooledInstanceFactoryImp<>(new MethodHandleInstanceFactoryImp<>(SpecularSimpleBean.class), 1, target -> target.setStringProp(null));
+    }
+
+    @Test
+    public void recycle() {
+        SpecularSimpleBean first = sut.newInstance();
+        SpecularSimpleBean second = sut.newInstance();
+        Assert.assertNotSame(first, second);
+
+        first.setStringProp("first");
+        Assert.assertTrue(sut.recycle(first));
+        Assert.assertFalse(sut.recycle(second));
+        Assert.assertFalse(sut.recycle(null));
+        Assert.assertEquals(1, sut.getPooled());
+
+        SpecularSimpleBean recycled = sut.newInstance();
+        Assert.assertSame(first, recycled);
+        Assert.assertNull(recycled.getStringProp());
+        Assert.assertEquals(0, sut.getPooled());
+        Assert.assertNotSame(first, sut.newInstance());
+        Assert.assertEquals(SpecularSimpleBean.class, sut.getType());
+    }
+
+    @Test
+    public void invalidPool() {
+        MethodHandleInstanceFactoryImp<SpecularSimpleBean> instanceFactory = new MethodHandleInstanceFactoryImp<>(SpecularSimpleBean.class);
+        Assert.assertThrows(OTException.class, () -> new PooledInstanceFactoryImp<>(instanceFactory, 0));
+        Assert.assertThrows(OTException.class, () -> new PooledInstanceFactoryImp<>(null, 1));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.opymi.otamap.services.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link FlightRecorderEvents} and of the recording checks of the events
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class FlightRecorderEventsTest {
+
+    @Test
+    public void isAvailable() {
+        Assert.assertTrue(FlightRecorderEvents.isAvailable());
+    }
+
+    @Test
+    public void isRecorded() {
+        Assert.assertFalse(MappingEvent.isRecorded());
+        Assert.assertFalse(NestedMappingEvent.isRecorded());
+        Assert.assertFalse(TransmuterLookupEvent.isRecorded());
+
+        try (Recording recording = new Recording()) {
+            recording.enable(MappingEvent.class);
+            recording.disable(NestedMappingEvent.class);
+            recording.enable(TransmuterLookupEvent.class);
+            recording.start();
+            Assert.assertTrue(MappingEvent.isRecorded());
+            Assert.assertFalse(NestedMappingEvent.isRecorded());
+            Assert.assertTrue(TransmuterLookupEvent.isRecorded());
+        }
+        Assert.assertFalse(MappingEvent.isRecorded());
+    }
+
+}
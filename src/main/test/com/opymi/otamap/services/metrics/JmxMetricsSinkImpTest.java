@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.metrics;
+
+import beans.ComplexBean;
+import beans.SimpleBean;
+import beans.SpecularComplexBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.MappingStatistics;
+import com.opymi.otamap.exceptions.AccessPropertyException;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+import com.opymi.otamap.exceptions.OTException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Test of {@link JmxMetricsSinkImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class JmxMetricsSinkImpTest {
+    private final JmxMetricsSinkImp sut = new JmxMetricsSinkImp();
+
+    @After
+    public void tearDown() {
+        sut.unregister();
+    }
+
+    @Test
+    public void statistics() {
+        sut.recordMapping(SimpleBean.class, SpecularSimpleBean.class, 100);
+        sut.recordMapping(ComplexBean.class, SpecularComplexBean.class, 200);
+        sut.recordNestedMapping(SimpleBean.class, SpecularSimpleBean.class);
+        sut.recordLookup(SimpleBean.class, SpecularSimpleBean.class, 10);
+        sut.recordError(SimpleBean.class, SpecularSimpleBean.class, new AccessPropertyException("ERROR", null));
+        sut.recordError(SimpleBean.class, SpecularSimpleBean.class, new CreateInstanceException("ERROR", null));
+        sut.recordError(SimpleBean.class, SpecularSimpleBean.class, new OTException("ERROR"));
+        sut.recordError(SimpleBean.class, SpecularSimpleBean.class, new IllegalStateException());
+
+        List<MappingStatistics> statistics = sut.getStatistics();
+        Assert.assertEquals(2, statistics.size());
+        Assert.assertEquals(ComplexBean.class.getName(), statistics.get(0).getOrigin());
+        MappingStatistics simpleStatistics = statistics.get(1);
+        Assert.assertEquals(SpecularSimpleBean.class.getName(), simpleStatistics.getTarget());
+        Assert.assertEquals(5, simpleStatistics.getInvocations());
+        Assert.assertEquals(1, simpleStatistics.getNestedMappings());
+        Assert.assertEquals(1, simpleStatistics.getAccessPropertyErrors());
+        Assert.assertEquals(1, simpleStatistics.getCreateInstanceErrors());
+        Assert.assertEquals(1, simpleStatistics.getOtErrors());
+        Assert.assertEquals(1, simpleStatistics.getOtherErrors());
+        Assert.assertEquals(1, simpleStatistics.getLatency().getCount());
+        Assert.assertEquals(100, simpleStatistics.getLatency().getMax());
+        Assert.assertEquals(10, simpleStatistics.getLookupLatency().getMax());
+
+        sut.reset();
+        Assert.assertTrue(sut.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void register() throws Exception {
+        sut.recordMapping(SimpleBean.class, SpecularSimpleBean.class, 100);
+        ObjectName objectName = sut.register("test");
+
+        CompositeData[] statistics = (CompositeData[]) ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "Statistics");
+        Assert.assertEquals(1, statistics.length);
+        Assert.assertEquals(1L, statistics[0].get("invocations"));
+        Assert.assertEquals(100L, ((CompositeData) statistics[0].get("latency")).get("max"));
+
+        sut.unregister();
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.metrics;
+
+import com.opymi.otamap.beans.LatencyStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link LatencyHistogram}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void buckets() {
+        int previousIndex = -1;
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(index == previousIndex || index == previousIndex + 1);
+            Assert.assertTrue(value <= LatencyHistogram.bucketUpperBound(index));
+            Assert.assertTrue(LatencyHistogram.bucketUpperBound(index) - value <= value / LatencyHistogram.SUB_BUCKETS);
+            previousIndex = index;
+        }
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    public void snapshot() {
+        LatencyHistogram sut = new LatencyHistogram();
+        for (int value = 1; value <= 1000; value++) {
+            sut.record(value);
+        }
+        LatencyStatistics statistics = sut.snapshot();
+
+        Assert.assertEquals(1000, statistics.getCount());
+        Assert.assertEquals(500, statistics.getMean());
+        Assert.assertEquals(1000, statistics.getMax());
+        Assert.assertEquals(500, statistics.getP50(), 500 / LatencyHistogram.SUB_BUCKETS);
+        Assert.assertEquals(990, statistics.getP99(), 990 / LatencyHistogram.SUB_BUCKETS);
+    }
+
+    @Test
+    public void reset() {
+        LatencyHistogram sut = new LatencyHistogram();
+        sut.record(-10);
+        Assert.assertEquals(0, sut.snapshot().getMax());
+        sut.record(10);
+        sut.reset();
+
+        LatencyStatistics statistics = sut.snapshot();
+        Assert.assertEquals(0, statistics.getCount());
+        Assert.assertEquals(0, statistics.getP99());
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.ota;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Test of {@link DefaultAsyncExecutor}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class DefaultAsyncExecutorTest {
+
+    @Test
+    public void get() {
+        Assert.assertSame(DefaultAsyncExecutor.get(), DefaultAsyncExecutor.get());
+    }
+
+    @Test
+    public void create() throws Exception {
+        Executor executor = DefaultAsyncExecutor.create();
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get();
+        Assert.assertNotSame(Thread.currentThread(), thread);
+    }
+
+    @Test
+    public void createBoundedExecutor() throws Exception {
+        Executor executor = DefaultAsyncExecutor.createBoundedExecutor();
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get();
+        Assert.assertTrue(thread.isDaemon());
+        Assert.assertTrue(thread.getName().startsWith("otamap-async-"));
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.ota;
+
+import beans.SimpleBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.entry.OTAMap;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+
+/**
+ * Allocation test of the shallow mapping of {@link OTAMapImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTAMapImpAllocationTest {
+    private static final int WARM_UP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+    private static final int ATTEMPTS = 5;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private OTAMap<SimpleBean, SpecularSimpleBean> otaMap;
+    private SimpleBean origin;
+    private Object sink;
+
+    @Before
+    public void setUp() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+        otaMap = new OTAMapProviderImp().getOTAMap(SimpleBean.class, SpecularSimpleBean.class);
+        origin = new SimpleBean();
+        origin.setIntProp(100_000);
+        origin.setStringProp("STRING_PROP");
+        origin.setBigDecimalProp(BigDecimal.TEN);
+    }
+
+    @Test
+    public void shallowMapAllocatesOnlyTarget() {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            sink = otaMap.map(origin);
+            sink = new SpecularSimpleBean();
+        }
+        long targetBytes = Long.MAX_VALUE;
+        long mappingBytes = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            targetBytes = Math.min(targetBytes, measure(() -> sink = new SpecularSimpleBean()));
+            mappingBytes = Math.min(mappingBytes, measure(() -> sink = otaMap.map(origin)));
+        }
+        Assert.assertEquals(100_000, ((SpecularSimpleBean) sink).getIntProp());
+        Assert.assertTrue("ALLOCATED " + mappingBytes + " BYTES FOR " + targetBytes + " BYTES OF TARGETS", mappingBytes <= targetBytes + MEASURED_ITERATIONS);
+    }
+
+    /**
+     * @param operation operation to measure
+     * @return bytes allocated by the current thread executing the operation {@link #MEASURED_ITERATIONS} times
+     */
+    private long measure(Runnable operation) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+}
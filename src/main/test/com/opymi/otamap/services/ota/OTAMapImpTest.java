@@ -28,27 +28,53 @@ import beans.ComplexBean;
 import beans.SimpleBean;
 import beans.SpecularComplexBean;
 import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.MappingContext;
+import com.opymi.otamap.entry.InstanceFactory;
 import com.opymi.otamap.entry.OTMapper;
 import com.opymi.otamap.entry.OTMapperBuilder;
+import com.opymi.otamap.entry.OTOperativeMapper;
 import com.opymi.otamap.entry.OTRepository;
 import com.opymi.otamap.entry.ServiceProvider;
+import com.opymi.otamap.entry.services.InstanceFactoryProvider;
 import com.opymi.otamap.entry.services.JTypeEvaluator;
+import com.opymi.otamap.entry.services.MappingDiagnostics;
+import com.opymi.otamap.entry.services.MetricsSink;
+import com.opymi.otamap.entry.services.OTAMapProvider;
 import com.opymi.otamap.entry.services.OTAMessageFormatter;
 import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.exceptions.CreateInstanceException;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.container.ContainerMapperFactoryImp;
+import com.opymi.otamap.services.repository.OTRepositoryImp;
 import com.opymi.otamap.services.utils.JTypeEvaluatorImp;
 import com.opymi.otamap.services.utils.OTAMessageFormatterImp;
+import com.opymi.otamap.services.utils.PropertyAccessorFactoryImp;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Test of {@link OTAMapImp}
@@ -63,6 +89,7 @@ public class OTAMapImpTest {
     private final Class<SpecularComplexBean> TARGET_TYPE = SpecularComplexBean.class;
 
     private OTAMapImp<ComplexBean, SpecularComplexBean> sut;
+    private OTOperativeMapper<ComplexBean, SpecularComplexBean> mapper;
     @Mock private OTRepository repository;
 
 
@@ -79,12 +106,21 @@ public class OTAMapImpTest {
         OTMapperBuilderProvider mapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
         sut.setMapperBuilderProvider(mapperBuilderProvider);
 
+        ContainerMapperFactoryImp containerMapperFactory = new ContainerMapperFactoryImp();
+        containerMapperFactory.setjTypeEvaluator(jTypeEvaluator);
+        PropertyAccessorFactoryImp propertyAccessorFactory = new PropertyAccessorFactoryImp();
+        propertyAccessorFactory.setContainerMapperFactory(containerMapperFactory);
+        sut.setPropertyAccessorFactory(propertyAccessorFactory);
+
+        OTAMapProvider otaMapProvider = ServiceProvider.getService(OTAMapProvider.class);
+        sut.setOtaMapProvider(otaMapProvider);
+        sut.setInstanceFactoryProvider(ServiceProvider.getService(InstanceFactoryProvider.class));
+
         OTMapperBuilderProvider otMapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
         OTMapperBuilder<ComplexBean, SpecularComplexBean> mapperBuilder = otMapperBuilderProvider.getBuilder(ORIGIN_TYPE, TARGET_TYPE);
-        OTMapper<ComplexBean, SpecularComplexBean> mapper = createMapper(mapperBuilder);
+        mapper = Mockito.spy((OTOperativeMapper<ComplexBean, SpecularComplexBean>) createMapper(mapperBuilder));
 
-        Mockito.doReturn(true).when(repository).exists(ORIGIN_TYPE, TARGET_TYPE);
-        Mockito.doReturn(mapper).when(repository).get(ORIGIN_TYPE, TARGET_TYPE);
+        Mockito.doReturn(mapper).when(repository).find(ORIGIN_TYPE, TARGET_TYPE);
     }
 
     /**
@@ -127,6 +163,60 @@ public class OTAMapImpTest {
         assertDeepAutomatedMapping(complexBean, result);
     }
 
+    @Test
+    public void mapOriginReuseMappingPlan() {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        sut.map(complexBean);
+        sut.map(complexBean);
+        Mockito.verify(mapper, Mockito.times(1)).generatePropertyMapDescriptors();
+
+        mapper.excludeField(ComplexBean.Properties.A_DOUBLE, false);
+        SpecularComplexBean result = sut.map(complexBean);
+        Mockito.verify(mapper, Mockito.times(2)).generatePropertyMapDescriptors();
+        Assert.assertEquals(0D, result.getaDouble(), 0D);
+    }
+
+    @Test
+    public void mapOriginContainerProperty() {
+        OTMapperBuilderProvider otMapperBuilderProvider = ServiceProvider.getService(OTMapperBuilderProvider.class);
+        OTMapper<ComplexBean, SpecularComplexBean> containerMapper = otMapperBuilderProvider.getBuilder(ORIGIN_TYPE, TARGET_TYPE)
+                .customize(ComplexBean.Properties.A_CHAR, SpecularComplexBean.Properties.A_DIFFERENT_CHAR)
+                .excludeField(ComplexBean.Properties.NO_READABLE)
+                .excludeField(ComplexBean.Properties.NO_WRITABLE)
+                .getMapper();
+        Mockito.doReturn(containerMapper).when(repository).find(ORIGIN_TYPE, TARGET_TYPE);
+
+        ComplexBean complexBean = buildDefaultComplexBean();
+        SpecularComplexBean result = sut.map(complexBean);
+        assertShallowMapping(complexBean, result);
+        Assert.assertNotSame(complexBean.getIntegers(), result.getIntegers());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void mapStoredInstanceFactory() {
+        SpecularComplexBean created = new SpecularComplexBean();
+        InstanceFactory<SpecularComplexBean> instanceFactory = Mockito.mock(InstanceFactory.class);
+        Mockito.when(instanceFactory.newInstance()).thenReturn(created);
+        Mockito.doReturn(instanceFactory).when(repository).findInstanceFactory(TARGET_TYPE);
+
+        ComplexBean complexBean = buildDefaultComplexBean();
+        Assert.assertSame(created, sut.map(complexBean));
+        Assert.assertNotSame(created, sut.map(complexBean, new SpecularComplexBean()));
+        Mockito.verify(repository, Mockito.times(1)).findInstanceFactory(TARGET_TYPE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void mapInstanceFactoryFailure() {
+        InstanceFactory<SpecularComplexBean> instanceFactory = Mockito.mock(InstanceFactory.class);
+        Mockito.when(instanceFactory.newInstance()).thenThrow(new IllegalStateException("FAILURE"));
+        Mockito.doReturn(instanceFactory).when(repository).findInstanceFactory(TARGET_TYPE);
+
+        CreateInstanceException exception = Assert.assertThrows(CreateInstanceException.class, () -> sut.map(buildDefaultComplexBean()));
+        Assert.assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
     @Test
     public void mapOriginTargetShallow() {
         SpecularComplexBean nullRsult = sut.map(null, new SpecularComplexBean());
@@ -147,6 +237,234 @@ public class OTAMapImpTest {
         assertDeepAutomatedMapping(complexBean, result);
     }
 
+    @Test
+    public void mapAllIterable() {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        List<SpecularComplexBean> results = sut.mapAll(Arrays.asList(complexBean, null, complexBean), true);
+
+        Assert.assertEquals(3, results.size());
+        assertDeepAutomatedMapping(complexBean, results.get(0));
+        Assert.assertNull(results.get(1));
+        assertDeepAutomatedMapping(complexBean, results.get(2));
+        Assert.assertNotSame(results.get(0), results.get(2));
+        Mockito.verify(repository, Mockito.times(1)).find(ORIGIN_TYPE, TARGET_TYPE);
+    }
+
+    @Test
+    public void mapAllArray() {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        List<SpecularComplexBean> results = sut.mapAll(new ComplexBean[]{complexBean});
+
+        Assert.assertEquals(1, results.size());
+        assertShallowMapping(complexBean, results.get(0));
+    }
+
+    @Test
+    public void mapInto() {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        SpecularComplexBean target = new SpecularComplexBean();
+        List<SpecularComplexBean> targets = new ArrayList<>(Arrays.asList(target, null));
+
+        List<SpecularComplexBean> results = sut.mapInto(Arrays.asList(complexBean, complexBean), targets);
+        Assert.assertSame(targets, results);
+        Assert.assertSame(target, results.get(0));
+        assertShallowMapping(complexBean, results.get(0));
+        assertShallowMapping(complexBean, results.get(1));
+    }
+
+    @Test(expected = OTException.class)
+    public void mapIntoDifferentSizes() {
+        sut.mapInto(Collections.singletonList(buildDefaultComplexBean()), new ArrayList<>());
+    }
+
+    @Test
+    public void mapStream() {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        List<SpecularComplexBean> results = sut.mapStream(Stream.of(complexBean, complexBean)).collect(Collectors.toList());
+
+        Assert.assertEquals(2, results.size());
+        results.forEach(result -> assertShallowMapping(complexBean, result));
+        Mockito.verify(repository, Mockito.times(1)).find(ORIGIN_TYPE, TARGET_TYPE);
+    }
+
+    @Test
+    public void verifyMappingOnce() {
+        MappingDiagnostics diagnostics = Mockito.mock(MappingDiagnostics.class);
+        sut.setDiagnostics(diagnostics);
+        sut.map(buildDefaultComplexBean());
+        sut.map(buildDefaultComplexBean());
+
+        Mockito.verify(diagnostics, Mockito.times(1)).log(Mockito.eq(Level.FINE), Mockito.<Supplier<String>>any());
+        Mockito.verify(diagnostics, Mockito.never()).isEnabled(Level.FINEST);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void traceMappings() {
+        MappingDiagnostics diagnostics = Mockito.mock(MappingDiagnostics.class);
+        Mockito.when(diagnostics.isEnabled(Level.FINEST)).thenReturn(true);
+        sut.setDiagnostics(diagnostics);
+        sut.setTraceMappings(true);
+        sut.map(buildDefaultComplexBean(), true);
+
+        ArgumentCaptor<Supplier<String>> message = ArgumentCaptor.forClass(Supplier.class);
+        Mockito.verify(diagnostics).log(Mockito.eq(Level.FINEST), message.capture());
+        Assert.assertTrue(message.getValue().get().endsWith("DEEP MAPPING"));
+    }
+
+    @Test
+    public void metrics() {
+        MetricsSink metricsSink = Mockito.mock(MetricsSink.class);
+        sut.setMetricsSink(metricsSink);
+        sut.map(buildDefaultComplexBean());
+        Mockito.verify(metricsSink).recordMapping(Mockito.eq(ORIGIN_TYPE), Mockito.eq(TARGET_TYPE), Mockito.anyLong());
+
+        OTException error = new OTException("FAILURE");
+        Mockito.when(repository.find(ORIGIN_TYPE, TARGET_TYPE)).thenThrow(error);
+        try {
+            sut.map(buildDefaultComplexBean());
+            Assert.fail();
+        } catch (OTException e) {
+            Mockito.verify(metricsSink).recordError(ORIGIN_TYPE, TARGET_TYPE, error);
+        }
+    }
+
+    @Test
+    public void mapWithContext() {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        MappingContext context = new MappingContext();
+        SpecularComplexBean result = sut.map(complexBean, null, context);
+
+        assertDeepAutomatedMapping(complexBean, result);
+        Assert.assertSame(result, context.getTarget(complexBean, TARGET_TYPE));
+        Assert.assertSame(result, sut.map(complexBean, null, context));
+        Assert.assertNotSame(result, sut.map(complexBean, null, new MappingContext()));
+
+        context.clear();
+        Assert.assertNull(context.getTarget(complexBean, TARGET_TYPE));
+        Assert.assertNotSame(result, sut.map(complexBean, null, context));
+    }
+
+    @Test(expected = OTException.class)
+    public void mapWithoutContext() {
+        sut.map(buildDefaultComplexBean(), null, null);
+    }
+
+    @Test
+    public void mapAllParallel() {
+        sut.setParallelBatchSize(2);
+        List<ComplexBean> origins = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            origins.add(i % 5 == 0 ? null : buildComplexBean(i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertParallelMapping(origins, sut.mapAllParallel(origins, pool, false));
+        } finally {
+            pool.shutdown();
+        }
+        Mockito.verify(repository, Mockito.times(1)).find(ORIGIN_TYPE, TARGET_TYPE);
+    }
+
+    @Test
+    public void mapAllParallelExecutor() {
+        sut.setParallelBatchSize(3);
+        Set<ComplexBean> origins = new LinkedHashSet<>();
+        for (int i = 1; i < 11; i++) {
+            origins.add(buildComplexBean(i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertParallelMapping(new ArrayList<>(origins), sut.mapAllParallel(origins, executor, false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void mapAllParallelEmpty() {
+        Assert.assertTrue(sut.mapAllParallel(Collections.emptyList()).isEmpty());
+    }
+
+    @Test(expected = OTException.class)
+    public void mapAllParallelNullOrigins() {
+        sut.mapAllParallel(null);
+    }
+
+    @Test
+    public void mapAsync() throws Exception {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            sut.setAsyncExecutor(executor);
+            assertDeepAutomatedMapping(complexBean, sut.mapAsync(complexBean, true).get());
+            Assert.assertNull(sut.mapAsync(null).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void mapAllAsyncDefaultExecutor() throws Exception {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        List<SpecularComplexBean> results = sut.mapAllAsync(Arrays.asList(complexBean, null)).get();
+
+        Assert.assertEquals(2, results.size());
+        assertShallowMapping(complexBean, results.get(0));
+        Assert.assertNull(results.get(1));
+    }
+
+    @Test
+    public void mapAsyncFailure() throws Exception {
+        Mockito.when(repository.find(ORIGIN_TYPE, TARGET_TYPE)).thenThrow(new OTException("FAILURE"));
+        try {
+            sut.mapAsync(buildDefaultComplexBean()).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof OTException);
+        }
+    }
+
+    @Test
+    public void noSynchronizedMethods() {
+        for (Class<?> type : Arrays.asList(OTAMapImp.class, OTRepositoryImp.class)) {
+            for (Method method : type.getDeclaredMethods()) {
+                Assert.assertFalse(method.toString(), Modifier.isSynchronized(method.getModifiers()));
+            }
+        }
+    }
+
+    /**
+     * Assert every target is at the position of its origin
+     *
+     * @param origins origin objects
+     * @param results target objects
+     */
+    private void assertParallelMapping(List<ComplexBean> origins, List<SpecularComplexBean> results) {
+        Assert.assertEquals(origins.size(), results.size());
+        for (int i = 0; i < origins.size(); i++) {
+            if (origins.get(i) == null) {
+                Assert.assertNull(results.get(i));
+            } else {
+                assertShallowMapping(origins.get(i), results.get(i));
+            }
+        }
+    }
+
+    /**
+     * Build a complex bean distinguished by the index
+     *
+     * @param index value of the bean
+     * @return complex bean
+     */
+    private ComplexBean buildComplexBean(int index) {
+        ComplexBean complexBean = buildDefaultComplexBean();
+        complexBean.setaDouble((double) index);
+        return complexBean;
+    }
+
     /**
      * Assert deep mapping of origin to target
      *
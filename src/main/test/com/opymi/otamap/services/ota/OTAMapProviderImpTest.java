@@ -25,10 +25,33 @@
 package com.opymi.otamap.services.ota;
 
 import beans.ComplexBean;
+import beans.ImmutableNodeBean;
+import beans.ImmutableSimpleBean;
+import beans.NodeBean;
+import beans.SimpleBean;
 import beans.SpecularComplexBean;
+import beans.SpecularNodeBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.InstantiationStrategy;
+import com.opymi.otamap.beans.MappingStatistics;
+import com.opymi.otamap.beans.OTAMapConfiguration;
 import com.opymi.otamap.entry.OTAMap;
 import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.ServiceProvider;
 import com.opymi.otamap.entry.services.OTAMapProvider;
+import com.opymi.otamap.entry.services.OTMapperBuilderProvider;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.instance.MethodHandleInstanceFactoryImp;
+import com.opymi.otamap.services.instance.PooledInstanceFactoryImp;
+import com.opymi.otamap.services.jfr.MappingEvent;
+import com.opymi.otamap.services.jfr.MappingPlanCompilationEvent;
+import com.opymi.otamap.services.jfr.NestedMappingEvent;
+import com.opymi.otamap.services.jfr.TransmuterLookupEvent;
+import com.opymi.otamap.services.metrics.JmxMetricsSinkImp;
+import com.opymi.otamap.services.repository.OTRepositoryImp;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +59,20 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * Test of {@link OTAMapProviderImp}
  *
@@ -62,10 +99,416 @@ public class OTAMapProviderImpTest {
         Assert.assertNotNull(otaMap);
     }
 
+    @Test
+    public void getOTAMapCachedByRepository() {
+        OTRepository repository = new OTRepositoryImp();
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = sut.getOTAMap(repository, NodeBean.class, SpecularNodeBean.class);
+        otaMap.map(createChain(2), true);
+
+        Assert.assertSame(otaMap, sut.getOTAMap(repository, NodeBean.class, SpecularNodeBean.class));
+        OTAMap<SimpleBean, SpecularSimpleBean> nestedOTAMap = sut.getOTAMap(repository, SimpleBean.class, SpecularSimpleBean.class);
+        Assert.assertSame(nestedOTAMap, sut.getOTAMap(repository, SimpleBean.class, SpecularSimpleBean.class));
+        Assert.assertNotSame(nestedOTAMap, sut.getOTAMap(new OTRepositoryImp(), SimpleBean.class, SpecularSimpleBean.class));
+        Assert.assertSame(sut.getOTAMap(NodeBean.class, SpecularNodeBean.class), sut.getOTAMap(NodeBean.class, SpecularNodeBean.class));
+    }
+
+    @Test
+    public void getOTAMapCachedByRepositoryConcurrently() throws Exception {
+        OTRepository firstRepository = new OTRepositoryImp();
+        OTRepository secondRepository = new OTRepositoryImp();
+        OTAMap<SimpleBean, SpecularSimpleBean> firstOTAMap = sut.getOTAMap(firstRepository, SimpleBean.class, SpecularSimpleBean.class);
+        OTAMap<SimpleBean, SpecularSimpleBean> secondOTAMap = sut.getOTAMap(secondRepository, SimpleBean.class, SpecularSimpleBean.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    boolean cached = true;
+                    for (int j = 0; j < 1000; j++) {
+                        cached &= firstOTAMap == sut.getOTAMap(firstRepository, SimpleBean.class, SpecularSimpleBean.class);
+                        cached &= secondOTAMap == sut.getOTAMap(secondRepository, SimpleBean.class, SpecularSimpleBean.class);
+                    }
+                    return cached;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getOTAMapGeneratedMappers() {
+        OTAMapConfiguration configuration = OTAMapConfiguration.builder().generatedMappers(true).build();
+        OTAMapProvider generatedMappersProvider = sut.withConfiguration(configuration);
+        Assert.assertSame(configuration, generatedMappersProvider.getConfiguration());
+
+        OTAMap<SimpleBean, SpecularSimpleBean> otaMap = generatedMappersProvider.getOTAMap(SimpleBean.class, SpecularSimpleBean.class);
+        SimpleBean simpleBean = new SimpleBean();
+        simpleBean.setIntProp(1);
+        simpleBean.setStringProp("STRING_PROP");
+
+        SpecularSimpleBean result = otaMap.map(simpleBean);
+        Assert.assertEquals(simpleBean.getIntProp(), result.getIntProp());
+        Assert.assertEquals(simpleBean.getStringProp(), result.getStringProp());
+        Assert.assertNull(result.getBigDecimalProp());
+    }
+
+    @Test
+    public void deepMappingGraph() {
+        assertGraphMapping(sut.getOTAMap(NodeBean.class, SpecularNodeBean.class));
+    }
+
+    @Test
+    public void deepMappingGraphGeneratedMappers() {
+        OTAMapProvider generatedMappersProvider = sut.withConfiguration(OTAMapConfiguration.builder().generatedMappers(true).build());
+        assertGraphMapping(generatedMappersProvider.getOTAMap(NodeBean.class, SpecularNodeBean.class));
+    }
+
+    @Test
+    public void deepMappingGraphIterative() {
+        OTAMapProvider iterativeProvider = sut.withConfiguration(OTAMapConfiguration.builder().iterativeDeepMapping(true).build());
+        assertGraphMapping(iterativeProvider.getOTAMap(NodeBean.class, SpecularNodeBean.class));
+    }
+
+    @Test
+    public void deepMappingLongChainIterative() {
+        OTAMapProvider iterativeProvider = sut.withConfiguration(OTAMapConfiguration.builder().iterativeDeepMapping(true).build());
+        NodeBean head = createChain(100_000);
+
+        SpecularNodeBean result = iterativeProvider.getOTAMap(NodeBean.class, SpecularNodeBean.class).map(head, true);
+        int length = 0;
+        for (SpecularNodeBean node = result; node != null; node = node.getLink()) {
+            Assert.assertEquals(String.valueOf(length++), node.getName());
+        }
+        Assert.assertEquals(100_000, length);
+    }
+
+    @Test(expected = OTException.class)
+    public void deepMappingMaxDepth() {
+        OTAMapConfiguration configuration = OTAMapConfiguration.builder().iterativeDeepMapping(true).maxMappingDepth(10).build();
+        sut.withConfiguration(configuration).getOTAMap(NodeBean.class, SpecularNodeBean.class).map(createChain(12), true);
+    }
+
+    @Test
+    public void deepMappingMaxNodes() {
+        OTAMapConfiguration configuration = OTAMapConfiguration.builder().iterativeDeepMapping(true).maxMappingNodes(12).build();
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = sut.withConfiguration(configuration).getOTAMap(NodeBean.class, SpecularNodeBean.class);
+        Assert.assertNotNull(otaMap.map(createChain(12), true));
+        try {
+            otaMap.map(createChain(13), true);
+            Assert.fail();
+        } catch (OTException e) {
+            Assert.assertTrue(e.getMessage().contains("MAX NODES"));
+        }
+    }
+
+    @Test
+    public void deepMappingBudgetByConstructor() {
+        OTAMapConfiguration depthConfiguration = OTAMapConfiguration.builder().iterativeDeepMapping(true).maxMappingDepth(10).build();
+        OTAMap<NodeBean, ImmutableNodeBean> depthOTAMap = sut.withConfiguration(depthConfiguration).getOTAMap(NodeBean.class, ImmutableNodeBean.class);
+        Assert.assertNotNull(depthOTAMap.map(createChain(11), true));
+        try {
+            depthOTAMap.map(createChain(12), true);
+            Assert.fail();
+        } catch (OTException e) {
+            Assert.assertTrue(e.getMessage().contains("MAX DEPTH"));
+        }
+
+        OTAMapConfiguration nodesConfiguration = OTAMapConfiguration.builder().iterativeDeepMapping(true).maxMappingNodes(12).build();
+        OTAMap<NodeBean, ImmutableNodeBean> nodesOTAMap = sut.withConfiguration(nodesConfiguration).getOTAMap(NodeBean.class, ImmutableNodeBean.class);
+        Assert.assertNotNull(nodesOTAMap.map(createChain(12), true));
+        try {
+            nodesOTAMap.map(createChain(13), true);
+            Assert.fail();
+        } catch (OTException e) {
+            Assert.assertTrue(e.getMessage().contains("MAX NODES"));
+        }
+    }
+
+    @Test
+    public void instanceFactories() {
+        SimpleBean simpleBean = new SimpleBean();
+        simpleBean.setStringProp("string");
+        simpleBean.setIntProp(1);
+
+        OTAMapProvider lambdaProvider = sut.withConfiguration(OTAMapConfiguration.builder().instantiationStrategy(InstantiationStrategy.LAMBDA).build());
+        SpecularSimpleBean result = lambdaProvider.getOTAMap(SimpleBean.class, SpecularSimpleBean.class).map(simpleBean);
+        Assert.assertEquals("string", result.getStringProp());
+        Assert.assertEquals(1, result.getIntProp());
+
+        OTRepository repository = new OTRepositoryImp();
+        PooledInstanceFactoryImp<SpecularSimpleBean> pooledFactory = new PooledInstanceFactoryImp<>(new MethodHandleInstanceFactoryImp<>(SpecularSimpleBean.class), 1);
+        repository.storeInstanceFactory(pooledFactory);
+        OTAMap<SimpleBean, SpecularSimpleBean> otaMap = sut.getOTAMap(repository, SimpleBean.class, SpecularSimpleBean.class);
+        pooledFactory.recycle(result);
+        Assert.assertSame(result, otaMap.map(simpleBean));
+        Assert.assertNotSame(result, otaMap.map(simpleBean));
+    }
+
+    @Test
+    public void instanceFactoriesChangedAfterFirstMapping() {
+        SimpleBean simpleBean = new SimpleBean();
+        OTRepository repository = new OTRepositoryImp();
+        OTAMap<SimpleBean, SpecularSimpleBean> otaMap = sut.getOTAMap(repository, SimpleBean.class, SpecularSimpleBean.class);
+        SpecularSimpleBean recycled = otaMap.map(simpleBean);
+
+        PooledInstanceFactoryImp<SpecularSimpleBean> pooledFactory = new PooledInstanceFactoryImp<>(new MethodHandleInstanceFactoryImp<>(SpecularSimpleBean.class), 1);
+        pooledFactory.recycle(recycled);
+        repository.storeInstanceFactory(pooledFactory);
+        Assert.assertSame(recycled, otaMap.map(simpleBean));
+
+        pooledFactory.recycle(recycled);
+        repository.removeInstanceFactory(SpecularSimpleBean.class);
+        Assert.assertNotSame(recycled, otaMap.map(simpleBean));
+    }
+
+    @Test
+    public void constructorMapping() {
+        SimpleBean simpleBean = new SimpleBean();
+        simpleBean.setStringProp("string");
+        simpleBean.setBigDecimalProp(BigDecimal.TEN);
+
+        OTAMap<SimpleBean, ImmutableSimpleBean> otaMap = sut.getOTAMap(SimpleBean.class, ImmutableSimpleBean.class);
+        ImmutableSimpleBean result = otaMap.map(simpleBean);
+        Assert.assertEquals("string", result.getStringProp());
+        Assert.assertEquals(0, result.getIntProp());
+        Assert.assertEquals(BigDecimal.TEN, result.getBigDecimalProp());
+
+        ImmutableSimpleBean target = new ImmutableSimpleBean(null, 0, null);
+        ImmutableSimpleBean mappedTarget = otaMap.map(simpleBean, target);
+        Assert.assertNotSame(target, mappedTarget);
+        Assert.assertEquals("string", mappedTarget.getStringProp());
+    }
+
+    @Test
+    public void constructorDeepMapping() {
+        assertConstructorMapping(sut.getOTAMap(NodeBean.class, ImmutableNodeBean.class));
+    }
+
+    @Test
+    public void constructorDeepMappingIterative() {
+        OTAMapProvider iterativeProvider = sut.withConfiguration(OTAMapConfiguration.builder().iterativeDeepMapping(true).build());
+        assertConstructorMapping(iterativeProvider.getOTAMap(NodeBean.class, ImmutableNodeBean.class));
+    }
+
+    @Test(expected = OTException.class)
+    public void constructorDeepMappingCycle() {
+        NodeBean root = createNode("root", null);
+        root.setLink(root);
+        sut.getOTAMap(NodeBean.class, ImmutableNodeBean.class).map(root, true);
+    }
+
+    @Test
+    public void metrics() {
+        JmxMetricsSinkImp metricsSink = new JmxMetricsSinkImp();
+        OTAMapProvider measuredProvider = sut.withConfiguration(OTAMapConfiguration.builder().metricsSink(metricsSink).build());
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = measuredProvider.getOTAMap(NodeBean.class, SpecularNodeBean.class);
+        otaMap.map(createChain(3), true);
+
+        List<MappingStatistics> statistics = metricsSink.getStatistics();
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(1, statistics.get(0).getInvocations());
+        Assert.assertEquals(2, statistics.get(0).getNestedMappings());
+        Assert.assertEquals(3, statistics.get(0).getLookupLatency().getCount());
+    }
+
+    @Test
+    public void metricsShallowNestedMapping() {
+        OTRepository repository = new OTRepositoryImp();
+        repository.store(ServiceProvider.getService(OTMapperBuilderProvider.class).getBuilder(NodeBean.class, SpecularNodeBean.class).getMapper());
+        JmxMetricsSinkImp metricsSink = new JmxMetricsSinkImp();
+        OTAMapProvider measuredProvider = sut.withConfiguration(OTAMapConfiguration.builder().metricsSink(metricsSink).build());
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = measuredProvider.getOTAMap(repository, NodeBean.class, SpecularNodeBean.class);
+        SpecularNodeBean result = otaMap.map(createChain(3), false);
+
+        Assert.assertEquals("2", result.getLink().getLink().getName());
+        List<MappingStatistics> statistics = metricsSink.getStatistics();
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(1, statistics.get(0).getInvocations());
+        Assert.assertEquals(2, statistics.get(0).getNestedMappings());
+    }
+
+    @Test
+    public void metricsBatchMapping() {
+        JmxMetricsSinkImp metricsSink = new JmxMetricsSinkImp();
+        OTAMapProvider measuredProvider = sut.withConfiguration(OTAMapConfiguration.builder().metricsSink(metricsSink).build());
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = measuredProvider.getOTAMap(NodeBean.class, SpecularNodeBean.class);
+        otaMap.mapAll(Arrays.asList(createChain(3), null, createChain(3)), true);
+        otaMap.mapAllParallel(Arrays.asList(createChain(1), createChain(1), createChain(1)), true);
+        otaMap.mapStream(Stream.of(createChain(1)), true).forEach(Assert::assertNotNull);
+
+        List<MappingStatistics> statistics = metricsSink.getStatistics();
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(6, statistics.get(0).getInvocations());
+        Assert.assertEquals(4, statistics.get(0).getNestedMappings());
+    }
+
+    @Test
+    public void flightRecorderEvents() throws IOException {
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = sut.getOTAMap(NodeBean.class, SpecularNodeBean.class);
+        List<RecordedEvent> events;
+        Path file = Files.createTempFile("otamap", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MappingEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(NestedMappingEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(MappingPlanCompilationEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TransmuterLookupEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            otaMap.map(createChain(3), true);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        List<RecordedEvent> mappings = filterEvents(events, "com.opymi.otamap.Mapping");
+        Assert.assertEquals(1, mappings.size());
+        Assert.assertTrue(mappings.get(0).getBoolean("deep"));
+        Assert.assertEquals(NodeBean.class.getName(), mappings.get(0).getClass("originType").getName());
+        Assert.assertEquals(SpecularNodeBean.class.getName(), mappings.get(0).getClass("targetType").getName());
+        Assert.assertEquals(4, mappings.get(0).getInt("propertyCount"));
+
+        List<RecordedEvent> nestedMappings = filterEvents(events, "com.opymi.otamap.NestedMapping");
+        Assert.assertEquals(Arrays.asList(2, 1), nestedMappings.stream().map(event -> event.getInt("depth")).collect(Collectors.toList()));
+
+        List<RecordedEvent> compilations = filterEvents(events, "com.opymi.otamap.MappingPlanCompilation");
+        Assert.assertEquals(1, compilations.size());
+        Assert.assertEquals(4, compilations.get(0).getInt("propertyCount"));
+
+        Assert.assertFalse(filterEvents(events, "com.opymi.otamap.TransmuterLookup").isEmpty());
+    }
+
+    @Test
+    public void flightRecorderEventsDisabled() throws IOException {
+        OTAMapProvider provider = sut.withConfiguration(OTAMapConfiguration.builder().flightRecorderEvents(false).build());
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = provider.getOTAMap(NodeBean.class, SpecularNodeBean.class);
+        List<RecordedEvent> events;
+        Path file = Files.createTempFile("otamap", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MappingEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TransmuterLookupEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            otaMap.map(createChain(3), true);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        Assert.assertTrue(filterEvents(events, "com.opymi.otamap.Mapping").isEmpty());
+        Assert.assertTrue(filterEvents(events, "com.opymi.otamap.TransmuterLookup").isEmpty());
+    }
+
+    @Test
+    public void flightRecorderEventsShallowNestedMapping() throws IOException {
+        OTRepository repository = new OTRepositoryImp();
+        repository.store(ServiceProvider.getService(OTMapperBuilderProvider.class).getBuilder(NodeBean.class, SpecularNodeBean.class).getMapper());
+        OTAMap<NodeBean, SpecularNodeBean> otaMap = sut.getOTAMap(repository, NodeBean.class, SpecularNodeBean.class);
+        List<RecordedEvent> events;
+        Path file = Files.createTempFile("otamap", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MappingEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(NestedMappingEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            otaMap.map(createChain(3), false);
+            otaMap.mapAll(Arrays.asList(createChain(1), createChain(1)), false);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        List<RecordedEvent> mappings = filterEvents(events, "com.opymi.otamap.Mapping");
+        Assert.assertEquals(3, mappings.size());
+        for (RecordedEvent mapping : mappings) {
+            Assert.assertFalse(mapping.getBoolean("deep"));
+            Assert.assertEquals(4, mapping.getInt("propertyCount"));
+        }
+        Assert.assertEquals(2, filterEvents(events, "com.opymi.otamap.NestedMapping").size());
+    }
+
     @Test
     public void getOTAMapNoRepository() {
         OTAMap<ComplexBean, SpecularComplexBean> otaMap = sut.getOTAMap(ORIGIN_TYPE, TARGET_TYPE);
         Assert.assertNotNull(otaMap);
     }
 
+    /**
+     * Assert deep mapping of a graph with cycles and shared references
+     *
+     * @param otaMap {@link OTAMap} of the graph's nodes
+     */
+    private void assertGraphMapping(OTAMap<NodeBean, SpecularNodeBean> otaMap) {
+        NodeBean root = createNode("root", null);
+        NodeBean shared = createNode("shared", root);
+        NodeBean first = createNode("first", root);
+        NodeBean second = createNode("second", root);
+        first.setLink(shared);
+        second.setLink(shared);
+        root.setChildren(Arrays.asList(first, second, shared));
+        root.setLink(root);
+
+        SpecularNodeBean result = otaMap.map(root, true);
+        Assert.assertEquals("root", result.getName());
+        Assert.assertSame(result, result.getLink());
+        Assert.assertEquals(3, result.getChildren().size());
+        SpecularNodeBean sharedResult = result.getChildren().get(2);
+        for (SpecularNodeBean child : result.getChildren()) {
+            Assert.assertSame(result, child.getParent());
+        }
+        Assert.assertSame(sharedResult, result.getChildren().get(0).getLink());
+        Assert.assertSame(sharedResult, result.getChildren().get(1).getLink());
+        Assert.assertEquals("shared", sharedResult.getName());
+    }
+
+    /**
+     * @param length number of nodes
+     * @return head of a chain of nodes linked by {@link NodeBean#getLink()}, named by position
+     */
+    private List<RecordedEvent> filterEvents(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> name.equals(event.getEventType().getName())).collect(Collectors.toList());
+    }
+
+    private void assertConstructorMapping(OTAMap<NodeBean, ImmutableNodeBean> otaMap) {
+        NodeBean root = createNode("root", null);
+        NodeBean shared = createNode("shared", null);
+        NodeBean first = createNode("first", null);
+        first.setLink(shared);
+        root.setChildren(Arrays.asList(first, shared));
+        root.setLink(shared);
+
+        ImmutableNodeBean result = otaMap.map(root, true);
+        Assert.assertEquals("root", result.getName());
+        Assert.assertNull(result.getParent());
+        Assert.assertEquals(2, result.getChildren().size());
+        ImmutableNodeBean sharedResult = result.getLink();
+        Assert.assertEquals("shared", sharedResult.getName());
+        Assert.assertSame(sharedResult, result.getChildren().get(0).getLink());
+        Assert.assertSame(sharedResult, result.getChildren().get(1));
+    }
+
+    private NodeBean createChain(int length) {
+        NodeBean head = null;
+        for (int i = length - 1; i >= 0; i--) {
+            NodeBean node = createNode(String.valueOf(i), null);
+            node.setLink(head);
+            head = node;
+        }
+        return head;
+    }
+
+    private NodeBean createNode(String name, NodeBean parent) {
+        NodeBean node = new NodeBean();
+        node.setName(name);
+        node.setParent(parent);
+        return node;
+    }
+
 }
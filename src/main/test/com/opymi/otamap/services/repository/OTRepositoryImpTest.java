@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.repository;
+
+import beans.SimpleBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.entry.OTRepository;
+import com.opymi.otamap.entry.OTTransmuter;
+import com.opymi.otamap.exceptions.OTException;
+import com.opymi.otamap.services.converter.OTConverterImp;
+import com.opymi.otamap.services.instance.MethodHandleInstanceFactoryImp;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test of {@link OTRepositoryImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class OTRepositoryImpTest {
+    private final Class<SimpleBean> ORIGIN_TYPE = SimpleBean.class;
+    private final Class<SpecularSimpleBean> TARGET_TYPE = SpecularSimpleBean.class;
+
+    private OTRepository sut;
+
+    @Before
+    public void setUp() {
+        sut = new OTRepositoryImp();
+    }
+
+    @Test
+    public void storeAndGet() {
+        OTTransmuter<SimpleBean, SpecularSimpleBean> transmuter = createTransmuter();
+        sut.store(transmuter);
+
+        Assert.assertTrue(sut.exists(ORIGIN_TYPE, TARGET_TYPE));
+        Assert.assertSame(transmuter, sut.get(ORIGIN_TYPE, TARGET_TYPE));
+
+        sut.remove(ORIGIN_TYPE, TARGET_TYPE);
+        Assert.assertFalse(sut.exists(ORIGIN_TYPE, TARGET_TYPE));
+        Assert.assertNull(sut.get(ORIGIN_TYPE, TARGET_TYPE));
+    }
+
+    @Test
+    public void storeAndFindInstanceFactory() {
+        Assert.assertTrue(sut.supportsInstanceFactories());
+        Assert.assertNull(sut.findInstanceFactory(TARGET_TYPE));
+
+        MethodHandleInstanceFactoryImp<SpecularSimpleBean> instanceFactory = new MethodHandleInstanceFactoryImp<>(TARGET_TYPE);
+        sut.storeInstanceFactory(instanceFactory);
+        Assert.assertSame(instanceFactory, sut.findInstanceFactory(TARGET_TYPE));
+
+        MethodHandleInstanceFactoryImp<SpecularSimpleBean> otherInstanceFactory = new MethodHandleInstanceFactoryImp<>(TARGET_TYPE);
+        sut.storeInstanceFactory(otherInstanceFactory);
+        Assert.assertSame(otherInstanceFactory, sut.findInstanceFactory(TARGET_TYPE));
+
+        sut.removeInstanceFactory(TARGET_TYPE);
+        Assert.assertNull(sut.findInstanceFactory(TARGET_TYPE));
+        Assert.assertThrows(OTException.class, () -> sut.storeInstanceFactory(null));
+    }
+
+    @Test
+    public void find() {
+        OTTransmuter<SimpleBean, SpecularSimpleBean> transmuter = createTransmuter();
+        sut.store(transmuter);
+
+        Assert.assertSame(transmuter, sut.find(ORIGIN_TYPE, TARGET_TYPE));
+        Assert.assertNull(sut.find(TARGET_TYPE, ORIGIN_TYPE));
+        Assert.assertNull(sut.find(ORIGIN_TYPE, SimpleBean.class));
+        Assert.assertNull(new OTRepositoryImp().find(ORIGIN_TYPE, TARGET_TYPE));
+    }
+
+    @Test(expected = OTException.class)
+    public void storeAlreadyExists() {
+        sut.store(createTransmuter());
+        sut.store(createTransmuter());
+    }
+
+    @Test
+    public void computeIfAbsentDefineOnce() throws Exception {
+        int threads = 8;
+        AtomicInteger definitions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<OTTransmuter<SimpleBean, SpecularSimpleBean>>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    start.await();
+                    return sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, repository -> {
+                        definitions.incrementAndGet();
+                        return createTransmuter();
+                    });
+                });
+            }
+            List<Future<OTTransmuter<SimpleBean, SpecularSimpleBean>>> results = new ArrayList<>();
+            for (Callable<OTTransmuter<SimpleBean, SpecularSimpleBean>> task : tasks) {
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+
+            OTTransmuter<SimpleBean, SpecularSimpleBean> stored = results.get(0).get();
+            for (Future<OTTransmuter<SimpleBean, SpecularSimpleBean>> result : results) {
+                Assert.assertSame(stored, result.get());
+            }
+            Assert.assertSame(stored, sut.get(ORIGIN_TYPE, TARGET_TYPE));
+            Assert.assertSame(stored, sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, repository -> createTransmuter()));
+            Assert.assertEquals(1, definitions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = OTException.class)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void computeIfAbsentDifferentTypes() {
+        OTTransmuter transmuter = new OTConverterImp<>(TARGET_TYPE, TARGET_TYPE, origin -> origin);
+        sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, repository -> transmuter);
+    }
+
+    @Test(expected = OTException.class)
+    public void computeIfAbsentRecursiveDefinition() {
+        sut.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, repository -> repository.computeIfAbsent(ORIGIN_TYPE, TARGET_TYPE, nested -> createTransmuter()));
+    }
+
+    private OTTransmuter<SimpleBean, SpecularSimpleBean> createTransmuter() {
+        return new OTConverterImp<>(ORIGIN_TYPE, TARGET_TYPE, origin -> new SpecularSimpleBean());
+    }
+
+}
@@ -29,6 +29,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.*;
 
@@ -75,17 +76,61 @@ public class JTypeEvaluatorImpTest {
 
     @Test
     public void isUnsupportedType() {
-        Assert.assertTrue(sut.isUnsupportedType(Collection.class));
-        Assert.assertTrue(sut.isUnsupportedType(List.class));
-        Assert.assertTrue(sut.isUnsupportedType(ArrayList.class));
-        Assert.assertTrue(sut.isUnsupportedType(Set.class));
-        Assert.assertTrue(sut.isUnsupportedType(HashSet.class));
-        Assert.assertTrue(sut.isUnsupportedType(Map.class));
-        Assert.assertTrue(sut.isUnsupportedType(String[].class));
-        Assert.assertTrue(sut.isUnsupportedType(Integer[].class));
-
+        Assert.assertFalse(sut.isUnsupportedType(Collection.class));
+        Assert.assertFalse(sut.isUnsupportedType(List.class));
+        Assert.assertFalse(sut.isUnsupportedType(ArrayList.class));
+        Assert.assertFalse(sut.isUnsupportedType(Set.class));
+        Assert.assertFalse(sut.isUnsupportedType(HashSet.class));
+        Assert.assertFalse(sut.isUnsupportedType(Map.class));
+        Assert.assertFalse(sut.isUnsupportedType(String[].class));
+        Assert.assertFalse(sut.isUnsupportedType(Integer[].class));
         Assert.assertFalse(sut.isUnsupportedType(Integer.class));
         Assert.assertFalse(sut.isUnsupportedType(BigDecimal.class));
+
+        Assert.assertTrue(sut.isUnsupportedType(AbstractList.class));
+        Assert.assertTrue(sut.isUnsupportedType(EnumMap.class));
+    }
+
+    @Test
+    public void isContainerType() {
+        Assert.assertTrue(sut.isContainerType(List.class));
+        Assert.assertTrue(sut.isContainerType(HashMap.class));
+        Assert.assertTrue(sut.isContainerType(int[].class));
+
+        Assert.assertFalse(sut.isContainerType(Integer.class));
+        Assert.assertFalse(sut.isContainerType(Iterable.class));
+    }
+
+    @Test
+    public void retrieveContainerImplementation() {
+        Assert.assertEquals(ArrayList.class, sut.retrieveContainerImplementation(List.class));
+        Assert.assertEquals(LinkedHashSet.class, sut.retrieveContainerImplementation(Set.class));
+        Assert.assertEquals(TreeMap.class, sut.retrieveContainerImplementation(SortedMap.class));
+        Assert.assertEquals(HashSet.class, sut.retrieveContainerImplementation(HashSet.class));
+        Assert.assertNull(sut.retrieveContainerImplementation(AbstractList.class));
+    }
+
+    @Test
+    public void resolveTypeArgument() throws NoSuchMethodException {
+        Type listType = TypeArguments.class.getMethod("getList").getGenericReturnType();
+        Type mapType = TypeArguments.class.getMethod("getMap").getGenericReturnType();
+        Type wildcardType = TypeArguments.class.getMethod("getWildcard").getGenericReturnType();
+
+        Assert.assertEquals(String.class, sut.resolveTypeArgument(listType, Collection.class, 0));
+        Assert.assertEquals(Integer.class, sut.resolveTypeArgument(mapType, Map.class, 0));
+        Assert.assertEquals(BigDecimal.class, sut.resolveTypeArgument(mapType, Map.class, 1));
+        Assert.assertEquals(Number.class, sut.resolveTypeArgument(wildcardType, Collection.class, 0));
+        Assert.assertEquals(String.class, sut.resolveTypeArgument(StringList.class, Collection.class, 0));
+        Assert.assertEquals(Object.class, sut.resolveTypeArgument(List.class, Collection.class, 0));
+    }
+
+    public interface TypeArguments {
+        ArrayList<String> getList();
+        Map<Integer, BigDecimal> getMap();
+        Set<? extends Number> getWildcard();
+    }
+
+    public static class StringList extends ArrayList<String> {
     }
 
 }
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.utils;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Test of {@link MappingDiagnosticsImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class MappingDiagnosticsImpTest {
+    private final List<LogRecord> records = new ArrayList<>();
+    private final AtomicInteger suppliedMessages = new AtomicInteger();
+
+    private Logger logger;
+
+    @Before
+    public void setUp() {
+        logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Test
+    public void logEnabledLevel() {
+        MappingDiagnosticsImp sut = new MappingDiagnosticsImp(logger, true);
+        Assert.assertTrue(sut.isEnabled(Level.INFO));
+        sut.log(Level.INFO, message("MESSAGE"));
+        sut.log(Level.WARNING, new IllegalStateException(), message("FAILURE"));
+
+        Assert.assertEquals(2, records.size());
+        Assert.assertEquals("MESSAGE", records.get(0).getMessage());
+        Assert.assertTrue(records.get(1).getThrown() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void logDisabledLevel() {
+        MappingDiagnosticsImp sut = new MappingDiagnosticsImp(logger, true);
+        Assert.assertFalse(sut.isEnabled(Level.FINE));
+        sut.log(Level.FINE, message("MESSAGE"));
+
+        Assert.assertTrue(records.isEmpty());
+        Assert.assertEquals(0, suppliedMessages.get());
+    }
+
+    @Test
+    public void logDisabled() {
+        MappingDiagnosticsImp sut = new MappingDiagnosticsImp(logger, false);
+        Assert.assertFalse(sut.isEnabled(Level.SEVERE));
+        sut.log(Level.SEVERE, message("MESSAGE"));
+        sut.log(Level.SEVERE, new IllegalStateException(), message("FAILURE"));
+
+        Assert.assertTrue(records.isEmpty());
+        Assert.assertEquals(0, suppliedMessages.get());
+    }
+
+    @Test
+    public void defaultLogger() {
+        Assert.assertEquals("OTAMapImp", MappingDiagnosticsImp.LOGGER_NAME);
+        Logger defaultLogger = Logger.getLogger(MappingDiagnosticsImp.LOGGER_NAME);
+        Level level = defaultLogger.getLevel();
+        try {
+            defaultLogger.setLevel(Level.OFF);
+            Assert.assertFalse(new MappingDiagnosticsImp().isEnabled(Level.SEVERE));
+        } finally {
+            defaultLogger.setLevel(level);
+        }
+    }
+
+    private Supplier<String> message(String message) {
+        return () -> {
+            suppliedMessages.incrementAndGet();
+            return message;
+        };
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021. Antonino Verde
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.opymi.otamap.services.utils;
+
+import beans.SimpleBean;
+import beans.SpecularSimpleBean;
+import com.opymi.otamap.beans.PropertyMapAccessor;
+import com.opymi.otamap.beans.PropertyMapDescriptor;
+import com.opymi.otamap.entry.services.PropertyAccessorFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.beans.PropertyDescriptor;
+
+/**
+ * Test of {@link PropertyAccessorFactoryImp}
+ *
+ * @author Antonino Verde
+ * @since 2.1
+ */
+public class PropertyAccessorFactoryImpTest {
+
+    private PropertyAccessorFactory sut;
+
+    @Before
+    public void setUp() {
+        sut = new PropertyAccessorFactoryImp();
+    }
+
+    @Test
+    public void createAccessorReferenceProperty() throws Throwable {
+        PropertyMapAccessor accessor = createAccessor(SimpleBean.Properties.STRING_PROP);
+
+        SimpleBean origin = new SimpleBean();
+        origin.setStringProp("STRING_PROP");
+        SpecularSimpleBean target = new SpecularSimpleBean();
+
+        accessor.write(target, accessor.read(origin));
+        Assert.assertEquals(origin.getStringProp(), target.getStringProp());
+    }
+
+    @Test
+    public void createAccessorPrimitiveProperty() throws Throwable {
+        PropertyMapAccessor accessor = createAccessor(SimpleBean.Properties.INT_PROP);
+
+        SimpleBean origin = new SimpleBean();
+        origin.setIntProp(7);
+        SpecularSimpleBean target = new SpecularSimpleBean();
+
+        accessor.write(target, accessor.read(origin));
+        Assert.assertEquals(origin.getIntProp(), target.getIntProp());
+    }
+
+    private PropertyMapAccessor createAccessor(String property) throws Exception {
+        PropertyDescriptor originProperty = new PropertyDescriptor(property, SimpleBean.class);
+        PropertyDescriptor targetProperty = new PropertyDescriptor(property, SpecularSimpleBean.class);
+        return sut.createAccessor(new PropertyMapDescriptor(originProperty, targetProperty));
+    }
+
+}
@@ -24,8 +24,10 @@
 
 package com.opymi.otamap.services.utils;
 
+import beans.ImmutableSimpleBean;
 import beans.SimpleBean;
 import beans.SubSimpleBean;
+import com.opymi.otamap.beans.ConstructorDescriptor;
 import com.opymi.otamap.entry.services.TypeScanner;
 import org.junit.Assert;
 import org.junit.Before;
@@ -33,6 +35,8 @@ import org.junit.Test;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -80,6 +84,20 @@ public class TypeScannerImpTest {
         assertProperties(properties);
     }
 
+    @Test
+    public void retrieveConstructorDescriptor() throws Exception {
+        ConstructorDescriptor constructorDescriptor = sut.retrieveConstructorDescriptor(ImmutableSimpleBean.class);
+        Assert.assertEquals(ImmutableSimpleBean.class.getConstructor(String.class, int.class, BigDecimal.class), constructorDescriptor.getConstructor());
+        Assert.assertEquals(Arrays.asList(SimpleBean.Properties.STRING_PROP, SimpleBean.Properties.INT_PROP, SimpleBean.Properties.BIGDECIMAL_PROP), constructorDescriptor.getParameterNames());
+        Assert.assertEquals(1, constructorDescriptor.getParameterIndex(SimpleBean.Properties.INT_PROP));
+        Assert.assertEquals(-1, constructorDescriptor.getParameterIndex(SubSimpleBean.Properties.BOOLEAN_PROP));
+    }
+
+    @Test
+    public void retrieveConstructorDescriptorNoArgConstructor() {
+        Assert.assertNull(sut.retrieveConstructorDescriptor(BEAN_TYPE));
+    }
+
     private void assertProperties(Collection<String> properties) {
         Assert.assertTrue(properties.contains(SimpleBean.Properties.STRING_PROP));
         Assert.assertTrue(properties.contains(SimpleBean.Properties.INT_PROP));